@@ -0,0 +1,26 @@
+package com.gesture.backend.benchmark;
+
+import com.gesture.backend.GestureBackendApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트 (헤드리스 가상 입력 장치, 임의 포트)
+ *
+ * 같은 세션으로 같은 제스처를 반복 호출하므로 쿨다운을 꺼서 거절 경로 대신 디스패치 비용을 측정한다.
+ */
+final class BenchmarkContexts {
+
+    private BenchmarkContexts() {}
+
+    static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(GestureBackendApplication.class)
+                .headless(true)
+                .properties("server.port=0", "spring.main.banner-mode=off",
+                        "gesture.input.device=virtual",
+                        "gesture.cooldown.default-ms=0",
+                        "gesture.cooldown.windows.double_click=0",
+                        "gesture.cooldown.windows.escape=0")
+                .run();
+    }
+}
@@ -0,0 +1,64 @@
+package com.gesture.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gesture.backend.dto.GestureDto;
+import com.gesture.backend.protocol.LandmarkFrame;
+import com.gesture.backend.protocol.LandmarkFrameCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 랜드마크 요청 역직렬화 비용 (JSON vs 바이너리 프레임)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommandRequestDeserializationBenchmark {
+
+    @Param({"21", "42"})
+    private int landmarkCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LandmarkFrame frame = new LandmarkFrame();
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup
+    public void setUp() throws Exception {
+        List<GestureDto.HandLandmark> landmarks = new ArrayList<>();
+        for (int i = 0; i < landmarkCount; i++) {
+            landmarks.add(new GestureDto.HandLandmark(0.3 + i * 0.01, 0.6 - i * 0.01, -0.02 * i, 0.99));
+        }
+        GestureDto.CommandRequest request = new GestureDto.CommandRequest();
+        request.setGestureType("landmarks");
+        request.setLandmarks(landmarks);
+        json = objectMapper.writeValueAsBytes(request);
+
+        LandmarkFrame source = new LandmarkFrame();
+        source.fromLandmarks(landmarks, System.currentTimeMillis());
+        ByteBuffer buffer = ByteBuffer.allocate(LandmarkFrameCodec.encodedSize(source));
+        LandmarkFrameCodec.encode(source, buffer);
+        binary = buffer.array();
+    }
+
+    @Benchmark
+    public GestureDto.CommandRequest jackson() throws Exception {
+        return objectMapper.readValue(json, GestureDto.CommandRequest.class);
+    }
+
+    @Benchmark
+    public LandmarkFrame binaryFrame() {
+        return LandmarkFrameCodec.decode(binary, frame);
+    }
+}
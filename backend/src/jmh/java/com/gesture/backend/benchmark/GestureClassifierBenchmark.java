@@ -0,0 +1,160 @@
+package com.gesture.backend.benchmark;
+
+import com.gesture.backend.gesture.GestureClassifier;
+import com.gesture.backend.gesture.GestureType;
+import com.gesture.backend.gesture.HandGeometry;
+import com.gesture.backend.protocol.LandmarkFrame;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서버측 제스처 분류 비용 (프레임당 목표 100µs 미만)
+ *
+ * pointer 는 검지만 편 정지 프레임, sequence 는 핀치 클릭 후 두 손가락 스와이프를 반복하는 프레임 열이다.
+ * hands=2 이면 confidence 가 낮은 펼친 손을 하나 더 넣어 주 손 선택까지 포함한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GestureClassifierBenchmark {
+
+    private static final String SESSION = "bench-session";
+    private static final long FRAME_MS = 33;
+    // 포인터 → 핀치 2프레임 → 해제 → 위로 스와이프 8프레임
+    private static final int CYCLE = 12;
+    private static final int CYCLES = 64;
+    private static final float SWIPE_STEP = 0.02f;
+
+    @Param({"1", "2"})
+    private int hands;
+
+    private GestureClassifier classifier;
+    private LandmarkFrame pointerFrame;
+    private LandmarkFrame[] sequence;
+    private int position;
+
+    @Setup
+    public void setUp() {
+        classifier = new GestureClassifier();
+        pointerFrame = frame(0, Pose.POINTER, 0f);
+
+        sequence = new LandmarkFrame[CYCLE * CYCLES];
+        for (int i = 0; i < sequence.length; i++) {
+            int step = i % CYCLE;
+            long timestamp = i * FRAME_MS;
+            if (step == 0 || step == 3) {
+                sequence[i] = frame(timestamp, Pose.POINTER, 0f);
+            } else if (step < 3) {
+                sequence[i] = frame(timestamp, Pose.PINCH, 0f);
+            } else {
+                sequence[i] = frame(timestamp, Pose.TWO_FINGERS, -SWIPE_STEP * (step - 4));
+            }
+        }
+
+        // 포즈가 의도한 분기를 타는지 확인 (좌표를 잘못 만들면 null 경로만 측정하게 됨)
+        expect(GestureType.MOUSE_POINTER, classifier.classify(SESSION, pointerFrame));
+        expect(GestureType.LEFT_CLICK, classifier.classify(SESSION, sequence[1]));
+        classifier.classify(SESSION, sequence[3]);
+        boolean scrolled = false;
+        for (int i = 4; i < CYCLE; i++) {
+            scrolled |= classifier.classify(SESSION, sequence[i]) == GestureType.SCROLL_UP;
+        }
+        if (!scrolled) {
+            throw new IllegalStateException("스와이프 프레임이 스크롤로 분류되지 않음");
+        }
+        classifier.removeSession(SESSION);
+    }
+
+    @Benchmark
+    public GestureType pointer() {
+        return classifier.classify(SESSION, pointerFrame);
+    }
+
+    @Benchmark
+    public GestureType sequence() {
+        if (position == sequence.length) {
+            // 타임스탬프가 되감기므로 세션 상태를 비우고 처음부터 (프레임 768개당 한 번)
+            position = 0;
+            classifier.removeSession(SESSION);
+        }
+        return classifier.classify(SESSION, sequence[position++]);
+    }
+
+    private enum Pose {
+        POINTER, PINCH, TWO_FINGERS, PALM
+    }
+
+    private LandmarkFrame frame(long timestamp, Pose pose, float dy) {
+        LandmarkFrame frame = new LandmarkFrame();
+        frame.setHeader(1, (int) (timestamp / FRAME_MS), timestamp, hands);
+        frame.setHand(0, LandmarkFrame.HAND_RIGHT, 0.9f);
+        hand(frame.points(), HandGeometry.handOffset(0), pose, 0f, dy);
+        if (hands == 2) {
+            frame.setHand(1, LandmarkFrame.HAND_LEFT, 0.5f);
+            hand(frame.points(), HandGeometry.handOffset(1), Pose.PALM, 0.3f, 0f);
+        }
+        return frame;
+    }
+
+    /**
+     * 손목 (0.5, 0.8), 손 크기(손목 ~ 중지 MCP) 0.2 인 손을 points 에 기록
+     */
+    private static void hand(float[] points, int base, Pose pose, float dx, float dy) {
+        set(points, base, HandGeometry.WRIST, 0.5f + dx, 0.8f + dy);
+        set(points, base, 1, 0.42f + dx, 0.76f + dy);
+        set(points, base, 2, 0.38f + dx, 0.71f + dy);
+        set(points, base, 3, 0.35f + dx, 0.66f + dy);
+        set(points, base, HandGeometry.THUMB_TIP, 0.33f + dx, 0.62f + dy);
+
+        boolean pointer = pose != Pose.PALM;
+        finger(points, base, HandGeometry.INDEX_MCP, 0.45f + dx, dy, true);
+        finger(points, base, HandGeometry.MIDDLE_MCP, 0.5f + dx, dy, !pointer || pose == Pose.TWO_FINGERS);
+        finger(points, base, HandGeometry.RING_MCP, 0.55f + dx, dy, !pointer);
+        finger(points, base, HandGeometry.PINKY_MCP, 0.6f + dx, dy, !pointer);
+
+        if (pose == Pose.PINCH) {
+            // 엄지 끝을 검지 끝에 붙임
+            int thumb = base + HandGeometry.THUMB_TIP * LandmarkFrame.FLOATS_PER_LANDMARK;
+            int index = base + HandGeometry.INDEX_TIP * LandmarkFrame.FLOATS_PER_LANDMARK;
+            points[thumb] = points[index];
+            points[thumb + 1] = points[index + 1];
+        }
+    }
+
+    /**
+     * MCP 는 y=0.6, 펴진 손가락은 위로 곧게, 접힌 손가락은 PIP 에서 꺾어 아래로
+     */
+    private static void finger(float[] points, int base, int mcp, float x, float dy, boolean extended) {
+        set(points, base, mcp, x, 0.6f + dy);
+        set(points, base, mcp + 1, x, 0.55f + dy);
+        if (extended) {
+            set(points, base, mcp + 2, x, 0.5f + dy);
+            set(points, base, mcp + 3, x, 0.45f + dy);
+        } else {
+            set(points, base, mcp + 2, x + 0.03f, 0.57f + dy);
+            set(points, base, mcp + 3, x + 0.02f, 0.6f + dy);
+        }
+    }
+
+    private static void set(float[] points, int base, int landmark, float x, float y) {
+        int offset = base + landmark * LandmarkFrame.FLOATS_PER_LANDMARK;
+        points[offset] = x;
+        points[offset + 1] = y;
+        points[offset + 2] = 0f;
+        points[offset + 3] = 1f;
+    }
+
+    private static void expect(GestureType expected, GestureType actual) {
+        if (expected != actual) {
+            throw new IllegalStateException("벤치마크 프레임 분류 결과가 다름: " + expected + " != " + actual);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.gesture.backend.benchmark;
+
+import com.gesture.backend.controller.GestureWebSocketController;
+import com.gesture.backend.dto.GestureDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * handleGestureExecution 제스처 분기 비용 (헤드리스 장치)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GestureDispatchBenchmark {
+
+    @Param({"mouse_pointer", "left_click", "scroll_up", "escape", "unknown_gesture"})
+    private String gestureType;
+
+    private ConfigurableApplicationContext context;
+    private GestureWebSocketController controller;
+    private GestureDto.CommandRequest request;
+    private SimpMessageHeaderAccessor headerAccessor;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContexts.start();
+        controller = context.getBean(GestureWebSocketController.class);
+
+        request = new GestureDto.CommandRequest();
+        request.setGestureType(gestureType);
+        request.setX(640);
+        request.setY(360);
+        request.setAmount(3);
+
+        headerAccessor = SimpMessageHeaderAccessor.create();
+        headerAccessor.setSessionId("bench-session");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public GestureDto.Response dispatch() {
+        return controller.handleGestureExecution(request, headerAccessor);
+    }
+}
@@ -0,0 +1,67 @@
+package com.gesture.backend.benchmark;
+
+import com.gesture.backend.filter.PointerFilterFactory;
+import com.gesture.backend.input.InputDevice;
+import com.gesture.backend.input.RobotInputDevice;
+import com.gesture.backend.input.VirtualInputDevice;
+import com.gesture.backend.service.MouseControlService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.awt.AWTException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인터 이동/클릭 비용 (device=robot 은 디스플레이가 있는 환경에서만 실행 가능)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MouseControlServiceBenchmark {
+
+    @Param({"virtual", "robot"})
+    private String device;
+
+    @Param({"ema", "one-euro", "kalman"})
+    private String filter;
+
+    private MouseControlService mouseControlService;
+    private int tick;
+
+    @Setup
+    public void setUp() throws AWTException {
+        // 포크된 JVM 마다 GraphicsEnvironment 초기화 전에 지정
+        boolean virtual = device.equals("virtual");
+        System.setProperty("java.awt.headless", Boolean.toString(virtual));
+        InputDevice inputDevice = virtual ? new VirtualInputDevice() : new RobotInputDevice();
+        PointerFilterFactory filterFactory = new PointerFilterFactory(filter, 0.3, 1.0, 0.007, 1.0, 4_000_000, 25, 30);
+        // 누름 유지/간격 대기를 0 으로 두어 디스패치 비용만 측정
+        mouseControlService = new MouseControlService(inputDevice, filterFactory, 0, 0, 0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        mouseControlService.shutdown();
+    }
+
+    @Benchmark
+    public void moveMouseSmooth() {
+        int step = tick++ & 0xFF;
+        mouseControlService.moveMouseSmooth(400 + step, 300 + step);
+    }
+
+    /**
+     * 디바이스 스레드 왕복을 포함한 좌클릭 완료 시간
+     */
+    @Benchmark
+    public void leftClick() {
+        mouseControlService.leftClick().join();
+    }
+}
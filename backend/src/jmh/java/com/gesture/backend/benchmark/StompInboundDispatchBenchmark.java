@@ -0,0 +1,96 @@
+package com.gesture.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gesture.backend.dto.GestureDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * STOMP 인바운드 채널 → @MessageMapping → 인프로세스 브로커까지의 종단 간 디스패치 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StompInboundDispatchBenchmark {
+
+    @Param({"/app/gesture/execute", "/app/gesture/landmarks"})
+    private String destination;
+
+    private ConfigurableApplicationContext context;
+    private MessageChannel clientInboundChannel;
+    private SubscribableChannel brokerChannel;
+    private MessageHandler brokerProbe;
+    private final Semaphore delivered = new Semaphore(0);
+    private Message<byte[]> message;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = BenchmarkContexts.start();
+        clientInboundChannel = context.getBean("clientInboundChannel", MessageChannel.class);
+        brokerChannel = context.getBean("brokerChannel", SubscribableChannel.class);
+        // /user/... 메시지는 세션 destination 으로 변환되어 한 번 더 브로커 채널을 지나므로 변환된 메시지만 센다
+        brokerProbe = brokerMessage -> {
+            String target = SimpMessageHeaderAccessor.getDestination(brokerMessage.getHeaders());
+            if (target != null && !target.startsWith("/user/")) {
+                delivered.release();
+            }
+        };
+        brokerChannel.subscribe(brokerProbe);
+
+        GestureDto.CommandRequest request = new GestureDto.CommandRequest();
+        if (destination.endsWith("/landmarks")) {
+            request.setGestureType("landmarks");
+            List<GestureDto.HandLandmark> landmarks = new ArrayList<>();
+            for (int i = 0; i < 21; i++) {
+                landmarks.add(new GestureDto.HandLandmark(0.3 + i * 0.01, 0.6 - i * 0.01, 0.0, 1.0));
+            }
+            request.setLandmarks(landmarks);
+        } else {
+            request.setGestureType("scroll_up");
+            request.setAmount(3);
+        }
+        byte[] payload = new ObjectMapper().writeValueAsBytes(request);
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setDestination(destination);
+        accessor.setSessionId("bench-session");
+        accessor.setSessionAttributes(new HashMap<>());
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        message = MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+
+    @TearDown
+    public void tearDown() {
+        brokerChannel.unsubscribe(brokerProbe);
+        context.close();
+    }
+
+    @Benchmark
+    public void sendAndAwaitBroker() throws InterruptedException {
+        clientInboundChannel.send(message);
+        delivered.acquire();
+    }
+}
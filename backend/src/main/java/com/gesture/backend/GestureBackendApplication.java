@@ -1,5 +1,7 @@
 package com.gesture.backend;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.web.bind.annotation.*;
@@ -8,10 +10,12 @@ import org.springframework.http.ResponseEntity;
 @SpringBootApplication
 public class GestureBackendApplication {
 
+    private static final Logger log = LoggerFactory.getLogger(GestureBackendApplication.class);
+
     public static void main(String[] args) {
-        System.out.println("🚀 Gesture Backend 시작!");
+        log.info("🚀 Gesture Backend 시작!");
         SpringApplication.run(GestureBackendApplication.class, args);
-        System.out.println("✅ Gesture Backend 시작 완료!");
+        log.info("✅ Gesture Backend 시작 완료!");
     }
 
     @RestController
@@ -20,43 +24,43 @@ public class GestureBackendApplication {
         
         @GetMapping("/")
         public String root() {
-            System.out.println("🏠 루트 페이지 요청");
+            log.debug("🏠 루트 페이지 요청");
             return "🚀 Gesture Backend is running! 2025-08-28-FINAL";
         }
         
         @GetMapping("/api/health")
         public String health() {
-            System.out.println("💚 헬스체크 요청");
+            log.debug("💚 헬스체크 요청");
             return "{\"status\": \"UP\", \"message\": \"Backend is working!\"}";
         }
         
         @GetMapping("/api/gesture/test")
         public String gestureTest() {
-            System.out.println("🎯 제스처 테스트 요청");
+            log.debug("🎯 제스처 테스트 요청");
             return "🎯 Gesture API is working!";
         }
         
         @PostMapping("/api/gesture/mouse/move")
         public String mouseMove(@RequestBody(required = false) String body) {
-            System.out.println("🖱️ 마우스 이동: " + body);
+            log.debug("🖱️ 마우스 이동: {}", body);
             return "{\"success\": true, \"message\": \"Mouse move OK\"}";
         }
         
         @PostMapping("/api/gesture/mouse/left-click")
         public String leftClick() {
-            System.out.println("🖱️ 좌클릭");
+            log.debug("🖱️ 좌클릭");
             return "{\"success\": true, \"message\": \"Left click OK\"}";
         }
         
         @PostMapping("/api/gesture/mouse/right-click")
         public String rightClick() {
-            System.out.println("🖱️ 우클릭");
+            log.debug("🖱️ 우클릭");
             return "{\"success\": true, \"message\": \"Right click OK\"}";
         }
         
         @PostMapping("/api/gesture/mouse/scroll")
         public String scroll(@RequestBody(required = false) String body) {
-            System.out.println("📜 스크롤: " + body);
+            log.debug("📜 스크롤: {}", body);
             return "{\"success\": true, \"message\": \"Scroll OK\"}";
         }
     }
@@ -0,0 +1,25 @@
+package com.gesture.backend.cluster;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 pub/sub 버스 (gesture.cluster.bus: local, stomp)
+ *
+ * 프로파일 변경, 상태 브로드캐스트처럼 모든 노드가 알아야 하는 이벤트만 전달한다.
+ * 세션별 포인터/액션 스트림은 WebSocket 이 연결된 노드 안에서만 처리되며 버스를 거치지 않는다.
+ * 발행한 노드 자신에게도 메시지가 되돌아올 수 있으므로 구독자는 originNode 로 구분한다.
+ */
+public interface ClusterBus {
+
+    String nodeId();
+
+    /**
+     * 이벤트 발행 (대기하지 않으며, 버스가 연결되어 있지 않으면 버려짐)
+     */
+    void publish(String topic, String payload);
+
+    /**
+     * 토픽 구독 (구독자는 버스 전용 스레드에서 호출됨)
+     */
+    void subscribe(String topic, Consumer<ClusterMessage> listener);
+}
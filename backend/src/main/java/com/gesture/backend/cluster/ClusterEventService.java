@@ -0,0 +1,122 @@
+package com.gesture.backend.cluster;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gesture.backend.dto.GestureDto;
+import com.gesture.backend.mapping.MappingEngine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 노드 간 이벤트 전파
+ *
+ * - mapping: 한 노드에서 매핑 규칙이 바뀌면 다른 노드가 저장소에서 규칙을 다시 읽는다
+ * - status: 노드 상태를 모든 노드의 /topic/gesture/status 구독자에게 브로드캐스트한다
+ * 로컬 구독자에게는 버스를 거치지 않고 바로 전달하고, 버스로 되돌아온 자기 메시지는 무시한다.
+ *
+ * mapping 이벤트는 "저장소를 다시 읽으라" 는 알림일 뿐이므로, 노드마다 따로 있는 memory 저장소로는
+ * 규칙이 공유되지 않는다. 다중 인스턴스(stomp 버스)에서는 jdbc 저장소를 함께 써야 한다.
+ */
+@Service
+public class ClusterEventService {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterEventService.class);
+    public static final String STATUS_DESTINATION = "/topic/gesture/status";
+    static final String TOPIC_MAPPING = "mapping";
+    static final String TOPIC_STATUS = "status";
+
+    private final ClusterBus clusterBus;
+    private final MappingEngine mappingEngine;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final String busType;
+    private final String mappingStoreType;
+
+    public ClusterEventService(ClusterBus clusterBus, MappingEngine mappingEngine,
+                               SimpMessagingTemplate messagingTemplate, ObjectMapper objectMapper,
+                               @Value("${gesture.cluster.bus:local}") String busType,
+                               @Value("${gesture.mapping.store:memory}") String mappingStoreType) {
+        this.clusterBus = clusterBus;
+        this.mappingEngine = mappingEngine;
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.busType = busType;
+        this.mappingStoreType = mappingStoreType;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        clusterBus.subscribe(TOPIC_MAPPING, this::onMappingChanged);
+        clusterBus.subscribe(TOPIC_STATUS, this::onStatus);
+    }
+
+    /**
+     * 이 노드에서 매핑 규칙을 저장/삭제한 뒤 호출 (로컬 엔진은 이미 반영된 상태)
+     */
+    public void mappingsChanged() {
+        clusterBus.publish(TOPIC_MAPPING, "{}");
+    }
+
+    /**
+     * 모든 노드의 상태 구독자에게 브로드캐스트
+     */
+    public void broadcastStatus(GestureDto.NodeStatus status) {
+        messagingTemplate.convertAndSend(STATUS_DESTINATION, status);
+        try {
+            clusterBus.publish(TOPIC_STATUS, objectMapper.writeValueAsString(status));
+        } catch (JsonProcessingException e) {
+            log.warn("⚠️ 상태 직렬화 실패: {}", e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        log.info("🌐 클러스터 노드 시작: {}", clusterBus.nodeId());
+        if ("stomp".equals(busType) && "memory".equals(mappingStoreType)) {
+            log.warn("⚠️ gesture.cluster.bus=stomp 이지만 gesture.mapping.store=memory - "
+                    + "매핑 규칙이 노드마다 따로 저장되어 다른 노드에 반영되지 않습니다 (gesture.mapping.store=jdbc 권장)");
+        }
+        broadcastStatus(new GestureDto.NodeStatus(clusterBus.nodeId(), "up"));
+    }
+
+    @PreDestroy
+    public void onShutdown() {
+        try {
+            broadcastStatus(new GestureDto.NodeStatus(clusterBus.nodeId(), "down"));
+        } catch (RuntimeException e) {
+            // 종료 중 브로커가 먼저 멈췄다면 알림 없이 종료
+            log.debug("노드 종료 알림 실패: {}", e.getMessage());
+        }
+    }
+
+    private void onMappingChanged(ClusterMessage message) {
+        if (isLocal(message)) {
+            return;
+        }
+        log.info("🔄 노드 {} 의 매핑 변경 반영", message.getOriginNode());
+        mappingEngine.refresh();
+    }
+
+    private void onStatus(ClusterMessage message) {
+        if (isLocal(message)) {
+            return;
+        }
+        try {
+            messagingTemplate.convertAndSend(STATUS_DESTINATION,
+                    objectMapper.readValue(message.getPayload(), GestureDto.NodeStatus.class));
+        } catch (JsonProcessingException e) {
+            log.warn("⚠️ 노드 {} 상태 역직렬화 실패: {}", message.getOriginNode(), e.getMessage());
+        }
+    }
+
+    private boolean isLocal(ClusterMessage message) {
+        return clusterBus.nodeId().equals(message.getOriginNode());
+    }
+}
@@ -0,0 +1,29 @@
+package com.gesture.backend.cluster;
+
+/**
+ * 노드 간 이벤트 (payload 는 JSON 문자열)
+ */
+public final class ClusterMessage {
+
+    private final String topic;
+    private final String originNode;
+    private final String payload;
+
+    public ClusterMessage(String topic, String originNode, String payload) {
+        this.topic = topic;
+        this.originNode = originNode;
+        this.payload = payload;
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+
+    public String getOriginNode() {
+        return originNode;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+}
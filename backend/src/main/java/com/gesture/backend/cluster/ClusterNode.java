@@ -0,0 +1,38 @@
+package com.gesture.backend.cluster;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 현재 백엔드 인스턴스(노드) 식별자
+ *
+ * gesture.cluster.node-id 가 비어 있으면 Render 인스턴스 ID, 호스트 이름, 임의 값 순으로 사용한다.
+ */
+@Component
+public class ClusterNode {
+
+    private final String id;
+
+    public ClusterNode(@Value("${gesture.cluster.node-id:}") String configuredId) {
+        this.id = resolve(configuredId);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    private static String resolve(String configuredId) {
+        if (configuredId != null && !configuredId.isBlank()) {
+            return configuredId.trim();
+        }
+        for (String variable : new String[] {"RENDER_INSTANCE_ID", "HOSTNAME"}) {
+            String value = System.getenv(variable);
+            if (value != null && !value.isBlank()) {
+                return value;
+            }
+        }
+        return UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,105 @@
+package com.gesture.backend.cluster;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * 프로세스 내 클러스터 버스 (기본값, 단일 인스턴스/테스트용)
+ *
+ * 같은 허브에 join() 한 버스끼리만 메시지를 주고받으므로, 테스트에서는 한 JVM 안에
+ * 여러 노드를 띄워 노드 간 전파를 확인할 수 있다. 전달은 허브 전용 스레드에서 발행 순서대로 일어난다.
+ */
+@Component
+@ConditionalOnProperty(name = "gesture.cluster.bus", havingValue = "local", matchIfMissing = true)
+public class LocalClusterBus implements ClusterBus {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalClusterBus.class);
+
+    private final String nodeId;
+    private final Hub hub;
+
+    @Autowired
+    public LocalClusterBus(ClusterNode clusterNode) {
+        this(clusterNode.getId(), new Hub());
+    }
+
+    private LocalClusterBus(String nodeId, Hub hub) {
+        this.nodeId = nodeId;
+        this.hub = hub;
+    }
+
+    /**
+     * 같은 허브에 연결된 다른 노드의 버스
+     */
+    public LocalClusterBus join(String otherNodeId) {
+        return new LocalClusterBus(otherNodeId, hub);
+    }
+
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void publish(String topic, String payload) {
+        ClusterMessage message = new ClusterMessage(topic, nodeId, payload);
+        try {
+            hub.delivery.execute(() -> deliver(message));
+        } catch (RejectedExecutionException e) {
+            log.debug("클러스터 버스 종료됨 - {} 이벤트 버림", topic);
+        }
+    }
+
+    @Override
+    public void subscribe(String topic, Consumer<ClusterMessage> listener) {
+        hub.subscriptions.add(new Subscription(topic, listener));
+    }
+
+    private void deliver(ClusterMessage message) {
+        for (Subscription subscription : hub.subscriptions) {
+            if (!subscription.topic.equals(message.getTopic())) {
+                continue;
+            }
+            try {
+                subscription.listener.accept(message);
+            } catch (RuntimeException e) {
+                log.warn("⚠️ 클러스터 이벤트 처리 실패 ({}): {}", message.getTopic(), e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hub.delivery.shutdownNow();
+    }
+
+    private static final class Hub {
+        private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+        private final ExecutorService delivery = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "cluster-bus");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static final class Subscription {
+        private final String topic;
+        private final Consumer<ClusterMessage> listener;
+
+        private Subscription(String topic, Consumer<ClusterMessage> listener) {
+            this.topic = topic;
+            this.listener = listener;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.gesture.backend.cluster;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.Map;
+
+/**
+ * WebSocket/SockJS 핸드셰이크 시 처리 노드를 알려주는 인터셉터
+ *
+ * 세션 속성에 노드 ID 를 남기고 응답에 X-Gesture-Node 헤더와 GESTURE_NODE 쿠키를 붙인다.
+ * 쿠키 기반 고정 세션을 지원하는 로드 밸런서는 이 쿠키로 SockJS HTTP 폴백 요청을
+ * 같은 노드로 보내며, 세션의 포인터/액션 스트림은 연결된 노드 안에서만 처리된다.
+ */
+@Component
+public class NodeAffinityInterceptor implements HandshakeInterceptor {
+
+    public static final String NODE_ATTRIBUTE = "gesture.node";
+    public static final String NODE_HEADER = "X-Gesture-Node";
+    public static final String NODE_COOKIE = "GESTURE_NODE";
+
+    private final ClusterNode clusterNode;
+
+    public NodeAffinityInterceptor(ClusterNode clusterNode) {
+        this.clusterNode = clusterNode;
+    }
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        String nodeId = clusterNode.getId();
+        attributes.put(NODE_ATTRIBUTE, nodeId);
+        response.getHeaders().set(NODE_HEADER, nodeId);
+        response.getHeaders().add(HttpHeaders.SET_COOKIE, ResponseCookie.from(NODE_COOKIE, nodeId)
+                .path("/ws")
+                .httpOnly(true)
+                .build()
+                .toString());
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+}
@@ -0,0 +1,223 @@
+package com.gesture.backend.cluster;
+
+import com.gesture.backend.metrics.GestureMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.messaging.tcp.reactor.ReactorNettyTcpStompClient;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 외부 STOMP 브로커(RabbitMQ STOMP 플러그인, ActiveMQ 등)를 통한 클러스터 버스
+ *
+ * 노드마다 브로커에 TCP STOMP 연결 하나를 유지하고 토픽별로 /topic/gesture.cluster.{topic} 을 구독한다.
+ * 연결이 끊기면 reconnect-ms 간격으로 다시 연결하며, 끊긴 동안 발행된 이벤트는 버린다
+ * (매핑 변경은 refresh-ms 주기 갱신으로, 상태는 다음 브로드캐스트로 복구된다).
+ */
+@Component
+@ConditionalOnProperty(name = "gesture.cluster.bus", havingValue = "stomp")
+public class StompRelayClusterBus implements ClusterBus {
+
+    private static final Logger log = LoggerFactory.getLogger(StompRelayClusterBus.class);
+    private static final String DESTINATION_PREFIX = "/topic/gesture.cluster.";
+    private static final String ORIGIN_HEADER = "x-gesture-node";
+
+    private final String nodeId;
+    private final GestureMetrics gestureMetrics;
+    private final String login;
+    private final String passcode;
+    private final String virtualHost;
+    private final long reconnectMs;
+    private final ReactorNettyTcpStompClient stompClient;
+    private final ThreadPoolTaskScheduler scheduler;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean connecting = new AtomicBoolean(false);
+    private volatile StompSession session;
+    private volatile boolean running;
+
+    public StompRelayClusterBus(ClusterNode clusterNode,
+                                GestureMetrics gestureMetrics,
+                                @Value("${gesture.cluster.relay.host:localhost}") String host,
+                                @Value("${gesture.cluster.relay.port:61613}") int port,
+                                @Value("${gesture.cluster.relay.login:guest}") String login,
+                                @Value("${gesture.cluster.relay.passcode:guest}") String passcode,
+                                @Value("${gesture.cluster.relay.virtual-host:}") String virtualHost,
+                                @Value("${gesture.cluster.relay.heartbeat-ms:10000}") long heartbeatMs,
+                                @Value("${gesture.cluster.relay.reconnect-ms:5000}") long reconnectMs) {
+        this.nodeId = clusterNode.getId();
+        this.gestureMetrics = gestureMetrics;
+        this.login = login;
+        this.passcode = passcode;
+        this.virtualHost = virtualHost;
+        this.reconnectMs = reconnectMs;
+
+        this.scheduler = new ThreadPoolTaskScheduler();
+        this.scheduler.setPoolSize(1);
+        this.scheduler.setThreadNamePrefix("cluster-relay-");
+        this.scheduler.setDaemon(true);
+        this.scheduler.initialize();
+
+        this.stompClient = new ReactorNettyTcpStompClient(host, port);
+        this.stompClient.setMessageConverter(new StringMessageConverter());
+        this.stompClient.setTaskScheduler(scheduler);
+        this.stompClient.setDefaultHeartbeat(new long[] {heartbeatMs, heartbeatMs});
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        // 브로커가 아직 떠 있지 않아도 기동은 계속하고 백그라운드에서 재연결
+        connect();
+    }
+
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void publish(String topic, String payload) {
+        StompSession current = session;
+        if (current == null || !current.isConnected()) {
+            gestureMetrics.recordClusterMessage(topic, "dropped");
+            log.debug("클러스터 브로커 미연결 - {} 이벤트 버림", topic);
+            return;
+        }
+        StompHeaders headers = new StompHeaders();
+        headers.setDestination(DESTINATION_PREFIX + topic);
+        headers.set(ORIGIN_HEADER, nodeId);
+        try {
+            current.send(headers, payload);
+            gestureMetrics.recordClusterMessage(topic, "out");
+        } catch (RuntimeException e) {
+            gestureMetrics.recordClusterMessage(topic, "dropped");
+            log.warn("⚠️ 클러스터 이벤트 발행 실패 ({}): {}", topic, e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(String topic, Consumer<ClusterMessage> listener) {
+        Subscription subscription = new Subscription(topic, listener);
+        subscriptions.add(subscription);
+        StompSession current = session;
+        if (current != null && current.isConnected()) {
+            subscribe(current, subscription);
+        }
+    }
+
+    private void connect() {
+        if (!running || !connecting.compareAndSet(false, true)) {
+            return;
+        }
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.setLogin(login);
+        connectHeaders.setPasscode(passcode);
+        if (!virtualHost.isBlank()) {
+            connectHeaders.setHost(virtualHost);
+        }
+        stompClient.connectAsync(connectHeaders, new RelaySessionHandler()).whenComplete((connected, error) -> {
+            connecting.set(false);
+            if (error != null) {
+                log.warn("⚠️ 클러스터 브로커 연결 실패 - {}ms 후 재시도: {}", reconnectMs, error.getMessage());
+                scheduleReconnect();
+            }
+        });
+    }
+
+    private void scheduleReconnect() {
+        if (running) {
+            scheduler.schedule(this::connect, Instant.now().plus(Duration.ofMillis(reconnectMs)));
+        }
+    }
+
+    private void subscribe(StompSession current, Subscription subscription) {
+        StompHeaders headers = new StompHeaders();
+        headers.setDestination(DESTINATION_PREFIX + subscription.topic);
+        current.subscribe(headers, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders frameHeaders) {
+                return String.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders frameHeaders, Object payload) {
+                gestureMetrics.recordClusterMessage(subscription.topic, "in");
+                try {
+                    subscription.listener.accept(new ClusterMessage(subscription.topic,
+                            frameHeaders.getFirst(ORIGIN_HEADER), (String) payload));
+                } catch (RuntimeException e) {
+                    log.warn("⚠️ 클러스터 이벤트 처리 실패 ({}): {}", subscription.topic, e.getMessage());
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        StompSession current = session;
+        if (current != null && current.isConnected()) {
+            current.disconnect();
+        }
+        stompClient.shutdown();
+        scheduler.shutdown();
+    }
+
+    private final class RelaySessionHandler extends StompSessionHandlerAdapter {
+
+        @Override
+        public void afterConnected(StompSession connected, StompHeaders connectedHeaders) {
+            session = connected;
+            for (Subscription subscription : subscriptions) {
+                subscribe(connected, subscription);
+            }
+            log.info("✅ 클러스터 브로커 연결 완료 (노드: {}, 구독 토픽: {}개)", nodeId, subscriptions.size());
+        }
+
+        @Override
+        public void handleException(StompSession failed, StompCommand command, StompHeaders headers,
+                                    byte[] payload, Throwable exception) {
+            log.warn("⚠️ 클러스터 메시지 처리 오류: {}", exception.getMessage());
+        }
+
+        @Override
+        public void handleTransportError(StompSession failed, Throwable exception) {
+            if (session == failed) {
+                session = null;
+            }
+            // 연결 수립 전 실패는 connectAsync 의 future 에서 재시도함
+            if (!connecting.get()) {
+                log.warn("⚠️ 클러스터 브로커 연결 끊김 - {}ms 후 재연결: {}", reconnectMs, exception.getMessage());
+                scheduleReconnect();
+            }
+        }
+    }
+
+    private static final class Subscription {
+        private final String topic;
+        private final Consumer<ClusterMessage> listener;
+
+        private Subscription(String topic, Consumer<ClusterMessage> listener) {
+            this.topic = topic;
+            this.listener = listener;
+        }
+    }
+}
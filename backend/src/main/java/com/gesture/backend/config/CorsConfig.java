@@ -1,5 +1,7 @@
 package com.gesture.backend.config;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -7,9 +9,11 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @Configuration
 public class CorsConfig implements WebMvcConfigurer {
 
+    private static final Logger log = LoggerFactory.getLogger(CorsConfig.class);
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
-        System.out.println("🌐 CORS 설정 적용");
+        log.info("🌐 CORS 설정 적용");
         registry.addMapping("/**")
                 .allowedOrigins("*")
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
@@ -0,0 +1,92 @@
+package com.gesture.backend.config;
+
+import com.gesture.backend.dto.GestureDto;
+import com.gesture.backend.gesture.GestureHandler;
+import com.gesture.backend.gesture.GestureType;
+import com.gesture.backend.service.MouseControlService;
+import com.gesture.backend.service.PointerPipeline;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.awt.event.KeyEvent;
+
+/**
+ * 기본 제스처 핸들러 등록
+ * 새 제스처는 GestureType 에 값을 추가하고 GestureHandler 빈을 등록하면 된다
+ */
+@Configuration
+public class GestureHandlerConfig {
+
+    private static final int DEFAULT_SCROLL_AMOUNT = 3;
+
+    @Bean
+    public GestureHandler mousePointerHandler(PointerPipeline pointerPipeline) {
+        // 마우스 포인터 이동 (실시간) - 세션 슬롯에 최신 좌표만 남기므로 레인을 거치지 않음
+        return new GestureHandler() {
+            @Override
+            public GestureType type() {
+                return GestureType.MOUSE_POINTER;
+            }
+
+            @Override
+            public String successMessage() {
+                return "마우스 포인터 이동";
+            }
+
+            @Override
+            public boolean accepts(GestureDto.CommandRequest request) {
+                return request.getX() != null && request.getY() != null;
+            }
+
+            @Override
+            public boolean inline() {
+                return true;
+            }
+
+            @Override
+            public void execute(String sessionId, GestureDto.CommandRequest request) {
+                pointerPipeline.submit(sessionId, request.getX(), request.getY());
+            }
+        };
+    }
+
+    @Bean
+    public GestureHandler leftClickHandler(MouseControlService mouseControlService) {
+        return GestureHandler.of(GestureType.LEFT_CLICK, "좌클릭 실행 완료",
+                (sessionId, request) -> mouseControlService.leftClick().join());
+    }
+
+    @Bean
+    public GestureHandler rightClickHandler(MouseControlService mouseControlService) {
+        return GestureHandler.of(GestureType.RIGHT_CLICK, "우클릭 실행 완료",
+                (sessionId, request) -> mouseControlService.rightClick().join());
+    }
+
+    @Bean
+    public GestureHandler doubleClickHandler(MouseControlService mouseControlService) {
+        return GestureHandler.of(GestureType.DOUBLE_CLICK, "더블클릭 실행 완료",
+                (sessionId, request) -> mouseControlService.doubleClick().join());
+    }
+
+    @Bean
+    public GestureHandler scrollUpHandler(MouseControlService mouseControlService) {
+        return GestureHandler.of(GestureType.SCROLL_UP, "위로 스크롤 실행",
+                (sessionId, request) -> mouseControlService.scroll("up", scrollAmount(request)).join());
+    }
+
+    @Bean
+    public GestureHandler scrollDownHandler(MouseControlService mouseControlService) {
+        return GestureHandler.of(GestureType.SCROLL_DOWN, "아래로 스크롤 실행",
+                (sessionId, request) -> mouseControlService.scroll("down", scrollAmount(request)).join());
+    }
+
+    @Bean
+    public GestureHandler escapeHandler(MouseControlService mouseControlService) {
+        return GestureHandler.of(GestureType.ESCAPE, "ESC 키 실행 완료",
+                (sessionId, request) -> mouseControlService.pressKey(KeyEvent.VK_ESCAPE).join());
+    }
+
+    private static int scrollAmount(GestureDto.CommandRequest request) {
+        return request.getAmount() != null ? request.getAmount() : DEFAULT_SCROLL_AMOUNT;
+    }
+}
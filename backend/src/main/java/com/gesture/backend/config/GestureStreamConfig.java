@@ -0,0 +1,56 @@
+package com.gesture.backend.config;
+
+import com.gesture.backend.cluster.NodeAffinityInterceptor;
+import com.gesture.backend.controller.GestureStreamHandler;
+import com.gesture.backend.metrics.GestureMetrics;
+import com.gesture.backend.protocol.LandmarkFramePool;
+import io.micrometer.core.instrument.FunctionCounter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * 고빈도 스트림(포인터 이동, 랜드마크)용 원시 WebSocket 엔드포인트
+ *
+ * STOMP 헤더 파싱과 destination 매칭 없이 바이너리 프레임을 바로 처리한다.
+ * 제어 메시지(클릭, 필터 변경, 상태 조회 등)는 기존 STOMP 엔드포인트를 그대로 사용한다.
+ */
+@Configuration
+@EnableWebSocket
+public class GestureStreamConfig implements WebSocketConfigurer {
+
+    @Autowired
+    private GestureStreamHandler gestureStreamHandler;
+
+    @Autowired
+    private NodeAffinityInterceptor nodeAffinityInterceptor;
+
+    /**
+     * STOMP/원시 스트림 경로가 함께 쓰는 랜드마크 프레임 풀
+     * 용량은 동시에 처리되는 프레임 수(인바운드 스레드 수) 이상이면 충분하다
+     */
+    @Bean
+    public LandmarkFramePool landmarkFramePool(GestureMetrics gestureMetrics,
+                                               @Value("${gesture.frame-pool.capacity:64}") int capacity) {
+        LandmarkFramePool pool = new LandmarkFramePool(capacity);
+        FunctionCounter.builder("gesture.frame.pool.allocations", pool, LandmarkFramePool::getAllocations)
+                .description("풀이 비어 새로 할당한 랜드마크 프레임 수")
+                .register(gestureMetrics.getRegistry());
+        FunctionCounter.builder("gesture.frame.pool.discarded", pool, LandmarkFramePool::getDiscarded)
+                .description("풀이 가득 차 버려진 랜드마크 프레임 수")
+                .register(gestureMetrics.getRegistry());
+        return pool;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        // /ws/gesture/** 는 SockJS 엔드포인트가 차지하므로 별도 경로 사용
+        registry.addHandler(gestureStreamHandler, "/ws/stream")
+                .setAllowedOriginPatterns("*")
+                .addInterceptors(nodeAffinityInterceptor);
+    }
+}
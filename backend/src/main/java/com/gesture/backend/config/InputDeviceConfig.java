@@ -0,0 +1,71 @@
+package com.gesture.backend.config;
+
+import com.gesture.backend.input.InputDevice;
+import com.gesture.backend.input.JnaInputDevice;
+import com.gesture.backend.input.RobotInputDevice;
+import com.gesture.backend.input.VirtualInputDevice;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.awt.AWTException;
+import java.awt.Dimension;
+import java.awt.GraphicsEnvironment;
+
+/**
+ * 입력 장치 백엔드 선택 (gesture.input.device: auto, robot, jna, virtual)
+ *
+ * auto 는 헤드리스 환경이면 가상 장치, 아니면 Robot 을 사용한다.
+ * JNA 백엔드는 배포 안정성을 위해 명시적으로 지정했을 때만 사용한다.
+ */
+@Configuration
+public class InputDeviceConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(InputDeviceConfig.class);
+
+    @Bean(destroyMethod = "close")
+    public InputDevice inputDevice(@Value("${gesture.input.device:auto}") String device,
+                                   @Value("${gesture.input.virtual.capacity:4096}") int virtualCapacity,
+                                   @Value("${gesture.input.virtual.width:1920}") int virtualWidth,
+                                   @Value("${gesture.input.virtual.height:1080}") int virtualHeight) {
+        boolean headless = GraphicsEnvironment.isHeadless();
+        String selected = device.trim().toLowerCase();
+        if (selected.equals("auto")) {
+            selected = headless ? "virtual" : "robot";
+        }
+
+        InputDevice inputDevice = switch (selected) {
+            case "virtual" -> new VirtualInputDevice(virtualCapacity, virtualWidth, virtualHeight);
+            case "robot" -> createRobot(headless);
+            case "jna" -> {
+                if (!JnaInputDevice.isSupported()) {
+                    throw new IllegalStateException("JNA 입력 장치를 사용할 수 없습니다 (Windows 전용)");
+                }
+                yield new JnaInputDevice();
+            }
+            default -> throw new IllegalArgumentException("알 수 없는 입력 장치: " + device);
+        };
+
+        Dimension screenSize = inputDevice.getScreenSize();
+        log.info("🖥️ 입력 장치: {} (OS: {}, 헤드리스: {}, 화면 크기: {}x{})", inputDevice.name(),
+                System.getProperty("os.name"), headless, screenSize.width, screenSize.height);
+        if (inputDevice instanceof VirtualInputDevice) {
+            log.warn("⚠️ 가상 입력 장치 사용 - 입력 이벤트는 실제로 출력되지 않고 기록만 됩니다");
+        }
+        return inputDevice;
+    }
+
+    private static InputDevice createRobot(boolean headless) {
+        if (headless) {
+            throw new IllegalStateException("헤드리스 환경에서는 Robot 입력 장치를 사용할 수 없습니다");
+        }
+        try {
+            return new RobotInputDevice();
+        } catch (AWTException e) {
+            log.error("❌ Robot 클래스 초기화 실패: {}", e.getMessage());
+            throw new IllegalStateException("❌ Robot 클래스 초기화 실패: " + e.getMessage(), e);
+        }
+    }
+}
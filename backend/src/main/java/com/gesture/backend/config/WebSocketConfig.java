@@ -1,19 +1,105 @@
 package com.gesture.backend.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gesture.backend.cluster.NodeAffinityInterceptor;
+import com.gesture.backend.metrics.GestureMetrics;
+import com.gesture.backend.metrics.InboundMetricsInterceptor;
+import com.gesture.backend.metrics.TimedJacksonMessageConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.converter.ByteArrayMessageConverter;
+import org.springframework.messaging.converter.DefaultContentTypeResolver;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.server.standard.ServletServerContainerFactoryBean;
+
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    @Autowired
+    private GestureMetrics gestureMetrics;
+
+    @Autowired
+    private InboundMetricsInterceptor inboundMetricsInterceptor;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private NodeAffinityInterceptor nodeAffinityInterceptor;
+
+    // 브로커 설정 시점에는 아직 생성되지 않은 빈이므로 지연 주입
+    @Lazy
+    @Autowired
+    @Qualifier("messageBrokerTaskScheduler")
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    @Value("${gesture.broker.virtual-threads:false}")
+    private boolean virtualThreads;
+
+    @Value("${gesture.broker.inbound.core-pool-size:4}")
+    private int inboundCorePoolSize;
+
+    @Value("${gesture.broker.inbound.max-pool-size:16}")
+    private int inboundMaxPoolSize;
+
+    @Value("${gesture.broker.inbound.queue-capacity:1024}")
+    private int inboundQueueCapacity;
+
+    @Value("${gesture.broker.outbound.core-pool-size:4}")
+    private int outboundCorePoolSize;
+
+    @Value("${gesture.broker.outbound.max-pool-size:16}")
+    private int outboundMaxPoolSize;
+
+    @Value("${gesture.broker.outbound.queue-capacity:1024}")
+    private int outboundQueueCapacity;
+
+    @Value("${gesture.broker.keep-alive-seconds:60}")
+    private int keepAliveSeconds;
+
+    @Value("${gesture.broker.heartbeat.server-ms:10000}")
+    private long serverHeartbeatMs;
+
+    @Value("${gesture.broker.heartbeat.client-ms:10000}")
+    private long clientHeartbeatMs;
+
+    @Value("${gesture.broker.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    @Value("${gesture.broker.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${gesture.broker.transport.send-time-limit-ms:5000}")
+    private int sendTimeLimitMs;
+
+    @Value("${gesture.broker.transport.time-to-first-message-ms:30000}")
+    private int timeToFirstMessageMs;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        // 클라이언트에서 메시지를 받을 prefix 설정
-        config.enableSimpleBroker("/topic", "/queue");
+        // 클라이언트에서 메시지를 받을 prefix 설정 (하트비트로 끊어진 연결을 빨리 정리)
+        // 세션별 /user/queue 스트림은 연결된 노드 안에서만 전달되고, 노드 간 이벤트는 ClusterBus 로 전파됨
+        config.enableSimpleBroker("/topic", "/queue")
+                .setHeartbeatValue(new long[] {serverHeartbeatMs, clientHeartbeatMs})
+                .setTaskScheduler(messageBrokerTaskScheduler);
         // 클라이언트에서 서버로 메시지를 보낼 때 사용할 prefix
         config.setApplicationDestinationPrefixes("/app");
     }
@@ -23,6 +109,84 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // WebSocket endpoint 등록
         registry.addEndpoint("/ws/gesture")
                 .setAllowedOriginPatterns("*")
+                .addInterceptors(nodeAffinityInterceptor)
                 .withSockJS();
+        
+        // SockJS 는 바이너리 프레임을 지원하지 않으므로 바이너리 랜드마크용 네이티브 엔드포인트를 별도 등록
+        registry.addEndpoint("/ws/gesture/native")
+                .setAllowedOriginPatterns("*")
+                .addInterceptors(nodeAffinityInterceptor);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 송신 버퍼 또는 송신 시간 한도를 넘긴 느린 클라이언트는 메모리를 계속 쌓지 않고 연결을 종료
+        registration.setMessageSizeLimit(messageSizeLimit)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setSendTimeLimit(sendTimeLimitMs)
+                .setTimeToFirstMessage(timeToFirstMessageMs);
+    }
+
+    /**
+     * 서블릿 컨테이너의 WebSocket 수신 버퍼를 메시지 크기 한도에 맞춤
+     * 기본 버퍼(8KB)는 얼굴 메시 포인트가 담긴 JSON 프레임보다 작고 STOMP 는 부분 메시지를 받지 않으므로,
+     * 그대로 두면 위의 한도를 검사하기 전에 컨테이너가 1009 로 연결을 끊는다.
+     */
+    @Bean
+    public ServletServerContainerFactoryBean createWebSocketContainer() {
+        ServletServerContainerFactoryBean container = new ServletServerContainerFactoryBean();
+        container.setMaxTextMessageBufferSize(messageSizeLimit);
+        container.setMaxBinaryMessageBufferSize(messageSizeLimit);
+        return container;
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // destination 별 인바운드 메시지 수 집계
+        registration.interceptors(inboundMetricsInterceptor);
+        registration.taskExecutor(channelExecutor("inbound", inboundCorePoolSize, inboundMaxPoolSize, inboundQueueCapacity));
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(channelExecutor("outbound", outboundCorePoolSize, outboundMaxPoolSize, outboundQueueCapacity));
+    }
+
+    /**
+     * 대기열 크기가 제한된 채널 실행기
+     * 대기열이 가득 차면 메시지를 버리고(거절) 집계하며, 채널은 해당 메시지 전송 실패만 로그로 남긴다
+     */
+    private ThreadPoolTaskExecutor channelExecutor(String channel, int corePoolSize, int maxPoolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("client-" + channel + "-");
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setKeepAliveSeconds(keepAliveSeconds);
+        executor.setAllowCoreThreadTimeOut(true);
+        if (virtualThreads) {
+            // 풀 크기와 대기열 한도는 그대로 두고 작업 스레드만 가상 스레드로 생성
+            executor.setThreadFactory(Thread.ofVirtual().name("client-" + channel + "-", 0).factory());
+        }
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            gestureMetrics.recordBrokerRejection(channel);
+            throw new RejectedExecutionException(channel + " 채널 대기열이 가득 찼습니다");
+        });
+        return executor;
+    }
+
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        // 역직렬화 시간을 기록하는 Jackson 컨버터가 기본 Jackson 컨버터보다 먼저 선택되도록 앞쪽에 등록
+        TimedJacksonMessageConverter jacksonConverter = new TimedJacksonMessageConverter(gestureMetrics);
+        jacksonConverter.setObjectMapper(objectMapper);
+        DefaultContentTypeResolver resolver = new DefaultContentTypeResolver();
+        resolver.setDefaultMimeType(MimeTypeUtils.APPLICATION_JSON);
+        jacksonConverter.setContentTypeResolver(resolver);
+
+        messageConverters.add(0, new StringMessageConverter());
+        messageConverters.add(1, new ByteArrayMessageConverter());
+        messageConverters.add(2, jacksonConverter);
+        return false;
     }
 }
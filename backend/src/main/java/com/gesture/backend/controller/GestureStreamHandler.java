@@ -0,0 +1,183 @@
+package com.gesture.backend.controller;
+
+import com.gesture.backend.gaze.GazeService;
+import com.gesture.backend.gesture.GestureClassifier;
+import com.gesture.backend.gesture.GestureType;
+import com.gesture.backend.metrics.GestureMetrics;
+import com.gesture.backend.protocol.GestureResultCodec;
+import com.gesture.backend.protocol.LandmarkFrame;
+import com.gesture.backend.protocol.LandmarkFrameCodec;
+import com.gesture.backend.protocol.LandmarkFramePool;
+import com.gesture.backend.protocol.PointerFrameCodec;
+import com.gesture.backend.recording.FrameRecorder;
+import com.gesture.backend.service.MouseControlService;
+import com.gesture.backend.service.PackedPoint;
+import com.gesture.backend.service.PointerPipeline;
+import com.gesture.backend.telemetry.TelemetryEvent;
+import com.gesture.backend.telemetry.TelemetryService;
+import com.gesture.backend.template.TemplateMatch;
+import com.gesture.backend.template.TemplateMatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 원시 WebSocket 스트림 핸들러
+ *
+ * 바이너리 프레임의 magic 값으로 포인터 이동과 랜드마크 프레임을 구분해 서비스로 바로 전달한다.
+ * 랜드마크 버퍼는 공용 프레임 풀에서 빌려 처리 후 반납하고, 응답 버퍼는 연결마다 하나씩 두고 재사용한다.
+ * 같은 연결의 메시지는 컨테이너가 순서대로 한 스레드에서 전달하므로 응답 버퍼에 별도 동기화가 필요 없다.
+ * 제스처가 인식된 경우에만 작은 바이너리 결과 프레임을 돌려보낸다.
+ */
+@Component
+public class GestureStreamHandler extends AbstractWebSocketHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(GestureStreamHandler.class);
+
+    private static final String RESULT_ATTRIBUTE = "gesture.stream.result";
+
+    private static final String POINTER_DESTINATION = "/ws/stream/pointer";
+    private static final String LANDMARK_DESTINATION = "/ws/stream/landmarks";
+
+    @Autowired
+    private PointerPipeline pointerPipeline;
+
+    @Autowired
+    private GestureClassifier gestureClassifier;
+
+    @Autowired
+    private MouseControlService mouseControlService;
+
+    @Autowired
+    private GestureMetrics gestureMetrics;
+
+    @Autowired
+    private TelemetryService telemetryService;
+
+    @Autowired
+    private FrameRecorder frameRecorder;
+
+    @Autowired
+    private LandmarkFramePool landmarkFramePool;
+
+    @Autowired
+    private TemplateMatcher templateMatcher;
+
+    @Autowired
+    private GazeService gazeService;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        session.getAttributes().put(RESULT_ATTRIBUTE, ByteBuffer.allocate(GestureResultCodec.FRAME_SIZE));
+        // 시선 보정은 사용자 단위로 캐시되므로 연결 시 ?user= 로 받은 키에 연결 (STOMP 에서 보정한 결과 사용)
+        if (session.getUri() != null) {
+            String userId = UriComponentsBuilder.fromUri(session.getUri()).build().getQueryParams().getFirst("user");
+            if (userId != null) {
+                gazeService.bind(session.getId(), userId);
+            }
+        }
+        log.info("🔌 스트림 연결: {}", session.getId());
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws Exception {
+        ByteBuffer payload = message.getPayload();
+        if (payload.remaining() < Short.BYTES) {
+            session.close(CloseStatus.BAD_DATA.withReason("프레임이 너무 짧습니다"));
+            return;
+        }
+
+        try {
+            short magic = payload.getShort(payload.position());
+            if (magic == PointerFrameCodec.MAGIC) {
+                handlePointer(session, payload);
+            } else if (magic == LandmarkFrameCodec.MAGIC) {
+                handleLandmarks(session, payload);
+            } else {
+                session.close(CloseStatus.BAD_DATA.withReason("알 수 없는 프레임"));
+            }
+        } catch (IllegalArgumentException e) {
+            // 잘못된 프레임 하나로 연결을 끊지 않고 해당 프레임만 버린다
+            if (log.isDebugEnabled()) {
+                log.debug("스트림 프레임 무시 ({}): {}", session.getId(), e.getMessage());
+            }
+        }
+    }
+
+    private void handlePointer(WebSocketSession session, ByteBuffer payload) {
+        gestureMetrics.recordInbound(POINTER_DESTINATION);
+        PointerFrameCodec.validate(payload);
+        frameRecorder.recordPointer(session.getId(), PointerFrameCodec.x(payload), PointerFrameCodec.y(payload));
+        pointerPipeline.submit(session.getId(), PointerFrameCodec.x(payload), PointerFrameCodec.y(payload));
+    }
+
+    private void handleLandmarks(WebSocketSession session, ByteBuffer payload) throws Exception {
+        gestureMetrics.recordInbound(LANDMARK_DESTINATION);
+        LandmarkFrame frame = landmarkFramePool.acquire();
+        try {
+            LandmarkFrameCodec.decode(payload, frame);
+            long gazePoint = gazeService.map(session.getId(), frame);
+            if (gazePoint != PackedPoint.EMPTY) {
+                pointerPipeline.submit(session.getId(), PackedPoint.x(gazePoint), PackedPoint.y(gazePoint));
+            }
+            if (frame.getHandCount() == 0) {
+                return;
+            }
+            frameRecorder.recordLandmarks(session.getId(), frame);
+
+            GestureType gesture = gestureClassifier.classify(session.getId(), frame);
+            TemplateMatch dynamic = templateMatcher.match(session.getId(), frame);
+            if (dynamic != null) {
+                telemetryService.record(session.getId(), "gesture_recognized", dynamic.getGestureName(), TelemetryEvent.NO_LATENCY, true);
+                // 동적 제스처가 우선하며, 결과 프레임은 제스처 타입 번호만 담으므로 액션이 없는 템플릿은 전송하지 않는다
+                gesture = dynamic.getTemplate().getAction();
+            } else if (gesture != null) {
+                telemetryService.record(session.getId(), "gesture_recognized", gesture.getWireName(), TelemetryEvent.NO_LATENCY, true);
+            }
+            if (gesture == null) {
+                return;
+            }
+
+            // 같은 연결의 송신은 이 스레드에서만 일어나고 sendMessage 는 전송이 끝난 뒤 반환되므로 버퍼를 재사용한다
+            ByteBuffer result = (ByteBuffer) session.getAttributes().get(RESULT_ATTRIBUTE);
+            result.clear();
+            GestureResultCodec.encode(gesture.ordinal(), frame.getSequence(), frame.getTimestamp(), result);
+            result.flip();
+            session.sendMessage(new BinaryMessage(result));
+        } finally {
+            landmarkFramePool.release(frame);
+        }
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        session.close(CloseStatus.NOT_ACCEPTABLE.withReason("스트림 엔드포인트는 바이너리 프레임만 지원합니다"));
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.warn("스트림 전송 오류 ({}): {}", session.getId(), exception.getMessage());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        // STOMP 세션과 달리 SessionDisconnectEvent 가 발행되지 않으므로 직접 정리
+        String sessionId = session.getId();
+        pointerPipeline.removeSession(sessionId);
+        gestureClassifier.removeSession(sessionId);
+        templateMatcher.removeSession(sessionId);
+        gazeService.removeSession(sessionId);
+        mouseControlService.removeSession(sessionId);
+        frameRecorder.removeSession(sessionId);
+        log.info("🔌 스트림 연결 종료: {} ({})", sessionId, status);
+    }
+}
@@ -1,46 +1,134 @@
 package com.gesture.backend.controller;
 
 import com.gesture.backend.dto.GestureDto;
+import com.gesture.backend.dto.MappingDto;
+import com.gesture.backend.dto.TemplateDto;
+import com.gesture.backend.gaze.GazeCalibration;
+import com.gesture.backend.gaze.GazeService;
+import com.gesture.backend.gesture.GestureClassifier;
+import com.gesture.backend.gesture.GestureHandler;
+import com.gesture.backend.gesture.GestureHandlerRegistry;
+import com.gesture.backend.gesture.GestureType;
+import com.gesture.backend.mapping.CompiledAction;
+import com.gesture.backend.mapping.MappingEngine;
+import com.gesture.backend.metrics.GestureMetrics;
+import com.gesture.backend.protocol.LandmarkFrame;
+import com.gesture.backend.protocol.LandmarkFrameCodec;
+import com.gesture.backend.protocol.LandmarkFramePool;
+import com.gesture.backend.recording.FrameRecorder;
+import com.gesture.backend.service.CooldownLimiter;
+import com.gesture.backend.service.GestureActionExecutor;
 import com.gesture.backend.service.MouseControlService;
+import com.gesture.backend.service.PackedPoint;
+import com.gesture.backend.service.PointerAckService;
+import com.gesture.backend.service.PointerPipeline;
+import com.gesture.backend.service.ScreenStateService;
+import com.gesture.backend.service.SessionMessenger;
+import com.gesture.backend.telemetry.TelemetryEvent;
+import com.gesture.backend.telemetry.TelemetryService;
+import com.gesture.backend.template.GestureTemplate;
+import com.gesture.backend.template.TemplateMatch;
+import com.gesture.backend.template.TemplateMatcher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.handler.annotation.SendTo;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.stereotype.Controller;
 
-import java.awt.event.KeyEvent;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 
 @Controller
 public class GestureWebSocketController {
     
+    // 결과는 요청한 세션에만 전달 (클라이언트는 /user/queue/gesture/... 구독)
+    static final String RESPONSE_DESTINATION = "/queue/gesture/response";
+    static final String ANALYSIS_DESTINATION = "/queue/gesture/analysis";
+    static final String SYSTEM_DESTINATION = "/queue/gesture/system";
+    static final String ERROR_DESTINATION = "/queue/gesture/error";
+    
     @Autowired
     private MouseControlService mouseControlService;
     
+    // 랜드마크 버퍼는 처리 후 반납 (가상 스레드 채널에서도 요청마다 할당하지 않음)
+    @Autowired
+    private LandmarkFramePool landmarkFramePool;
+    
+    @Autowired
+    private PointerPipeline pointerPipeline;
+    
+    @Autowired
+    private ScreenStateService screenStateService;
+    
+    @Autowired
+    private PointerAckService pointerAckService;
+    
+    @Autowired
+    private GestureActionExecutor gestureActionExecutor;
+    
+    @Autowired
+    private CooldownLimiter cooldownLimiter;
+    
+    @Autowired
+    private GestureClassifier gestureClassifier;
+    
+    @Autowired
+    private GestureHandlerRegistry gestureHandlerRegistry;
+    
+    @Autowired
+    private TemplateMatcher templateMatcher;
+    
+    @Autowired
+    private GazeService gazeService;
+    
+    @Autowired
+    private MappingEngine mappingEngine;
+    
+    @Autowired
+    private TelemetryService telemetryService;
+    
+    @Autowired
+    private FrameRecorder frameRecorder;
+    
     @Autowired
-    private SimpMessagingTemplate messagingTemplate;
+    private GestureMetrics gestureMetrics;
+    
+    @Autowired
+    private SessionMessenger sessionMessenger;
     
     /**
      * 실시간 마우스 이동 처리
      */
     @MessageMapping("/gesture/mouse/move")
-    public void handleMouseMove(GestureDto.CommandRequest request) {
+    public void handleMouseMove(GestureDto.CommandRequest request, SimpMessageHeaderAccessor headerAccessor) {
         try {
             if (request.getX() != null && request.getY() != null) {
-                // 부드러운 마우스 이동
-                mouseControlService.moveMouseSmooth(request.getX(), request.getY());
+                // 세션 슬롯에 최신 좌표만 남기고 디바이스 스레드에서 이동
+                frameRecorder.recordPointer(headerAccessor.getSessionId(), request.getX(), request.getY());
+                pointerPipeline.submit(headerAccessor.getSessionId(), request.getX(), request.getY());
                 
-                // 클라이언트에게 성공 응답
-                GestureDto.Response response = new GestureDto.Response(
-                    true, 
-                    "마우스 이동 완료", 
-                    "mouse_move"
-                );
+                gestureMetrics.recordCaptureToAction("mouse_move", request.getClientTimestamp(), System.currentTimeMillis());
                 
-                messagingTemplate.convertAndSend("/topic/gesture/response", response);
+                // 프레임마다 응답을 브로드캐스트하지 않고 설정된 모드에 따라 보낸 세션에만 ack
+                pointerAckService.acknowledge(headerAccessor.getSessionId(), request.getSequence());
             }
         } catch (Exception e) {
-            sendErrorResponse("마우스 이동 실패: " + e.getMessage());
+            sendErrorResponse(headerAccessor.getSessionId(), "마우스 이동 실패: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 세션의 포인터 필터 변경 (ema, one-euro, kalman)
+     */
+    @MessageMapping("/gesture/pointer/filter")
+    @SendToUser(destinations = RESPONSE_DESTINATION, broadcast = false)
+    public GestureDto.Response changePointerFilter(GestureDto.PointerFilterRequest request,
+                                                   SimpMessageHeaderAccessor headerAccessor) {
+        try {
+            String filterName = mouseControlService.setPointerFilter(headerAccessor.getSessionId(), request.getFilterType());
+            return new GestureDto.Response(true, "포인터 필터 변경: " + filterName, "pointer_filter");
+        } catch (Exception e) {
+            return new GestureDto.Response(false, "포인터 필터 변경 실패: " + e.getMessage(), null);
         }
     }
     
@@ -48,82 +136,185 @@ public class GestureWebSocketController {
      * 실시간 제스처 실행 처리
      */
     @MessageMapping("/gesture/execute")
-    @SendTo("/topic/gesture/response")
-    public GestureDto.Response handleGestureExecution(GestureDto.CommandRequest request) {
+    @SendToUser(destinations = RESPONSE_DESTINATION, broadcast = false)
+    public GestureDto.Response handleGestureExecution(GestureDto.CommandRequest request,
+                                                      SimpMessageHeaderAccessor headerAccessor) {
         try {
-            String gestureType = request.getGestureType().toLowerCase();
-            
-            switch (gestureType) {
-                case "mouse_pointer":
-                    // 마우스 포인터 이동 (실시간)
-                    if (request.getX() != null && request.getY() != null) {
-                        mouseControlService.moveMouseSmooth(request.getX(), request.getY());
-                        return new GestureDto.Response(true, "마우스 포인터 이동", gestureType);
-                    }
-                    break;
-                    
-                case "left_click":
-                    // 좌클릭 실행
-                    CompletableFuture<Void> leftClickFuture = mouseControlService.leftClick();
-                    leftClickFuture.get(); // 완료까지 대기
-                    return new GestureDto.Response(true, "좌클릭 실행 완료", gestureType);
-                    
-                case "right_click":
-                    // 우클릭 실행
-                    CompletableFuture<Void> rightClickFuture = mouseControlService.rightClick();
-                    rightClickFuture.get(); // 완료까지 대기
-                    return new GestureDto.Response(true, "우클릭 실행 완료", gestureType);
-                    
-                case "scroll_up":
-                    // 위로 스크롤
-                    int upAmount = request.getAmount() != null ? request.getAmount() : 3;
-                    mouseControlService.scroll("up", upAmount);
-                    return new GestureDto.Response(true, "위로 스크롤 실행", gestureType);
-                    
-                case "scroll_down":
-                    // 아래로 스크롤
-                    int downAmount = request.getAmount() != null ? request.getAmount() : 3;
-                    mouseControlService.scroll("down", downAmount);
-                    return new GestureDto.Response(true, "아래로 스크롤 실행", gestureType);
-                    
-                case "escape":
-                    // ESC 키 실행
-                    mouseControlService.pressKey(KeyEvent.VK_ESCAPE);
-                    return new GestureDto.Response(true, "ESC 키 실행 완료", gestureType);
-                    
-                case "double_click":
-                    // 더블클릭 실행
-                    CompletableFuture<Void> doubleClickFuture = mouseControlService.doubleClick();
-                    doubleClickFuture.get(); // 완료까지 대기
-                    return new GestureDto.Response(true, "더블클릭 실행 완료", gestureType);
-                    
-                default:
-                    return new GestureDto.Response(false, "지원하지 않는 제스처: " + gestureType, null);
+            // 역직렬화 시 파싱된 타입으로 핸들러 테이블 조회 (문자열 변환/해싱 없음)
+            GestureType type = request.getType();
+            GestureHandler handler = gestureHandlerRegistry.get(type);
+            if (handler == null) {
+                return new GestureDto.Response(false, "지원하지 않는 제스처: " + request.getGestureType(), null);
+            }
+            if (!handler.accepts(request)) {
+                return new GestureDto.Response(false, "제스처 실행에 필요한 파라미터가 부족합니다", null);
             }
             
-            return new GestureDto.Response(false, "제스처 실행에 필요한 파라미터가 부족합니다", null);
+            String sessionId = headerAccessor.getSessionId();
+            if (handler.inline()) {
+                handler.execute(sessionId, request);
+                return new GestureDto.Response(true, handler.successMessage(), type.getWireName());
+            }
+            if (!cooldownLimiter.tryAcquire(sessionId, type)) {
+                telemetryService.record(sessionId, "gesture_cooldown", type.getWireName(), TelemetryEvent.NO_LATENCY, false);
+                return new GestureDto.Response(false, "쿨다운 중: " + type.getWireName(), null);
+            }
+            // 활성 프로파일 매핑이 있으면 컴파일된 입력 시퀀스 실행, 없으면 기본 핸들러
+            CompiledAction mapped = mappingEngine.resolve(sessionId, type);
+            if (mapped != null) {
+                if (mapped.isSuppressed()) {
+                    return new GestureDto.Response(false, "매핑에서 비활성화된 제스처: " + type.getWireName(), null);
+                }
+                return executeAsync(sessionId, request, type.getWireName(), "매핑 실행: " + mapped.getName(),
+                        () -> mouseControlService.execute(mapped.getName(), mapped.getSequence()).join());
+            }
+            // 세션 액션 레인에서 실행 (완료 시 비동기 응답)
+            return executeAsync(sessionId, request, type.getWireName(), handler.successMessage(),
+                    () -> handler.execute(sessionId, request));
             
         } catch (Exception e) {
             return new GestureDto.Response(false, "제스처 실행 실패: " + e.getMessage(), null);
         }
     }
     
+    /**
+     * 세션의 매핑 컨텍스트 변경 (예: presentation, 빈 값이면 기본 컨텍스트)
+     */
+    @MessageMapping("/gesture/context")
+    @SendToUser(destinations = RESPONSE_DESTINATION, broadcast = false)
+    public GestureDto.Response changeContext(MappingDto.ContextRequest request, SimpMessageHeaderAccessor headerAccessor) {
+        mappingEngine.setContext(headerAccessor.getSessionId(), request.getContext());
+        return new GestureDto.Response(true, "컨텍스트 변경: " + request.getContext(), "context");
+    }
+    
+    /**
+     * 동적 제스처 템플릿 기록 시작 (이후 수신하는 랜드마크 프레임의 궤적을 기록)
+     */
+    @MessageMapping("/gesture/template/record/start")
+    @SendToUser(destinations = RESPONSE_DESTINATION, broadcast = false)
+    public GestureDto.Response startTemplateRecording(SimpMessageHeaderAccessor headerAccessor) {
+        templateMatcher.startRecording(headerAccessor.getSessionId());
+        return new GestureDto.Response(true, "템플릿 기록 시작", "template_record");
+    }
+    
+    /**
+     * 동적 제스처 템플릿 기록 종료 및 등록
+     */
+    @MessageMapping("/gesture/template/record/stop")
+    @SendToUser(destinations = RESPONSE_DESTINATION, broadcast = false)
+    public GestureDto.Response stopTemplateRecording(TemplateDto.Create request, SimpMessageHeaderAccessor headerAccessor) {
+        GestureType action = GestureType.fromWireName(request.getAction());
+        if (request.getName() == null || request.getName().isBlank()) {
+            return new GestureDto.Response(false, "템플릿 이름은 필수입니다", null);
+        }
+        if (request.getAction() != null && action == null) {
+            return new GestureDto.Response(false, "지원하지 않는 제스처 타입: " + request.getAction(), null);
+        }
+        try {
+            GestureTemplate template = templateMatcher.stopRecording(headerAccessor.getSessionId(),
+                    request.getName(), action, request.getThreshold());
+            return new GestureDto.Response(true, "템플릿 등록: " + template.getName(), "template_record");
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return new GestureDto.Response(false, "템플릿 등록 실패: " + e.getMessage(), null);
+        }
+    }
+    
+    /**
+     * 시선 프레임 수신 (gaze 또는 홍채 포함 face) → 보정된 화면 좌표로 포인터 이동
+     */
+    @MessageMapping("/gesture/gaze")
+    public void handleGaze(GestureDto.CommandRequest request, SimpMessageHeaderAccessor headerAccessor) {
+        String sessionId = headerAccessor.getSessionId();
+        LandmarkFrame frame = landmarkFramePool.acquire();
+        try {
+            if (request.getUserId() != null) {
+                gazeService.bind(sessionId, request.getUserId());
+            }
+            long timestamp = request.getClientTimestamp() != null ? request.getClientTimestamp() : System.currentTimeMillis();
+            frame.fromRequest(request, timestamp);
+            // 보정 전이면 조용히 무시 (프레임마다 오류를 보내지 않음)
+            long point = gazeService.map(sessionId, frame);
+            if (point != PackedPoint.EMPTY) {
+                pointerPipeline.submit(sessionId, PackedPoint.x(point), PackedPoint.y(point));
+                gestureMetrics.recordCaptureToAction("gaze_move", request.getClientTimestamp(), System.currentTimeMillis());
+                pointerAckService.acknowledge(sessionId, request.getSequence());
+            }
+        } catch (Exception e) {
+            sendErrorResponse(sessionId, "시선 처리 실패: " + e.getMessage());
+        } finally {
+            landmarkFramePool.release(frame);
+        }
+    }
+    
+    /**
+     * 시선 보정 표본 추가 (x, y: 사용자가 보고 있는 화면 목표 지점, gaze/face: 그때의 시선)
+     */
+    @MessageMapping("/gesture/gaze/calibrate")
+    @SendToUser(destinations = RESPONSE_DESTINATION, broadcast = false)
+    public GestureDto.Response calibrateGaze(GestureDto.CommandRequest request, SimpMessageHeaderAccessor headerAccessor) {
+        if (request.getX() == null || request.getY() == null) {
+            return new GestureDto.Response(false, "보정 지점 좌표(x, y)는 필수입니다", null);
+        }
+        String sessionId = headerAccessor.getSessionId();
+        LandmarkFrame frame = landmarkFramePool.acquire();
+        try {
+            if (request.getUserId() != null) {
+                gazeService.bind(sessionId, request.getUserId());
+            }
+            frame.fromRequest(request, System.currentTimeMillis());
+            int samples = gazeService.addSample(sessionId, frame, request.getX(), request.getY());
+            
+            // 적합은 별도 스레드에서 진행되므로 직전 적합 결과를 함께 알림
+            GazeCalibration calibration = gazeService.getCalibration(sessionId);
+            String message = calibration == null
+                    ? "시선 보정 표본 " + samples + "개"
+                    : "시선 보정 표본 " + samples + "개 (오차 " + Math.round(calibration.getErrorPixels()) + "px)";
+            return new GestureDto.Response(true, message, "gaze_calibration");
+        } catch (IllegalArgumentException e) {
+            return new GestureDto.Response(false, "시선 보정 실패: " + e.getMessage(), null);
+        } finally {
+            landmarkFramePool.release(frame);
+        }
+    }
+    
+    /**
+     * 시선 보정 초기화 (세션 사용자의 누적 표본과 적합 결과 삭제)
+     */
+    @MessageMapping("/gesture/gaze/calibrate/reset")
+    @SendToUser(destinations = RESPONSE_DESTINATION, broadcast = false)
+    public GestureDto.Response resetGazeCalibration(GestureDto.CommandRequest request, SimpMessageHeaderAccessor headerAccessor) {
+        String sessionId = headerAccessor.getSessionId();
+        if (request.getUserId() != null) {
+            gazeService.bind(sessionId, request.getUserId());
+        }
+        gazeService.reset(sessionId);
+        return new GestureDto.Response(true, "시선 보정 초기화", "gaze_calibration");
+    }
+    
     /**
      * 손 랜드마크 데이터 수신 및 분석
      */
     @MessageMapping("/gesture/landmarks")
-    @SendTo("/topic/gesture/analysis")
-    public GestureDto.Response analyzeLandmarks(GestureDto.CommandRequest request) {
+    @SendToUser(destinations = ANALYSIS_DESTINATION, broadcast = false)
+    public GestureDto.Response analyzeLandmarks(GestureDto.CommandRequest request, SimpMessageHeaderAccessor headerAccessor) {
         try {
-            if (request.getLandmarks() == null || request.getLandmarks().isEmpty()) {
+            boolean noLandmarks = request.getLandmarks() == null || request.getLandmarks().isEmpty();
+            boolean noHands = request.getHands() == null || request.getHands().isEmpty();
+            if (noLandmarks && noHands) {
                 return new GestureDto.Response(false, "손 랜드마크 데이터가 없습니다", null);
             }
             
-            // 백엔드에서 추가적인 제스처 분석을 수행할 수 있음
-            // 현재는 프론트엔드에서 분석하므로 간단한 로깅만
-            System.out.println("📊 손 랜드마크 데이터 수신: " + request.getLandmarks().size() + "개 포인트");
-            
-            return new GestureDto.Response(true, "랜드마크 데이터 분석 완료", "landmarks_analysis");
+            LandmarkFrame frame = landmarkFramePool.acquire();
+            try {
+                long timestamp = request.getClientTimestamp() != null ? request.getClientTimestamp() : System.currentTimeMillis();
+                frame.fromRequest(request, timestamp);
+                if (frame.getHandCount() == 0) {
+                    return new GestureDto.Response(false, "손 랜드마크 데이터가 없습니다", null);
+                }
+                return analyzeFrame(headerAccessor.getSessionId(), frame);
+            } finally {
+                landmarkFramePool.release(frame);
+            }
             
         } catch (Exception e) {
             return new GestureDto.Response(false, "랜드마크 분석 실패: " + e.getMessage(), null);
@@ -131,32 +322,87 @@ public class GestureWebSocketController {
     }
     
     /**
-     * 시스템 상태 확인
+     * 바이너리 랜드마크 프레임 수신 및 분석 (application/octet-stream, 네이티브 WebSocket 엔드포인트 전용)
      */
-    @MessageMapping("/gesture/system/status")
-    @SendTo("/topic/gesture/system")
-    public GestureDto.ScreenInfo getSystemStatus() {
+    @MessageMapping("/gesture/landmarks/binary")
+    @SendToUser(destinations = ANALYSIS_DESTINATION, broadcast = false)
+    public GestureDto.Response analyzeBinaryLandmarks(byte[] payload, SimpMessageHeaderAccessor headerAccessor) {
         try {
-            var screenSize = mouseControlService.getScreenSize();
-            var mousePosition = mouseControlService.getCurrentMousePosition();
+            LandmarkFrame frame = landmarkFramePool.acquire();
+            try {
+                LandmarkFrameCodec.decode(payload, frame);
+                if (frame.getHandCount() == 0) {
+                    return new GestureDto.Response(false, "손 랜드마크 데이터가 없습니다", null);
+                }
+                return analyzeFrame(headerAccessor.getSessionId(), frame);
+            } finally {
+                landmarkFramePool.release(frame);
+            }
             
-            return new GestureDto.ScreenInfo(
-                screenSize.width,
-                screenSize.height,
-                mousePosition.x,
-                mousePosition.y
-            );
         } catch (Exception e) {
-            System.err.println("시스템 상태 확인 실패: " + e.getMessage());
-            return new GestureDto.ScreenInfo(0, 0, 0, 0);
+            return new GestureDto.Response(false, "랜드마크 분석 실패: " + e.getMessage(), null);
+        }
+    }
+    
+    /**
+     * JSON/바이너리 공통 랜드마크 분석
+     */
+    private GestureDto.Response analyzeFrame(String sessionId, LandmarkFrame frame) {
+        frameRecorder.recordLandmarks(sessionId, frame);
+        // 두 분류기 모두 매 프레임 상태를 갱신해야 하므로 항상 함께 호출하고, 완성된 동적 제스처를 우선한다
+        GestureType gesture = gestureClassifier.classify(sessionId, frame);
+        TemplateMatch dynamic = templateMatcher.match(sessionId, frame);
+        if (dynamic != null) {
+            telemetryService.record(sessionId, "gesture_recognized", dynamic.getGestureName(), TelemetryEvent.NO_LATENCY, true);
+            return new GestureDto.Response(true, "동적 제스처 인식: " + dynamic.getTemplate().getName(), dynamic.getGestureName());
+        }
+        if (gesture == null) {
+            return new GestureDto.Response(true, "랜드마크 데이터 분석 완료", "landmarks_analysis");
         }
+        telemetryService.record(sessionId, "gesture_recognized", gesture.getWireName(), TelemetryEvent.NO_LATENCY, true);
+        return new GestureDto.Response(true, "제스처 인식: " + gesture.getWireName(), gesture.getWireName());
+    }
+    
+    /**
+     * 시스템 상태 확인
+     */
+    @MessageMapping("/gesture/system/status")
+    @SendToUser(destinations = SYSTEM_DESTINATION, broadcast = false)
+    public GestureDto.ScreenInfo getSystemStatus() {
+        // 캐시된 스냅샷 읽기 (네이티브 조회 없음, 포인터 변화는 /topic/gesture/pointer 로 구독)
+        return screenStateService.getScreenInfo();
+    }
+    
+    /**
+     * 세션 레인에 액션을 등록하고 인바운드 스레드는 바로 반환
+     * 완료(또는 거절) 시점에 세션의 /user/queue/gesture/response 로 응답을 전송하므로 @SendToUser 로는 보내지 않는다
+     */
+    private GestureDto.Response executeAsync(String sessionId, GestureDto.CommandRequest request, String gestureType,
+                                             String successMessage, Runnable action) {
+        long submittedAt = System.nanoTime();
+        gestureActionExecutor.submit(sessionId, action).whenComplete((ignored, error) -> {
+            GestureDto.Response response;
+            long elapsed = System.nanoTime() - submittedAt;
+            telemetryService.record(sessionId, "gesture_executed", gestureType,
+                    TimeUnit.NANOSECONDS.toMillis(elapsed), error == null);
+            if (error == null) {
+                response = new GestureDto.Response(true, successMessage, gestureType);
+                gestureMetrics.recordAction(gestureType, elapsed);
+                gestureMetrics.recordCaptureToAction(gestureType, request.getClientTimestamp(), response.getTimestamp());
+            } else {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                response = new GestureDto.Response(false, "제스처 실행 실패: " + cause.getMessage(), null);
+            }
+            sessionMessenger.send(sessionId, RESPONSE_DESTINATION, response);
+        });
+        return null;
     }
     
     /**
      * 에러 응답 전송
      */
-    private void sendErrorResponse(String message) {
+    private void sendErrorResponse(String sessionId, String message) {
         GestureDto.Response errorResponse = new GestureDto.Response(false, message, null);
-        messagingTemplate.convertAndSend("/topic/gesture/error", errorResponse);
+        sessionMessenger.send(sessionId, ERROR_DESTINATION, errorResponse);
     }
 }
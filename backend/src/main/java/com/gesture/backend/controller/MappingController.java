@@ -0,0 +1,69 @@
+package com.gesture.backend.controller;
+
+import com.gesture.backend.cluster.ClusterEventService;
+import com.gesture.backend.dto.MappingDto;
+import com.gesture.backend.mapping.MappingEngine;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 활성 프로파일의 제스처 매핑 규칙 관리
+ * 변경은 저장 직후 매핑 엔진 인덱스에 반영되고, 다른 노드에는 클러스터 버스로 알린다
+ */
+@RestController
+@CrossOrigin(origins = "*")
+@RequestMapping("/api/mappings")
+public class MappingController {
+    
+    @Autowired
+    private MappingEngine mappingEngine;
+    
+    @Autowired
+    private ClusterEventService clusterEventService;
+    
+    @GetMapping
+    public List<MappingDto.Rule> list() {
+        return mappingEngine.getRules().stream().map(MappingDto.Rule::from).toList();
+    }
+    
+    @PostMapping
+    public ResponseEntity<?> create(@Valid @RequestBody MappingDto.Rule request) {
+        return save(null, request);
+    }
+    
+    @PutMapping("/{id}")
+    public ResponseEntity<?> update(@PathVariable String id, @Valid @RequestBody MappingDto.Rule request) {
+        return save(id, request);
+    }
+    
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable String id) {
+        if (!mappingEngine.delete(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        clusterEventService.mappingsChanged();
+        return ResponseEntity.noContent().build();
+    }
+    
+    private ResponseEntity<?> save(String id, MappingDto.Rule request) {
+        try {
+            MappingDto.Rule saved = MappingDto.Rule.from(mappingEngine.save(request.toRule(id)));
+            clusterEventService.mappingsChanged();
+            return ResponseEntity.ok(saved);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.gesture.backend.controller;
+
+import com.gesture.backend.dto.TemplateDto;
+import com.gesture.backend.gesture.GestureType;
+import com.gesture.backend.template.TemplateLibrary;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 동적 제스처 템플릿 관리
+ * 라이브 스트림에서 기록하려면 STOMP /app/gesture/template/record/{start,stop} 을 사용한다
+ */
+@RestController
+@CrossOrigin(origins = "*")
+@RequestMapping("/api/templates")
+public class TemplateController {
+    
+    @Autowired
+    private TemplateLibrary templateLibrary;
+    
+    @GetMapping
+    public List<TemplateDto.Summary> list() {
+        return templateLibrary.list().stream().map(TemplateDto.Summary::from).toList();
+    }
+    
+    @PostMapping
+    public ResponseEntity<?> create(@Valid @RequestBody TemplateDto.Create request) {
+        List<TemplateDto.Point> points = request.getPoints();
+        if (points == null) {
+            return ResponseEntity.badRequest().body("궤적 포인트가 없습니다");
+        }
+        GestureType action = GestureType.fromWireName(request.getAction());
+        if (request.getAction() != null && action == null) {
+            return ResponseEntity.badRequest().body("지원하지 않는 제스처 타입: " + request.getAction());
+        }
+        
+        int count = points.size();
+        float[] xs = new float[count];
+        float[] ys = new float[count];
+        long[] timestamps = new long[count];
+        for (int i = 0; i < count; i++) {
+            TemplateDto.Point point = points.get(i);
+            xs[i] = point.getX().floatValue();
+            ys[i] = point.getY().floatValue();
+            timestamps[i] = point.getT();
+        }
+        try {
+            return ResponseEntity.ok(TemplateDto.Summary.from(
+                    templateLibrary.add(request.getName(), action, xs, ys, timestamps, count, request.getThreshold())));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+    
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable String id) {
+        return templateLibrary.remove(id) ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+}
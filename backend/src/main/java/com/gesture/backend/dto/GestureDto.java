@@ -1,5 +1,7 @@
 package com.gesture.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.gesture.backend.gesture.GestureType;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Min;
@@ -14,12 +16,19 @@ public class GestureDto {
     public static class CommandRequest {
         @NotBlank(message = "제스처 타입은 필수입니다")
         private String gestureType;
+        private GestureType type; // 역직렬화 시 한 번 파싱 (지원하지 않는 값이면 null)
         
         private Integer x;
         private Integer y;
         private String direction;
         private Integer amount;
-        private List<HandLandmark> landmarks;
+        private List<HandLandmark> landmarks; // 단일 손/이전 클라이언트용 평탄화 목록
+        private List<Hand> hands; // 손별 랜드마크 (handedness, score 포함)
+        private List<HandLandmark> face; // FaceMesh 포인트 (선택)
+        private Gaze gaze; // 시선 좌표 (선택)
+        private Long clientTimestamp; // 클라이언트 캡처 시각 (epoch ms, 지연 측정용)
+        private Long sequence; // 클라이언트 프레임 번호 (포인터 ack 용)
+        private String userId; // 시선 보정 캐시 키 (없으면 세션 단위)
         
         // Getters and Setters
         public String getGestureType() {
@@ -28,6 +37,12 @@ public class GestureDto {
         
         public void setGestureType(String gestureType) {
             this.gestureType = gestureType;
+            this.type = GestureType.fromWireName(gestureType);
+        }
+        
+        @JsonIgnore
+        public GestureType getType() {
+            return type;
         }
         
         public Integer getX() {
@@ -69,6 +84,54 @@ public class GestureDto {
         public void setLandmarks(List<HandLandmark> landmarks) {
             this.landmarks = landmarks;
         }
+        
+        public List<Hand> getHands() {
+            return hands;
+        }
+        
+        public void setHands(List<Hand> hands) {
+            this.hands = hands;
+        }
+        
+        public List<HandLandmark> getFace() {
+            return face;
+        }
+        
+        public void setFace(List<HandLandmark> face) {
+            this.face = face;
+        }
+        
+        public Gaze getGaze() {
+            return gaze;
+        }
+        
+        public void setGaze(Gaze gaze) {
+            this.gaze = gaze;
+        }
+        
+        public Long getClientTimestamp() {
+            return clientTimestamp;
+        }
+        
+        public void setClientTimestamp(Long clientTimestamp) {
+            this.clientTimestamp = clientTimestamp;
+        }
+        
+        public Long getSequence() {
+            return sequence;
+        }
+        
+        public void setSequence(Long sequence) {
+            this.sequence = sequence;
+        }
+        
+        public String getUserId() {
+            return userId;
+        }
+        
+        public void setUserId(String userId) {
+            this.userId = userId;
+        }
     }
     
     /**
@@ -133,6 +196,100 @@ public class GestureDto {
         }
     }
     
+    /**
+     * 손 하나의 랜드마크 (MediaPipe multiHandLandmarks + multiHandedness)
+     */
+    public static class Hand {
+        private String handedness; // "Left" | "Right"
+        private Double score;
+        private List<HandLandmark> landmarks;
+        
+        // 기본 생성자
+        public Hand() {}
+        
+        // 생성자
+        public Hand(String handedness, Double score, List<HandLandmark> landmarks) {
+            this.handedness = handedness;
+            this.score = score;
+            this.landmarks = landmarks;
+        }
+        
+        // Getters and Setters
+        public String getHandedness() {
+            return handedness;
+        }
+        
+        public void setHandedness(String handedness) {
+            this.handedness = handedness;
+        }
+        
+        public Double getScore() {
+            return score;
+        }
+        
+        public void setScore(Double score) {
+            this.score = score;
+        }
+        
+        public List<HandLandmark> getLandmarks() {
+            return landmarks;
+        }
+        
+        public void setLandmarks(List<HandLandmark> landmarks) {
+            this.landmarks = landmarks;
+        }
+    }
+    
+    /**
+     * 시선 좌표 (정규화 화면 좌표)
+     */
+    public static class Gaze {
+        private Double x;
+        private Double y;
+        private Double confidence;
+        
+        // Getters and Setters
+        public Double getX() {
+            return x;
+        }
+        
+        public void setX(Double x) {
+            this.x = x;
+        }
+        
+        public Double getY() {
+            return y;
+        }
+        
+        public void setY(Double y) {
+            this.y = y;
+        }
+        
+        public Double getConfidence() {
+            return confidence;
+        }
+        
+        public void setConfidence(Double confidence) {
+            this.confidence = confidence;
+        }
+    }
+    
+    /**
+     * 포인터 필터 변경 요청 DTO
+     */
+    public static class PointerFilterRequest {
+        @NotBlank(message = "필터 타입은 필수입니다")
+        private String filterType;
+        
+        public String getFilterType() {
+            return filterType;
+        }
+        
+        public void setFilterType(String filterType) {
+            this.filterType = filterType;
+        }
+    }
+    
     /**
      * 제스처 응답 DTO
      */
@@ -187,6 +344,50 @@ public class GestureDto {
         }
     }
     
+    /**
+     * 포인터 이동 누적 ack DTO
+     */
+    public static class PointerAck {
+        private Long lastSequence;
+        private int processed;
+        private Long timestamp;
+        
+        // 기본 생성자
+        public PointerAck() {}
+        
+        // 생성자
+        public PointerAck(Long lastSequence, int processed) {
+            this.lastSequence = lastSequence;
+            this.processed = processed;
+            this.timestamp = System.currentTimeMillis();
+        }
+        
+        // Getters and Setters
+        public Long getLastSequence() {
+            return lastSequence;
+        }
+        
+        public void setLastSequence(Long lastSequence) {
+            this.lastSequence = lastSequence;
+        }
+        
+        public int getProcessed() {
+            return processed;
+        }
+        
+        public void setProcessed(int processed) {
+            this.processed = processed;
+        }
+        
+        public Long getTimestamp() {
+            return timestamp;
+        }
+        
+        public void setTimestamp(Long timestamp) {
+            this.timestamp = timestamp;
+        }
+    }
+    
     /**
      * 화면 정보 응답 DTO
      */
@@ -195,6 +396,8 @@ public class GestureDto {
         private int height;
         private int currentMouseX;
         private int currentMouseY;
+        private List<Monitor> monitors; // 모든 모니터 영역 (기본 모니터가 첫 번째)
+        private Long updatedAt; // 화면 구성을 마지막으로 조회한 시각
         
         // 기본 생성자
         public ScreenInfo() {}
@@ -239,5 +442,173 @@ public class GestureDto {
         public void setCurrentMouseY(int currentMouseY) {
             this.currentMouseY = currentMouseY;
         }
+        
+        public List<Monitor> getMonitors() {
+            return monitors;
+        }
+        
+        public void setMonitors(List<Monitor> monitors) {
+            this.monitors = monitors;
+        }
+        
+        public Long getUpdatedAt() {
+            return updatedAt;
+        }
+        
+        public void setUpdatedAt(Long updatedAt) {
+            this.updatedAt = updatedAt;
+        }
+    }
+    
+    /**
+     * 모니터 영역 DTO (가상 데스크톱 좌표)
+     */
+    public static class Monitor {
+        private int x;
+        private int y;
+        private int width;
+        private int height;
+        private boolean primary;
+        
+        // 기본 생성자
+        public Monitor() {}
+        
+        // 생성자
+        public Monitor(int x, int y, int width, int height, boolean primary) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            this.primary = primary;
+        }
+        
+        // Getters and Setters
+        public int getX() {
+            return x;
+        }
+        
+        public void setX(int x) {
+            this.x = x;
+        }
+        
+        public int getY() {
+            return y;
+        }
+        
+        public void setY(int y) {
+            this.y = y;
+        }
+        
+        public int getWidth() {
+            return width;
+        }
+        
+        public void setWidth(int width) {
+            this.width = width;
+        }
+        
+        public int getHeight() {
+            return height;
+        }
+        
+        public void setHeight(int height) {
+            this.height = height;
+        }
+        
+        public boolean isPrimary() {
+            return primary;
+        }
+        
+        public void setPrimary(boolean primary) {
+            this.primary = primary;
+        }
+    }
+    
+    /**
+     * 포인터 위치 스트림 DTO (/topic/gesture/pointer)
+     */
+    public static class PointerPosition {
+        private int x;
+        private int y;
+        private Long timestamp;
+        
+        // 기본 생성자
+        public PointerPosition() {}
+        
+        // 생성자
+        public PointerPosition(int x, int y, Long timestamp) {
+            this.x = x;
+            this.y = y;
+            this.timestamp = timestamp;
+        }
+        
+        // Getters and Setters
+        public int getX() {
+            return x;
+        }
+        
+        public void setX(int x) {
+            this.x = x;
+        }
+        
+        public int getY() {
+            return y;
+        }
+        
+        public void setY(int y) {
+            this.y = y;
+        }
+        
+        public Long getTimestamp() {
+            return timestamp;
+        }
+        
+        public void setTimestamp(Long timestamp) {
+            this.timestamp = timestamp;
+        }
+    }
+    
+    /**
+     * 노드 상태 브로드캐스트 DTO (/topic/gesture/status)
+     */
+    public static class NodeStatus {
+        private String node;
+        private String state;
+        private Long timestamp;
+        
+        // 기본 생성자
+        public NodeStatus() {}
+        
+        // 생성자
+        public NodeStatus(String node, String state) {
+            this.node = node;
+            this.state = state;
+            this.timestamp = System.currentTimeMillis();
+        }
+        
+        // Getters and Setters
+        public String getNode() {
+            return node;
+        }
+        
+        public void setNode(String node) {
+            this.node = node;
+        }
+        
+        public String getState() {
+            return state;
+        }
+        
+        public void setState(String state) {
+            this.state = state;
+        }
+        
+        public Long getTimestamp() {
+            return timestamp;
+        }
+        
+        public void setTimestamp(Long timestamp) {
+            this.timestamp = timestamp;
+        }
     }
 }
@@ -0,0 +1,119 @@
+package com.gesture.backend.dto;
+
+import com.gesture.backend.mapping.MappingRule;
+import jakarta.validation.constraints.NotBlank;
+
+public class MappingDto {
+    
+    /**
+     * 매핑 규칙 요청/응답 DTO
+     * condition = { gesture, when }, action = { type, value }, priority 는 작을수록 우선
+     */
+    public static class Rule {
+        private String id;
+        private String name;
+        
+        @NotBlank(message = "제스처는 필수입니다")
+        private String gesture;
+        
+        private String when;
+        
+        @NotBlank(message = "액션 타입은 필수입니다")
+        private String actionType;
+        
+        private String actionValue;
+        private Integer priority;
+        
+        // 기본 생성자
+        public Rule() {}
+        
+        public static Rule from(MappingRule rule) {
+            Rule dto = new Rule();
+            dto.id = rule.getId();
+            dto.name = rule.getName();
+            dto.gesture = rule.getGesture();
+            dto.when = rule.getContext();
+            dto.actionType = rule.getActionType();
+            dto.actionValue = rule.getActionValue();
+            dto.priority = rule.getPriority();
+            return dto;
+        }
+        
+        public MappingRule toRule(String id) {
+            return new MappingRule(id, name != null ? name : gesture, gesture, when,
+                    actionType, actionValue, priority != null ? priority : 100, 0L);
+        }
+        
+        // Getters and Setters
+        public String getId() {
+            return id;
+        }
+        
+        public void setId(String id) {
+            this.id = id;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+        
+        public String getGesture() {
+            return gesture;
+        }
+        
+        public void setGesture(String gesture) {
+            this.gesture = gesture;
+        }
+        
+        public String getWhen() {
+            return when;
+        }
+        
+        public void setWhen(String when) {
+            this.when = when;
+        }
+        
+        public String getActionType() {
+            return actionType;
+        }
+        
+        public void setActionType(String actionType) {
+            this.actionType = actionType;
+        }
+        
+        public String getActionValue() {
+            return actionValue;
+        }
+        
+        public void setActionValue(String actionValue) {
+            this.actionValue = actionValue;
+        }
+        
+        public Integer getPriority() {
+            return priority;
+        }
+        
+        public void setPriority(Integer priority) {
+            this.priority = priority;
+        }
+    }
+    
+    /**
+     * 세션 컨텍스트 변경 요청 DTO (예: presentation)
+     */
+    public static class ContextRequest {
+        private String context;
+        
+        public String getContext() {
+            return context;
+        }
+        
+        public void setContext(String context) {
+            this.context = context;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.gesture.backend.dto;
+
+import com.gesture.backend.template.GestureTemplate;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class TemplateDto {
+    
+    /**
+     * 궤적 포인트 (정규화 화면 좌표, t: 캡처 시각 ms)
+     */
+    public static class Point {
+        @NotNull(message = "x 좌표는 필수입니다")
+        private Double x;
+        
+        @NotNull(message = "y 좌표는 필수입니다")
+        private Double y;
+        
+        @NotNull(message = "시각은 필수입니다")
+        private Long t;
+        
+        // Getters and Setters
+        public Double getX() {
+            return x;
+        }
+        
+        public void setX(Double x) {
+            this.x = x;
+        }
+        
+        public Double getY() {
+            return y;
+        }
+        
+        public void setY(Double y) {
+            this.y = y;
+        }
+        
+        public Long getT() {
+            return t;
+        }
+        
+        public void setT(Long t) {
+            this.t = t;
+        }
+    }
+    
+    /**
+     * 템플릿 등록 요청 DTO (points 가 없으면 STOMP 기록 종료 요청으로 사용)
+     * action 은 매칭 시 보고할 제스처 타입 (선택), threshold 는 허용 평균 제곱 거리 (선택)
+     */
+    public static class Create {
+        @NotBlank(message = "템플릿 이름은 필수입니다")
+        private String name;
+        
+        private String action;
+        private Float threshold;
+        
+        @Size(min = GestureTemplate.MIN_SAMPLES, message = "궤적 포인트가 부족합니다")
+        private List<@Valid Point> points;
+        
+        // Getters and Setters
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+        
+        public String getAction() {
+            return action;
+        }
+        
+        public void setAction(String action) {
+            this.action = action;
+        }
+        
+        public Float getThreshold() {
+            return threshold;
+        }
+        
+        public void setThreshold(Float threshold) {
+            this.threshold = threshold;
+        }
+        
+        public List<Point> getPoints() {
+            return points;
+        }
+        
+        public void setPoints(List<Point> points) {
+            this.points = points;
+        }
+    }
+    
+    /**
+     * 템플릿 응답 DTO
+     */
+    public static class Summary {
+        private String id;
+        private String name;
+        private String action;
+        private long durationMs;
+        private long windowMs;
+        private float threshold;
+        
+        // 기본 생성자
+        public Summary() {}
+        
+        public static Summary from(GestureTemplate template) {
+            Summary dto = new Summary();
+            dto.id = template.getId();
+            dto.name = template.getName();
+            dto.action = template.getAction() != null ? template.getAction().getWireName() : null;
+            dto.durationMs = template.getDurationMs();
+            dto.windowMs = template.getWindowMs();
+            dto.threshold = template.getThreshold();
+            return dto;
+        }
+        
+        // Getters
+        public String getId() {
+            return id;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public String getAction() {
+            return action;
+        }
+        
+        public long getDurationMs() {
+            return durationMs;
+        }
+        
+        public long getWindowMs() {
+            return windowMs;
+        }
+        
+        public float getThreshold() {
+            return threshold;
+        }
+    }
+}
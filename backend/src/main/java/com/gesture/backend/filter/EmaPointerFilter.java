@@ -0,0 +1,43 @@
+package com.gesture.backend.filter;
+
+import com.gesture.backend.service.PackedPoint;
+
+/**
+ * 고정 계수 지수 이동 평균 필터 (기존 SMOOTHING_FACTOR 방식)
+ */
+public final class EmaPointerFilter implements PointerFilter {
+
+    public static final String NAME = "ema";
+
+    private final double alpha;
+    private boolean initialized;
+    private double lastX;
+    private double lastY;
+
+    public EmaPointerFilter(double alpha) {
+        this.alpha = alpha;
+    }
+
+    @Override
+    public long filter(int x, int y, long timestampNanos) {
+        if (!initialized) {
+            initialized = true;
+            lastX = x;
+            lastY = y;
+        } else {
+            lastX += (x - lastX) * alpha;
+            lastY += (y - lastY) * alpha;
+        }
+        return PackedPoint.pack((int) lastX, (int) lastY);
+    }
+
+    @Override
+    public void reset() {
+        initialized = false;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+}
@@ -0,0 +1,111 @@
+package com.gesture.backend.filter;
+
+import com.gesture.backend.service.PackedPoint;
+
+/**
+ * 등속도 모델 칼만 필터 (축별 독립)
+ *
+ * 위치/속도를 함께 추정하고 predictionSeconds 만큼 앞선 위치를 출력해
+ * 카메라 캡처부터 커서 이동까지의 지연을 보상한다.
+ */
+public final class KalmanPointerFilter implements PointerFilter {
+
+    public static final String NAME = "kalman";
+
+    private static final double MIN_DT = 1e-3;
+    // 축별 상태: 위치, 속도, 공분산 P00, P01, P10, P11
+    private static final int STATE_SIZE = 6;
+    private static final int P = 0;
+    private static final int V = 1;
+    private static final int P00 = 2;
+    private static final int P01 = 3;
+    private static final int P10 = 4;
+    private static final int P11 = 5;
+
+    private final double processNoise;
+    private final double measurementNoise;
+    private final double predictionSeconds;
+    private final double[] state = new double[STATE_SIZE * 2];
+
+    private boolean initialized;
+    private long lastTimestamp;
+
+    /**
+     * @param processNoise 가속도 분산 ((px/s²)²)
+     * @param measurementNoise 측정 분산 (px²)
+     * @param predictionSeconds 출력 시 앞당겨 예측할 시간 (초)
+     */
+    public KalmanPointerFilter(double processNoise, double measurementNoise, double predictionSeconds) {
+        this.processNoise = processNoise;
+        this.measurementNoise = measurementNoise;
+        this.predictionSeconds = predictionSeconds;
+    }
+
+    @Override
+    public long filter(int x, int y, long timestampNanos) {
+        if (!initialized) {
+            initialized = true;
+            lastTimestamp = timestampNanos;
+            initAxis(0, x);
+            initAxis(STATE_SIZE, y);
+            return PackedPoint.pack(x, y);
+        }
+
+        double dt = Math.max((timestampNanos - lastTimestamp) / 1e9, MIN_DT);
+        lastTimestamp = timestampNanos;
+
+        double outX = updateAxis(0, x, dt);
+        double outY = updateAxis(STATE_SIZE, y, dt);
+        return PackedPoint.pack((int) Math.round(outX), (int) Math.round(outY));
+    }
+
+    private void initAxis(int o, double z) {
+        state[o + P] = z;
+        state[o + V] = 0;
+        state[o + P00] = measurementNoise;
+        state[o + P01] = 0;
+        state[o + P10] = 0;
+        state[o + P11] = measurementNoise * 100;
+    }
+
+    private double updateAxis(int o, double z, double dt) {
+        // 예측: x = F x, P = F P F^T + Q
+        double p = state[o + P] + state[o + V] * dt;
+        double v = state[o + V];
+        double p00 = state[o + P00] + dt * (state[o + P10] + state[o + P01]) + dt * dt * state[o + P11];
+        double p01 = state[o + P01] + dt * state[o + P11];
+        double p10 = state[o + P10] + dt * state[o + P11];
+        double p11 = state[o + P11];
+
+        double dt2 = dt * dt;
+        p00 += processNoise * dt2 * dt2 / 4;
+        p01 += processNoise * dt2 * dt / 2;
+        p10 += processNoise * dt2 * dt / 2;
+        p11 += processNoise * dt2;
+
+        // 보정: 위치만 측정 (H = [1 0])
+        double innovation = z - p;
+        double s = p00 + measurementNoise;
+        double k0 = p00 / s;
+        double k1 = p10 / s;
+
+        state[o + P] = p + k0 * innovation;
+        state[o + V] = v + k1 * innovation;
+        state[o + P00] = (1 - k0) * p00;
+        state[o + P01] = (1 - k0) * p01;
+        state[o + P10] = p10 - k1 * p00;
+        state[o + P11] = p11 - k1 * p01;
+
+        return state[o + P] + state[o + V] * predictionSeconds;
+    }
+
+    @Override
+    public void reset() {
+        initialized = false;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+}
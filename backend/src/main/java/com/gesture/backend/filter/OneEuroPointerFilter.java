@@ -0,0 +1,80 @@
+package com.gesture.backend.filter;
+
+import com.gesture.backend.service.PackedPoint;
+
+/**
+ * One-Euro 필터 (Casiez et al.)
+ *
+ * 느린 움직임에서는 차단 주파수를 낮춰 떨림을 줄이고, 빠른 움직임에서는
+ * 속도에 비례해 차단 주파수를 높여 지연을 줄인다.
+ */
+public final class OneEuroPointerFilter implements PointerFilter {
+
+    public static final String NAME = "one-euro";
+
+    private static final double MIN_DT = 1e-3;
+
+    private final double minCutoff;
+    private final double beta;
+    private final double derivativeCutoff;
+
+    private boolean initialized;
+    private long lastTimestamp;
+    private double x;
+    private double y;
+    private double dx;
+    private double dy;
+
+    /**
+     * @param minCutoff 정지 상태 차단 주파수 (Hz)
+     * @param beta 속도(px/s)에 곱해지는 차단 주파수 증가 계수
+     * @param derivativeCutoff 속도 추정용 차단 주파수 (Hz)
+     */
+    public OneEuroPointerFilter(double minCutoff, double beta, double derivativeCutoff) {
+        this.minCutoff = minCutoff;
+        this.beta = beta;
+        this.derivativeCutoff = derivativeCutoff;
+    }
+
+    @Override
+    public long filter(int rawX, int rawY, long timestampNanos) {
+        if (!initialized) {
+            initialized = true;
+            lastTimestamp = timestampNanos;
+            x = rawX;
+            y = rawY;
+            dx = 0;
+            dy = 0;
+            return PackedPoint.pack(rawX, rawY);
+        }
+
+        double dt = Math.max((timestampNanos - lastTimestamp) / 1e9, MIN_DT);
+        lastTimestamp = timestampNanos;
+
+        double derivativeAlpha = alpha(derivativeCutoff, dt);
+        dx += ((rawX - x) / dt - dx) * derivativeAlpha;
+        dy += ((rawY - y) / dt - dy) * derivativeAlpha;
+
+        double speed = Math.sqrt(dx * dx + dy * dy);
+        double positionAlpha = alpha(minCutoff + beta * speed, dt);
+        x += (rawX - x) * positionAlpha;
+        y += (rawY - y) * positionAlpha;
+
+        return PackedPoint.pack((int) Math.round(x), (int) Math.round(y));
+    }
+
+    private static double alpha(double cutoff, double dt) {
+        double tau = 1.0 / (2 * Math.PI * cutoff);
+        return 1.0 / (1.0 + tau / dt);
+    }
+
+    @Override
+    public void reset() {
+        initialized = false;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+}
@@ -0,0 +1,27 @@
+package com.gesture.backend.filter;
+
+/**
+ * 포인터 좌표 필터
+ *
+ * 구현체는 세션마다 하나씩 생성되는 상태 객체이며, 한 번에 하나의 스레드에서만 호출된다.
+ * 필터링 중에는 객체를 할당하지 않고 결과를 PackedPoint 형식의 long 으로 반환한다.
+ */
+public interface PointerFilter {
+
+    /**
+     * 새 측정 좌표를 반영하고 출력 좌표를 반환
+     *
+     * @param timestampNanos 측정 시각 (System.nanoTime 기준)
+     */
+    long filter(int x, int y, long timestampNanos);
+
+    /**
+     * 필터 상태 초기화 (다음 좌표는 그대로 통과)
+     */
+    void reset();
+
+    /**
+     * 설정 및 선택에 쓰이는 필터 이름
+     */
+    String name();
+}
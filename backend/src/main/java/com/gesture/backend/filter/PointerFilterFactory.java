@@ -0,0 +1,66 @@
+package com.gesture.backend.filter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 설정값으로 포인터 필터를 생성 (세션마다 새 인스턴스)
+ */
+@Component
+public class PointerFilterFactory {
+
+    private final String defaultType;
+    private final double emaAlpha;
+    private final double oneEuroMinCutoff;
+    private final double oneEuroBeta;
+    private final double oneEuroDerivativeCutoff;
+    private final double kalmanProcessNoise;
+    private final double kalmanMeasurementNoise;
+    private final double kalmanPredictionSeconds;
+
+    public PointerFilterFactory(@Value("${gesture.pointer.filter.default:ema}") String defaultType,
+                                @Value("${gesture.pointer.filter.ema.alpha:0.3}") double emaAlpha,
+                                @Value("${gesture.pointer.filter.one-euro.min-cutoff:1.0}") double oneEuroMinCutoff,
+                                @Value("${gesture.pointer.filter.one-euro.beta:0.007}") double oneEuroBeta,
+                                @Value("${gesture.pointer.filter.one-euro.derivative-cutoff:1.0}") double oneEuroDerivativeCutoff,
+                                @Value("${gesture.pointer.filter.kalman.process-noise:4000000}") double kalmanProcessNoise,
+                                @Value("${gesture.pointer.filter.kalman.measurement-noise:25}") double kalmanMeasurementNoise,
+                                @Value("${gesture.pointer.filter.kalman.prediction-ms:30}") long kalmanPredictionMs) {
+        this.defaultType = defaultType;
+        this.emaAlpha = emaAlpha;
+        this.oneEuroMinCutoff = oneEuroMinCutoff;
+        this.oneEuroBeta = oneEuroBeta;
+        this.oneEuroDerivativeCutoff = oneEuroDerivativeCutoff;
+        this.kalmanProcessNoise = kalmanProcessNoise;
+        this.kalmanMeasurementNoise = kalmanMeasurementNoise;
+        this.kalmanPredictionSeconds = kalmanPredictionMs / 1000.0;
+        // 잘못된 기본값은 기동 시점에 드러나도록 한 번 생성해 본다
+        create(defaultType);
+    }
+
+    /**
+     * 기본 설정 필터 생성
+     */
+    public PointerFilter createDefault() {
+        return create(defaultType);
+    }
+
+    /**
+     * 이름으로 필터 생성 (ema, one-euro, kalman)
+     */
+    public PointerFilter create(String type) {
+        if (type == null) {
+            throw new IllegalArgumentException("필터 타입은 필수입니다");
+        }
+        switch (type.toLowerCase()) {
+            case EmaPointerFilter.NAME:
+                return new EmaPointerFilter(emaAlpha);
+            case OneEuroPointerFilter.NAME:
+                return new OneEuroPointerFilter(oneEuroMinCutoff, oneEuroBeta, oneEuroDerivativeCutoff);
+            case KalmanPointerFilter.NAME:
+                return new KalmanPointerFilter(kalmanProcessNoise, kalmanMeasurementNoise, kalmanPredictionSeconds);
+            default:
+                throw new IllegalArgumentException("지원하지 않는 포인터 필터: " + type);
+        }
+    }
+}
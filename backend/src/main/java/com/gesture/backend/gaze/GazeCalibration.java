@@ -0,0 +1,83 @@
+package com.gesture.backend.gaze;
+
+/**
+ * 적합이 끝난 사용자별 시선 보정 (불변)
+ *
+ * 시선 특징값 (u, v) 을 정규화 화면 좌표로 옮기는 2차 다항식 계수와, 보정 당시의 화면 크기를 가진다.
+ * 매핑은 항 6개의 곱셈/덧셈뿐이며 할당하지 않는다.
+ */
+public final class GazeCalibration {
+
+    private final float[] coefficientsX;
+    private final float[] coefficientsY;
+    private final int screenWidth;
+    private final int screenHeight;
+    private final int samples;
+    private final double error;
+    private final long fittedAt;
+
+    GazeCalibration(double[] coefficientsX, double[] coefficientsY, int screenWidth, int screenHeight,
+                    int samples, double error, long fittedAt) {
+        this.coefficientsX = toFloats(coefficientsX);
+        this.coefficientsY = toFloats(coefficientsY);
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+        this.samples = samples;
+        this.error = error;
+        this.fittedAt = fittedAt;
+    }
+
+    /**
+     * 화면 x 픽셀 (화면 밖은 가장자리로 고정)
+     */
+    public int mapX(float u, float v) {
+        return toPixel(evaluate(coefficientsX, u, v), screenWidth);
+    }
+
+    /**
+     * 화면 y 픽셀 (화면 밖은 가장자리로 고정)
+     */
+    public int mapY(float u, float v) {
+        return toPixel(evaluate(coefficientsY, u, v), screenHeight);
+    }
+
+    public int getScreenWidth() {
+        return screenWidth;
+    }
+
+    public int getScreenHeight() {
+        return screenHeight;
+    }
+
+    public int getSamples() {
+        return samples;
+    }
+
+    /**
+     * 보정 표본의 평균 제곱근 오차 (픽셀 환산, 가로/세로 크기 평균 기준)
+     */
+    public double getErrorPixels() {
+        return error * (screenWidth + screenHeight) * 0.5;
+    }
+
+    public long getFittedAt() {
+        return fittedAt;
+    }
+
+    private static float evaluate(float[] c, float u, float v) {
+        return c[0] + c[1] * u + c[2] * v + c[3] * u * v + c[4] * u * u + c[5] * v * v;
+    }
+
+    private static int toPixel(float normalized, int size) {
+        float clamped = Math.max(0f, Math.min(1f, normalized));
+        return Math.round(clamped * (size - 1));
+    }
+
+    private static float[] toFloats(double[] values) {
+        float[] result = new float[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = (float) values[i];
+        }
+        return result;
+    }
+}
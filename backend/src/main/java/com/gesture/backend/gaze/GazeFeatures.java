@@ -0,0 +1,67 @@
+package com.gesture.backend.gaze;
+
+import com.gesture.backend.protocol.LandmarkFrame;
+
+/**
+ * 랜드마크 프레임에서 시선 특징값 (u, v) 추출
+ *
+ * 클라이언트가 시선 좌표를 보냈으면 그대로 쓰고, 없으면 FaceMesh 홍채 포인트가 눈꼬리/눈꺼풀 사이에서
+ * 차지하는 상대 위치를 양쪽 눈 평균으로 구한다. 추출할 수 없으면 NaN 을 반환한다 (할당 없음).
+ */
+final class GazeFeatures {
+
+    // MediaPipe FaceMesh (refineLandmarks) 인덱스, 이미지 x 가 커지는 방향으로 짝지음
+    private static final int RIGHT_IRIS = 468;
+    private static final int RIGHT_EYE_OUTER = 33;
+    private static final int RIGHT_EYE_INNER = 133;
+    private static final int RIGHT_EYE_TOP = 159;
+    private static final int RIGHT_EYE_BOTTOM = 145;
+    private static final int LEFT_IRIS = 473;
+    private static final int LEFT_EYE_INNER = 362;
+    private static final int LEFT_EYE_OUTER = 263;
+    private static final int LEFT_EYE_TOP = 386;
+    private static final int LEFT_EYE_BOTTOM = 374;
+
+    // 눈을 감았거나 얼굴이 너무 작으면 비율이 불안정하므로 버림
+    private static final float MIN_SPAN = 1e-3f;
+
+    private GazeFeatures() {}
+
+    static float horizontal(LandmarkFrame frame, float minConfidence) {
+        if (frame.hasGaze()) {
+            return frame.getGazeConfidence() >= minConfidence ? frame.getGazeX() : Float.NaN;
+        }
+        if (frame.getFacePointCount() < LandmarkFrame.MAX_FACE_POINTS) {
+            return Float.NaN;
+        }
+        float[] points = frame.facePoints();
+        float right = ratio(points, RIGHT_IRIS, RIGHT_EYE_OUTER, RIGHT_EYE_INNER, 0);
+        float left = ratio(points, LEFT_IRIS, LEFT_EYE_INNER, LEFT_EYE_OUTER, 0);
+        return (right + left) * 0.5f;
+    }
+
+    static float vertical(LandmarkFrame frame, float minConfidence) {
+        if (frame.hasGaze()) {
+            return frame.getGazeConfidence() >= minConfidence ? frame.getGazeY() : Float.NaN;
+        }
+        if (frame.getFacePointCount() < LandmarkFrame.MAX_FACE_POINTS) {
+            return Float.NaN;
+        }
+        float[] points = frame.facePoints();
+        float right = ratio(points, RIGHT_IRIS, RIGHT_EYE_TOP, RIGHT_EYE_BOTTOM, 1);
+        float left = ratio(points, LEFT_IRIS, LEFT_EYE_TOP, LEFT_EYE_BOTTOM, 1);
+        return (right + left) * 0.5f;
+    }
+
+    /**
+     * from → to 구간에서 iris 의 상대 위치 (axis 0: x, 1: y)
+     */
+    private static float ratio(float[] points, int iris, int from, int to, int axis) {
+        float start = points[from * LandmarkFrame.FLOATS_PER_FACE_POINT + axis];
+        float span = points[to * LandmarkFrame.FLOATS_PER_FACE_POINT + axis] - start;
+        if (Math.abs(span) < MIN_SPAN) {
+            return Float.NaN;
+        }
+        return (points[iris * LandmarkFrame.FLOATS_PER_FACE_POINT + axis] - start) / span;
+    }
+}
@@ -0,0 +1,321 @@
+package com.gesture.backend.gaze;
+
+import com.gesture.backend.metrics.GestureMetrics;
+import com.gesture.backend.protocol.LandmarkFrame;
+import com.gesture.backend.service.PackedPoint;
+import com.gesture.backend.service.ScreenStateService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 사용자별 시선 보정 및 시선 → 화면 좌표 매핑
+ *
+ * 보정 표본 (화면 목표 지점 + 그때의 시선 특징값) 은 사용자별 정규 방정식에 바로 누적되고,
+ * 적합은 전용 스레드에서 누적값만으로 다시 풀어 불변 GazeCalibration 을 교체한다.
+ * 시선 프레임 경로는 세션에 연결된 사용자의 최신 보정을 volatile 로 읽어 다항식만 계산하므로
+ * 보정 표본 수와 무관하게 상수 시간이며 락을 잡지 않는다.
+ * 보정은 사용자 키로 메모리에 캐시되어 같은 사용자의 새 세션에서도 다시 보정할 필요가 없다.
+ * 캐시는 접근 순서 LinkedHashMap 이며 세션 연결이 바뀌거나 끊길 때와 보정 경로에서만 락을 잡고 갱신한다
+ * (프레임마다 같은 userId 로 bind 해도 이미 연결되어 있으면 락 없이 반환).
+ * 가득 차면 연결된 세션이 없는 사용자 중 가장 오래 쓰이지 않은 것부터 버리므로
+ * 세션이 버려진 보정을 계속 가리키는 일은 없다 (프레임 경로의 사용자는 항상 연결되어 있음).
+ */
+@Service
+public class GazeService {
+
+    private static final Logger log = LoggerFactory.getLogger(GazeService.class);
+
+    private final ScreenStateService screenStateService;
+    private final GestureMetrics gestureMetrics;
+    private final int minSamples;
+    private final double ridge;
+    private final float minConfidence;
+    private final int maxUsers;
+    // 접근 순서 LRU (users 락으로 보호, 세션 연결 수도 같은 락에서 갱신)
+    private final LinkedHashMap<String, UserCalibration> users = new LinkedHashMap<>(16, 0.75f, true);
+    // 프레임 경로는 락 없이 읽고, 쓰기는 users 락 안에서만
+    private final Map<String, UserCalibration> sessions = new ConcurrentHashMap<>();
+    private final ExecutorService fitExecutor;
+
+    // 적합 스레드 전용 작업 공간 (단일 스레드에서만 접근)
+    private final NormalEquations fitEquations = new NormalEquations();
+
+    public GazeService(ScreenStateService screenStateService, GestureMetrics gestureMetrics,
+                       @Value("${gesture.gaze.min-samples:9}") int minSamples,
+                       @Value("${gesture.gaze.ridge:0.000001}") double ridge,
+                       @Value("${gesture.gaze.min-confidence:0.5}") float minConfidence,
+                       @Value("${gesture.gaze.max-users:1024}") int maxUsers) {
+        this.screenStateService = screenStateService;
+        this.gestureMetrics = gestureMetrics;
+        // 2차 다항식 항 수보다 적은 표본으로는 풀 수 없음
+        this.minSamples = Math.max(minSamples, NormalEquations.TERMS);
+        this.ridge = ridge;
+        this.minConfidence = minConfidence;
+        this.maxUsers = maxUsers;
+        this.fitExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "gaze-calibration");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 세션을 사용자 보정에 연결 (userId 가 비어 있으면 세션 단위로 보정)
+     */
+    public void bind(String sessionId, String userId) {
+        String key = userId == null || userId.isBlank() ? sessionId : userId;
+        UserCalibration current = sessions.get(sessionId);
+        if (current != null && current.userId.equals(key)) {
+            // 연결된 사용자는 버려지지 않으므로 접근 순서는 연결이 끊길 때 갱신해도 충분 (프레임 경로, 락 없음)
+            return;
+        }
+        synchronized (users) {
+            current = sessions.get(sessionId);
+            if (current != null && current.userId.equals(key)) {
+                return;
+            }
+            attach(sessionId, user(key), current);
+        }
+    }
+
+    /**
+     * 보정 표본 추가 (화면 목표 지점 targetX/Y 를 보고 있을 때의 프레임)
+     *
+     * @return 누적된 표본 수
+     */
+    public int addSample(String sessionId, LandmarkFrame frame, int targetX, int targetY) {
+        float u = GazeFeatures.horizontal(frame, minConfidence);
+        float v = GazeFeatures.vertical(frame, minConfidence);
+        if (Float.isNaN(u) || Float.isNaN(v)) {
+            throw new IllegalArgumentException("시선 특징을 추출할 수 없습니다 (gaze 또는 홍채 포함 face 필요)");
+        }
+        int width = screenStateService.getScreenWidth();
+        int height = screenStateService.getScreenHeight();
+        if (targetX < 0 || targetY < 0 || targetX >= width || targetY >= height) {
+            throw new IllegalArgumentException("보정 지점이 화면 밖입니다: " + targetX + ", " + targetY);
+        }
+
+        UserCalibration user = sessionUser(sessionId);
+        int samples;
+        synchronized (user) {
+            // 목표는 정규화 좌표로 적합하고 매핑 시 보정 당시 화면 크기를 곱한다
+            user.equations.add(u, v, targetX / (double) (width - 1), targetY / (double) (height - 1));
+            user.screenWidth = width;
+            user.screenHeight = height;
+            samples = user.equations.samples();
+        }
+        if (samples >= minSamples) {
+            scheduleFit(user);
+        }
+        return samples;
+    }
+
+    /**
+     * 세션 사용자의 보정 표본과 적합 결과 삭제
+     */
+    public void reset(String sessionId) {
+        UserCalibration user = sessionUser(sessionId);
+        synchronized (user) {
+            user.equations.clear();
+            user.calibration = null;
+            user.generation++;
+        }
+    }
+
+    /**
+     * 시선 프레임을 화면 좌표로 변환 (보정 전이거나 특징값이 없으면 PackedPoint.EMPTY)
+     */
+    public long map(String sessionId, LandmarkFrame frame) {
+        UserCalibration user = sessions.get(sessionId);
+        if (user == null) {
+            return PackedPoint.EMPTY;
+        }
+        GazeCalibration calibration = user.calibration;
+        if (calibration == null) {
+            return PackedPoint.EMPTY;
+        }
+        float u = GazeFeatures.horizontal(frame, minConfidence);
+        float v = GazeFeatures.vertical(frame, minConfidence);
+        if (Float.isNaN(u) || Float.isNaN(v)) {
+            return PackedPoint.EMPTY;
+        }
+        return PackedPoint.pack(calibration.mapX(u, v), calibration.mapY(u, v));
+    }
+
+    /**
+     * 세션 사용자의 현재 보정 (없으면 null)
+     */
+    public GazeCalibration getCalibration(String sessionId) {
+        UserCalibration user = sessions.get(sessionId);
+        return user != null ? user.calibration : null;
+    }
+
+    /**
+     * 보정 경로용 세션 사용자 조회 (연결 전이면 세션 단위로 연결, 접근 순서 갱신)
+     */
+    private UserCalibration sessionUser(String sessionId) {
+        synchronized (users) {
+            UserCalibration user = sessions.get(sessionId);
+            if (user != null) {
+                users.get(user.userId);
+                return user;
+            }
+            user = user(sessionId);
+            attach(sessionId, user, null);
+            return user;
+        }
+    }
+
+    /**
+     * 캐시된 사용자 보정 (없으면 만들고, 가득 차면 먼저 하나를 버림) - users 락 안에서 호출
+     */
+    private UserCalibration user(String userId) {
+        UserCalibration user = users.get(userId);
+        if (user != null) {
+            return user;
+        }
+        if (users.size() >= maxUsers) {
+            evictLeastRecentlyUsed();
+        }
+        user = new UserCalibration(userId);
+        users.put(userId, user);
+        return user;
+    }
+
+    /**
+     * 세션 연결을 user 로 옮김 - users 락 안에서 호출
+     */
+    private void attach(String sessionId, UserCalibration user, UserCalibration previous) {
+        if (previous != null) {
+            detach(previous);
+        }
+        user.boundSessions++;
+        sessions.put(sessionId, user);
+    }
+
+    /**
+     * 세션 연결 해제 - 마지막 사용 시점으로 접근 순서를 갱신 (users 락 안에서 호출)
+     */
+    private void detach(UserCalibration user) {
+        user.boundSessions--;
+        users.get(user.userId);
+    }
+
+    /**
+     * 연결된 세션이 없는 사용자 중 가장 오래 쓰이지 않은 보정을 버림 - users 락 안에서 호출
+     * 모두 연결되어 있으면 버리지 않고 한도를 잠시 넘긴다 (세션이 끊기면 다음 삽입에서 정리).
+     */
+    private void evictLeastRecentlyUsed() {
+        Iterator<UserCalibration> iterator = users.values().iterator();
+        while (iterator.hasNext()) {
+            UserCalibration user = iterator.next();
+            if (user.boundSessions == 0) {
+                iterator.remove();
+                log.debug("시선 보정 캐시에서 제거: {}", user.userId);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 재적합 예약 (이미 예약되어 있다면 그 작업이 최신 누적값을 가져감)
+     */
+    private void scheduleFit(UserCalibration user) {
+        if (user.fitScheduled.compareAndSet(false, true)) {
+            try {
+                fitExecutor.execute(() -> fit(user));
+            } catch (RejectedExecutionException e) {
+                user.fitScheduled.set(false);
+            }
+        }
+    }
+
+    private void fit(UserCalibration user) {
+        int screenWidth;
+        int screenHeight;
+        int generation;
+        // 복사 전에 플래그를 내려 풀이 중 들어온 표본은 다음 적합으로 이어지게 한다
+        user.fitScheduled.set(false);
+        synchronized (user) {
+            user.equations.copyTo(fitEquations);
+            screenWidth = user.screenWidth;
+            screenHeight = user.screenHeight;
+            generation = user.generation;
+        }
+        if (fitEquations.samples() < minSamples) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        double[] coefficientsX = new double[NormalEquations.TERMS];
+        double[] coefficientsY = new double[NormalEquations.TERMS];
+        double error = fitEquations.solve(ridge, coefficientsX, coefficientsY);
+        gestureMetrics.recordGazeFit(System.nanoTime() - start);
+        if (Double.isNaN(error)) {
+            log.debug("시선 보정 적합 실패 ({}): 표본이 한쪽에 몰려 있습니다", user.userId);
+            return;
+        }
+
+        GazeCalibration calibration = new GazeCalibration(coefficientsX, coefficientsY, screenWidth, screenHeight,
+                fitEquations.samples(), error, System.currentTimeMillis());
+        synchronized (user) {
+            // 풀이 도중 reset 되었으면 이전 표본으로 만든 결과는 버림
+            if (user.generation == generation) {
+                user.calibration = calibration;
+            }
+        }
+        log.debug("👁️ 시선 보정 갱신: {} (표본 {}개, 오차 {}px)", user.userId, calibration.getSamples(),
+                Math.round(calibration.getErrorPixels()));
+    }
+
+    @EventListener
+    public void onSessionDisconnect(SessionDisconnectEvent event) {
+        removeSession(event.getSessionId());
+    }
+
+    public void removeSession(String sessionId) {
+        // 사용자 보정은 캐시에 남기고 세션 연결만 정리
+        synchronized (users) {
+            UserCalibration user = sessions.remove(sessionId);
+            if (user != null) {
+                detach(user);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fitExecutor.shutdownNow();
+    }
+
+    private static final class UserCalibration {
+        private final String userId;
+        private final NormalEquations equations = new NormalEquations();
+        private final AtomicBoolean fitScheduled = new AtomicBoolean();
+        private int screenWidth;
+        private int screenHeight;
+        // reset 횟수 (풀이 도중 초기화된 경우를 구분)
+        private int generation;
+        private volatile GazeCalibration calibration;
+        // 이 보정에 연결된 세션 수 (users 락으로 보호, 0 일 때만 캐시에서 버릴 수 있음)
+        private int boundSessions;
+
+        private UserCalibration(String userId) {
+            this.userId = userId;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.gesture.backend.gaze;
+
+import java.util.Arrays;
+
+/**
+ * 2차 다항 회귀의 정규 방정식 누적기 (스레드 안전하지 않음, 호출자가 동기화)
+ *
+ * 항은 [1, u, v, uv, u², v²] 이고, 표본을 더할 때마다 AᵀA (상삼각) 와 x/y 별 Aᵀb 만 갱신하므로
+ * 표본 수와 무관하게 O(항²) 이다. 재적합 시에는 누적값만으로 풀기 때문에 표본을 보관하거나
+ * 다시 읽지 않는다. 풀이는 촐레스키 분해 (상수항을 제외한 대각에 ridge 를 더해 조건수를 제한).
+ */
+final class NormalEquations {
+
+    static final int TERMS = 6;
+
+    // 피벗이 원래 대각값의 이 비율 이하이면 (반올림 오차만 남은 것) 특이 행렬로 본다
+    private static final double PIVOT_EPSILON = 1e-12;
+
+    private final double[] gram = new double[TERMS * TERMS];
+    private final double[] momentX = new double[TERMS];
+    private final double[] momentY = new double[TERMS];
+    private final double[] row = new double[TERMS];
+    private double sumSquaresX;
+    private double sumSquaresY;
+    private int samples;
+
+    static void terms(double u, double v, double[] out) {
+        out[0] = 1;
+        out[1] = u;
+        out[2] = v;
+        out[3] = u * v;
+        out[4] = u * u;
+        out[5] = v * v;
+    }
+
+    void add(double u, double v, double targetX, double targetY) {
+        terms(u, v, row);
+        for (int i = 0; i < TERMS; i++) {
+            for (int j = i; j < TERMS; j++) {
+                gram[i * TERMS + j] += row[i] * row[j];
+            }
+            momentX[i] += row[i] * targetX;
+            momentY[i] += row[i] * targetY;
+        }
+        sumSquaresX += targetX * targetX;
+        sumSquaresY += targetY * targetY;
+        samples++;
+    }
+
+    void clear() {
+        Arrays.fill(gram, 0);
+        Arrays.fill(momentX, 0);
+        Arrays.fill(momentY, 0);
+        sumSquaresX = 0;
+        sumSquaresY = 0;
+        samples = 0;
+    }
+
+    void copyTo(NormalEquations target) {
+        System.arraycopy(gram, 0, target.gram, 0, gram.length);
+        System.arraycopy(momentX, 0, target.momentX, 0, TERMS);
+        System.arraycopy(momentY, 0, target.momentY, 0, TERMS);
+        target.sumSquaresX = sumSquaresX;
+        target.sumSquaresY = sumSquaresY;
+        target.samples = samples;
+    }
+
+    int samples() {
+        return samples;
+    }
+
+    /**
+     * x/y 계수를 풀어 coefficientsX/Y 에 기록
+     *
+     * @return 평균 제곱근 잔차 (정규화 화면 좌표), 행렬이 (수치적으로) 양의 정부호가 아니면 NaN
+     */
+    double solve(double ridge, double[] coefficientsX, double[] coefficientsY) {
+        // gram 은 누적용이므로 분해는 작업 배열에서 (하삼각 L 에 기록)
+        double[] lower = new double[TERMS * TERMS];
+        for (int i = 0; i < TERMS; i++) {
+            for (int j = 0; j <= i; j++) {
+                double entry = gram[j * TERMS + i] + (i == j && i > 0 ? ridge * samples : 0);
+                double sum = entry;
+                for (int k = 0; k < j; k++) {
+                    sum -= lower[i * TERMS + k] * lower[j * TERMS + k];
+                }
+                if (i == j) {
+                    if (sum <= entry * PIVOT_EPSILON) {
+                        return Double.NaN;
+                    }
+                    lower[i * TERMS + i] = Math.sqrt(sum);
+                } else {
+                    lower[i * TERMS + j] = sum / lower[j * TERMS + j];
+                }
+            }
+        }
+        substitute(lower, momentX, coefficientsX);
+        substitute(lower, momentY, coefficientsY);
+        double residual = residual(coefficientsX, momentX, sumSquaresX) + residual(coefficientsY, momentY, sumSquaresY);
+        return Math.sqrt(Math.max(residual, 0) / (2.0 * samples));
+    }
+
+    /**
+     * L Lᵀ c = b 전진/후진 대입
+     */
+    private static void substitute(double[] lower, double[] moment, double[] out) {
+        for (int i = 0; i < TERMS; i++) {
+            double sum = moment[i];
+            for (int k = 0; k < i; k++) {
+                sum -= lower[i * TERMS + k] * out[k];
+            }
+            out[i] = sum / lower[i * TERMS + i];
+        }
+        for (int i = TERMS - 1; i >= 0; i--) {
+            double sum = out[i];
+            for (int k = i + 1; k < TERMS; k++) {
+                sum -= lower[k * TERMS + i] * out[k];
+            }
+            out[i] = sum / lower[i * TERMS + i];
+        }
+    }
+
+    /**
+     * 잔차 제곱합 |Ac - b|² = bᵀb - 2cᵀAᵀb + cᵀAᵀAc (누적값만으로 계산)
+     */
+    private double residual(double[] coefficients, double[] moment, double sumSquares) {
+        double quadratic = 0;
+        double linear = 0;
+        for (int i = 0; i < TERMS; i++) {
+            linear += coefficients[i] * moment[i];
+            for (int j = 0; j < TERMS; j++) {
+                double entry = i <= j ? gram[i * TERMS + j] : gram[j * TERMS + i];
+                quadratic += coefficients[i] * entry * coefficients[j];
+            }
+        }
+        return sumSquares - 2 * linear + quadratic;
+    }
+}
@@ -0,0 +1,160 @@
+package com.gesture.backend.gesture;
+
+import com.gesture.backend.protocol.LandmarkFrame;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서버측 손 제스처 분류기
+ *
+ * 프레임 단위 포즈(손가락 펴짐, 핀치 거리)와 세션별 시간 상태 머신(더블클릭, 스크롤 스와이프,
+ * 손바닥 홀드)을 조합해 기존 제스처 타입으로 분류한다. 분류 과정에서 객체를 할당하지 않는다.
+ */
+@Service
+public class GestureClassifier {
+
+    // PIP/DIP 관절 코사인이 이 값보다 작으면(약 145도 이상) 펴진 손가락으로 간주
+    private static final float EXTENDED_COSINE = -0.82f;
+    // 손 크기 대비 핀치 진입/해제 거리 (히스테리시스)
+    private static final float PINCH_ENTER = 0.25f;
+    private static final float PINCH_EXIT = 0.35f;
+    private static final long DOUBLE_CLICK_WINDOW_MS = 400;
+    private static final long PALM_HOLD_MS = 800;
+    // 스크롤로 인정할 세로 이동량 (정규화 좌표)
+    private static final float SCROLL_STEP = 0.06f;
+
+    private final Map<String, SessionState> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * 주 손(confidence 가 가장 높은 손)을 분류 (인식된 제스처가 없으면 null)
+     */
+    public GestureType classify(String sessionId, LandmarkFrame frame) {
+        int hand = frame.primaryHand();
+        if (hand < 0) {
+            return null;
+        }
+        SessionState state = sessions.computeIfAbsent(sessionId, id -> new SessionState());
+        synchronized (state) {
+            return classify(state, frame.points(), HandGeometry.handOffset(hand), frame.getTimestamp());
+        }
+    }
+
+    private GestureType classify(SessionState state, float[] points, int base, long now) {
+        float scale = HandGeometry.handScale(points, base);
+        if (scale <= 0f) {
+            return null;
+        }
+
+        boolean index = HandGeometry.isFingerExtended(points, base, HandGeometry.INDEX_MCP, EXTENDED_COSINE);
+        boolean middle = HandGeometry.isFingerExtended(points, base, HandGeometry.MIDDLE_MCP, EXTENDED_COSINE);
+        boolean ring = HandGeometry.isFingerExtended(points, base, HandGeometry.RING_MCP, EXTENDED_COSINE);
+        boolean pinky = HandGeometry.isFingerExtended(points, base, HandGeometry.PINKY_MCP, EXTENDED_COSINE);
+
+        float indexPinch = HandGeometry.distance(points, base, HandGeometry.THUMB_TIP, HandGeometry.INDEX_TIP) / scale;
+        float middlePinch = HandGeometry.distance(points, base, HandGeometry.THUMB_TIP, HandGeometry.MIDDLE_TIP) / scale;
+
+        // 1. 엄지-검지 핀치: 눌리는 순간 한 번만 클릭, 짧은 간격으로 두 번이면 더블클릭
+        if (!state.indexPinched && indexPinch < PINCH_ENTER) {
+            state.indexPinched = true;
+            state.resetContinuous();
+            if (now - state.lastClickAt <= DOUBLE_CLICK_WINDOW_MS) {
+                state.lastClickAt = Long.MIN_VALUE / 2;
+                return GestureType.DOUBLE_CLICK;
+            }
+            state.lastClickAt = now;
+            return GestureType.LEFT_CLICK;
+        }
+        if (state.indexPinched) {
+            if (indexPinch > PINCH_EXIT) {
+                state.indexPinched = false;
+            }
+            return null;
+        }
+
+        // 2. 엄지-중지 핀치: 우클릭
+        if (!state.middlePinched && middlePinch < PINCH_ENTER) {
+            state.middlePinched = true;
+            state.resetContinuous();
+            return GestureType.RIGHT_CLICK;
+        }
+        if (state.middlePinched) {
+            if (middlePinch > PINCH_EXIT) {
+                state.middlePinched = false;
+            }
+            return null;
+        }
+
+        // 3. 손바닥 펴고 유지: ESC
+        if (index && middle && ring && pinky) {
+            state.scrolling = false;
+            if (state.palmSince == Long.MIN_VALUE) {
+                state.palmSince = now;
+            } else if (!state.palmFired && now - state.palmSince >= PALM_HOLD_MS) {
+                state.palmFired = true;
+                return GestureType.ESCAPE;
+            }
+            return null;
+        }
+        state.palmSince = Long.MIN_VALUE;
+        state.palmFired = false;
+
+        // 4. 검지+중지: 세로 스와이프로 스크롤
+        if (index && middle && !ring && !pinky) {
+            float y = HandGeometry.y(points, base, HandGeometry.INDEX_TIP);
+            if (!state.scrolling) {
+                state.scrolling = true;
+                state.scrollAnchorY = y;
+                return null;
+            }
+            float delta = y - state.scrollAnchorY;
+            if (delta <= -SCROLL_STEP) {
+                state.scrollAnchorY = y;
+                return GestureType.SCROLL_UP;
+            }
+            if (delta >= SCROLL_STEP) {
+                state.scrollAnchorY = y;
+                return GestureType.SCROLL_DOWN;
+            }
+            return null;
+        }
+        state.scrolling = false;
+
+        // 5. 검지만 펴기: 포인터 이동
+        if (index && !middle && !ring && !pinky) {
+            return GestureType.MOUSE_POINTER;
+        }
+        return null;
+    }
+
+    @EventListener
+    public void onSessionDisconnect(SessionDisconnectEvent event) {
+        removeSession(event.getSessionId());
+    }
+
+    public void removeSession(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    /**
+     * 세션별 시간 상태 (primitive 필드만 사용)
+     */
+    private static final class SessionState {
+        private boolean indexPinched;
+        private boolean middlePinched;
+        private long lastClickAt = Long.MIN_VALUE / 2;
+        private long palmSince = Long.MIN_VALUE;
+        private boolean palmFired;
+        private boolean scrolling;
+        private float scrollAnchorY;
+
+        private void resetContinuous() {
+            palmSince = Long.MIN_VALUE;
+            palmFired = false;
+            scrolling = false;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.gesture.backend.gesture;
+
+import com.gesture.backend.dto.GestureDto;
+
+import java.util.function.BiConsumer;
+
+/**
+ * 제스처 실행 핸들러
+ *
+ * 빈으로 등록하면 GestureHandlerRegistry 가 타입별 테이블에 넣는다.
+ * execute 는 기본적으로 세션 액션 레인에서 실행되며, inline 핸들러는 인바운드 스레드에서 바로 실행된다.
+ */
+public interface GestureHandler {
+
+    GestureType type();
+
+    String successMessage();
+
+    void execute(String sessionId, GestureDto.CommandRequest request);
+
+    /**
+     * 실행에 필요한 파라미터가 있는지 확인
+     */
+    default boolean accepts(GestureDto.CommandRequest request) {
+        return true;
+    }
+
+    /**
+     * 액션 레인을 거치지 않고 인바운드 스레드에서 바로 실행할지 여부
+     */
+    default boolean inline() {
+        return false;
+    }
+
+    /**
+     * 세션 액션 레인에서 실행되는 단순 핸들러
+     */
+    static GestureHandler of(GestureType type, String successMessage,
+                             BiConsumer<String, GestureDto.CommandRequest> action) {
+        return new GestureHandler() {
+            @Override
+            public GestureType type() {
+                return type;
+            }
+
+            @Override
+            public String successMessage() {
+                return successMessage;
+            }
+
+            @Override
+            public void execute(String sessionId, GestureDto.CommandRequest request) {
+                action.accept(sessionId, request);
+            }
+        };
+    }
+}
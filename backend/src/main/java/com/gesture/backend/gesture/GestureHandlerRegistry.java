@@ -0,0 +1,33 @@
+package com.gesture.backend.gesture;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * GestureType ordinal 로 인덱싱되는 제스처 핸들러 테이블
+ *
+ * 시작 시 등록된 GestureHandler 빈으로 한 번 구성되며, 조회는 배열 접근 한 번이다.
+ */
+@Component
+public class GestureHandlerRegistry {
+
+    private final GestureHandler[] handlers = new GestureHandler[GestureType.values().length];
+
+    public GestureHandlerRegistry(List<GestureHandler> gestureHandlers) {
+        for (GestureHandler handler : gestureHandlers) {
+            int index = handler.type().ordinal();
+            if (handlers[index] != null) {
+                throw new IllegalStateException("제스처 핸들러가 중복 등록되었습니다: " + handler.type());
+            }
+            handlers[index] = handler;
+        }
+    }
+
+    /**
+     * @return 등록된 핸들러, 타입이 null 이거나 핸들러가 없으면 null
+     */
+    public GestureHandler get(GestureType type) {
+        return type == null ? null : handlers[type.ordinal()];
+    }
+}
@@ -0,0 +1,42 @@
+package com.gesture.backend.gesture;
+
+/**
+ * 백엔드에서 지원하는 제스처 타입 (wireName 은 클라이언트와 주고받는 문자열)
+ */
+public enum GestureType {
+    MOUSE_POINTER("mouse_pointer"),
+    LEFT_CLICK("left_click"),
+    RIGHT_CLICK("right_click"),
+    DOUBLE_CLICK("double_click"),
+    SCROLL_UP("scroll_up"),
+    SCROLL_DOWN("scroll_down"),
+    ESCAPE("escape");
+
+    private static final GestureType[] VALUES = values();
+
+    private final String wireName;
+
+    GestureType(String wireName) {
+        this.wireName = wireName;
+    }
+
+    public String getWireName() {
+        return wireName;
+    }
+
+    /**
+     * 클라이언트 문자열을 타입으로 변환 (대소문자 무시, 알 수 없으면 null)
+     * 역직렬화 시 한 번만 호출되며 문자열을 새로 만들지 않는다
+     */
+    public static GestureType fromWireName(String wireName) {
+        if (wireName == null) {
+            return null;
+        }
+        for (GestureType type : VALUES) {
+            if (type.wireName.equalsIgnoreCase(wireName)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,81 @@
+package com.gesture.backend.gesture;
+
+import com.gesture.backend.protocol.LandmarkFrame;
+
+/**
+ * 평탄화된 랜드마크 배열 위에서 동작하는 할당 없는 기하 연산
+ *
+ * 랜드마크 인덱스는 MediaPipe Hands 기준 (0: 손목, 4: 엄지 끝, 8: 검지 끝, 12: 중지 끝 ...)
+ */
+public final class HandGeometry {
+
+    public static final int WRIST = 0;
+    public static final int THUMB_TIP = 4;
+    public static final int INDEX_MCP = 5;
+    public static final int INDEX_TIP = 8;
+    public static final int MIDDLE_MCP = 9;
+    public static final int MIDDLE_TIP = 12;
+    public static final int RING_MCP = 13;
+    public static final int PINKY_MCP = 17;
+
+    private HandGeometry() {}
+
+    /**
+     * 손의 시작 오프셋 (points 배열 기준)
+     */
+    public static int handOffset(int hand) {
+        return hand * LandmarkFrame.FLOATS_PER_HAND;
+    }
+
+    /**
+     * 두 랜드마크 사이의 3차원 거리
+     */
+    public static float distance(float[] points, int base, int a, int b) {
+        int ia = base + a * LandmarkFrame.FLOATS_PER_LANDMARK;
+        int ib = base + b * LandmarkFrame.FLOATS_PER_LANDMARK;
+        float dx = points[ia] - points[ib];
+        float dy = points[ia + 1] - points[ib + 1];
+        float dz = points[ia + 2] - points[ib + 2];
+        return (float) Math.sqrt(dx * dx + dy * dy + dz * dz);
+    }
+
+    /**
+     * 관절 joint 에서 두 이웃 관절이 이루는 각의 코사인 (-1 이면 완전히 펴진 상태)
+     */
+    public static float jointCosine(float[] points, int base, int prev, int joint, int next) {
+        int ip = base + prev * LandmarkFrame.FLOATS_PER_LANDMARK;
+        int ij = base + joint * LandmarkFrame.FLOATS_PER_LANDMARK;
+        int in = base + next * LandmarkFrame.FLOATS_PER_LANDMARK;
+        float ax = points[ip] - points[ij];
+        float ay = points[ip + 1] - points[ij + 1];
+        float az = points[ip + 2] - points[ij + 2];
+        float bx = points[in] - points[ij];
+        float by = points[in + 1] - points[ij + 1];
+        float bz = points[in + 2] - points[ij + 2];
+        float norm = (float) Math.sqrt((ax * ax + ay * ay + az * az) * (bx * bx + by * by + bz * bz));
+        if (norm == 0f) {
+            return 0f;
+        }
+        return (ax * bx + ay * by + az * bz) / norm;
+    }
+
+    /**
+     * 손가락 펴짐 여부 (mcp 기준 PIP 관절 각도로 판단)
+     */
+    public static boolean isFingerExtended(float[] points, int base, int mcp, float maxCosine) {
+        // mcp, pip, dip, tip 순서로 연속된 인덱스
+        return jointCosine(points, base, mcp, mcp + 1, mcp + 2) < maxCosine
+                && jointCosine(points, base, mcp + 1, mcp + 2, mcp + 3) < maxCosine;
+    }
+
+    /**
+     * 손 크기 기준 길이 (손목 ~ 중지 MCP), 거리 정규화에 사용
+     */
+    public static float handScale(float[] points, int base) {
+        return distance(points, base, WRIST, MIDDLE_MCP);
+    }
+
+    public static float y(float[] points, int base, int landmark) {
+        return points[base + landmark * LandmarkFrame.FLOATS_PER_LANDMARK + 1];
+    }
+}
@@ -0,0 +1,32 @@
+package com.gesture.backend.input;
+
+import java.awt.GraphicsDevice;
+import java.awt.GraphicsEnvironment;
+import java.awt.Rectangle;
+
+/**
+ * AWT 로 조회한 모니터 영역 (가상 데스크톱 좌표, 기본 모니터가 첫 번째, 모니터가 없으면 빈 배열)
+ */
+final class AwtScreens {
+
+    private AwtScreens() {}
+
+    static Rectangle[] bounds() {
+        GraphicsEnvironment environment = GraphicsEnvironment.getLocalGraphicsEnvironment();
+        GraphicsDevice[] devices = environment.getScreenDevices();
+        if (devices.length == 0) {
+            // 모니터가 모두 분리된 순간 (원격 세션 전환 등): 빈 구성으로 보고 다음 조회에서 복구
+            return new Rectangle[0];
+        }
+        GraphicsDevice primary = environment.getDefaultScreenDevice();
+        Rectangle[] bounds = new Rectangle[devices.length];
+        bounds[0] = primary.getDefaultConfiguration().getBounds();
+        int next = 1;
+        for (GraphicsDevice device : devices) {
+            if (device != primary && next < bounds.length) {
+                bounds[next++] = device.getDefaultConfiguration().getBounds();
+            }
+        }
+        return bounds;
+    }
+}
@@ -0,0 +1,44 @@
+package com.gesture.backend.input;
+
+import java.awt.Dimension;
+import java.awt.Point;
+import java.awt.Rectangle;
+
+/**
+ * 입력 장치 백엔드 (AWT Robot, JNA 네이티브, 가상 장치)
+ *
+ * 버튼은 InputEvent.BUTTONn_DOWN_MASK, 키는 KeyEvent.VK_* 값을 사용하며 휠은 양수가 아래 방향이다 (Robot 과 동일).
+ * 이벤트 메서드는 InputDispatcher 의 디바이스 스레드에서만 호출된다 (포인터 이동 포함).
+ */
+public interface InputDevice extends AutoCloseable {
+
+    String name();
+
+    void mouseMove(int x, int y);
+
+    void mousePress(int buttons);
+
+    void mouseRelease(int buttons);
+
+    void mouseWheel(int notches);
+
+    void keyPress(int keyCode);
+
+    void keyRelease(int keyCode);
+
+    Point getPointerLocation();
+
+    Dimension getScreenSize();
+
+    /**
+     * 모든 모니터 영역 (가상 데스크톱 좌표, 기본 모니터가 첫 번째)
+     * 네이티브 조회이므로 호출 경로에서는 ScreenStateService 의 캐시를 사용한다.
+     */
+    default Rectangle[] getScreenBounds() {
+        return new Rectangle[] {new Rectangle(getScreenSize())};
+    }
+
+    @Override
+    default void close() {
+    }
+}
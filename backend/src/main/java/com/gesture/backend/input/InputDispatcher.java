@@ -0,0 +1,135 @@
+package com.gesture.backend.input;
+
+import com.gesture.backend.logging.LogSampler;
+import com.gesture.backend.service.PackedPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 입력 장치를 단독으로 소유하는 디바이스 스레드
+ *
+ * InputSequence 하나를 중간에 다른 요청이 끼어들지 않도록 한 번에 실행한다.
+ * 포인터 이동도 최신 값만 남기는 슬롯에 넣고 같은 스레드가 시퀀스 사이에서 꺼내 실행하므로,
+ * 시퀀스의 MOVE 와 MOUSE_PRESS 사이에 다른 이동이 끼어들지 않는다.
+ * 실제 이벤트 출력은 InputDevice 구현(Robot, JNA, 가상 장치)이 담당한다.
+ */
+public class InputDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(InputDispatcher.class);
+    private static final LogSampler MOVE_FAILURE_LOG_SAMPLER = new LogSampler(5, Duration.ofSeconds(1));
+
+    private final InputDevice device;
+    private final ExecutorService deviceThread;
+    // 아직 실행되지 않은 최신 포인터 좌표 (PackedPoint, 없으면 EMPTY)
+    private final AtomicLong pendingMove = new AtomicLong(PackedPoint.EMPTY);
+    private final AtomicBoolean moveScheduled = new AtomicBoolean(false);
+
+    public InputDispatcher(InputDevice device) {
+        this.device = device;
+        this.deviceThread = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "input-device");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 시퀀스 실행 요청 (디바이스 스레드에서 순서대로 실행)
+     */
+    public CompletableFuture<Void> submit(InputSequence sequence) {
+        return CompletableFuture.runAsync(() -> execute(sequence), deviceThread);
+    }
+
+    /**
+     * 포인터 이동 요청 (최신 값 우선, 실행 전에 들어온 이전 좌표는 버림)
+     */
+    public void move(int x, int y) {
+        pendingMove.set(PackedPoint.pack(x, y));
+        if (moveScheduled.compareAndSet(false, true)) {
+            try {
+                deviceThread.execute(this::drainMove);
+            } catch (RejectedExecutionException e) {
+                moveScheduled.set(false);
+            }
+        }
+    }
+
+    private void drainMove() {
+        // 플래그를 먼저 내려 꺼낸 뒤 들어온 좌표는 다음 작업으로 이어지게 한다
+        moveScheduled.set(false);
+        long packed = pendingMove.getAndSet(PackedPoint.EMPTY);
+        if (packed == PackedPoint.EMPTY) {
+            return;
+        }
+        try {
+            device.mouseMove(PackedPoint.x(packed), PackedPoint.y(packed));
+        } catch (RuntimeException e) {
+            if (MOVE_FAILURE_LOG_SAMPLER.tryAcquire()) {
+                log.warn("❌ 마우스 이동 실패 ({}): {}", device.name(), e.getMessage());
+            }
+        }
+    }
+
+    private void execute(InputSequence sequence) {
+        // 대기 중인 포인터 이동을 먼저 반영해 시퀀스가 최신 위치에서 시작하게 한다
+        drainMove();
+        for (int i = 0; i < sequence.size(); i++) {
+            int first = sequence.firstArg(i);
+            try {
+                switch (sequence.op(i)) {
+                    case InputSequence.MOVE -> device.mouseMove(first, sequence.secondArg(i));
+                    case InputSequence.MOUSE_PRESS -> device.mousePress(first);
+                    case InputSequence.MOUSE_RELEASE -> device.mouseRelease(first);
+                    case InputSequence.WHEEL -> device.mouseWheel(first);
+                    case InputSequence.KEY_PRESS -> device.keyPress(first);
+                    case InputSequence.KEY_RELEASE -> device.keyRelease(first);
+                    case InputSequence.DELAY -> sleep(first);
+                    default -> throw new IllegalStateException("알 수 없는 입력 이벤트: " + sequence.op(i));
+                }
+            } catch (RuntimeException e) {
+                releasePressed(sequence, i);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 시퀀스가 중간에 실패하면 그때까지 누른 키/버튼을 역순으로 뗌 (보조키가 눌린 채 남지 않도록)
+     * 이미 뗀 키를 다시 떼는 것은 무해하므로 짝을 맞추지 않는다.
+     */
+    private void releasePressed(InputSequence sequence, int failedIndex) {
+        for (int i = failedIndex - 1; i >= 0; i--) {
+            try {
+                switch (sequence.op(i)) {
+                    case InputSequence.KEY_PRESS -> device.keyRelease(sequence.firstArg(i));
+                    case InputSequence.MOUSE_PRESS -> device.mouseRelease(sequence.firstArg(i));
+                    default -> {
+                    }
+                }
+            } catch (RuntimeException ignored) {
+                // 복구 중 실패는 원래 예외를 가리지 않도록 무시
+            }
+        }
+    }
+
+    private static void sleep(int millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("입력 시퀀스 실행이 중단되었습니다", e);
+        }
+    }
+
+    public void shutdown() {
+        deviceThread.shutdownNow();
+    }
+}
@@ -0,0 +1,46 @@
+package com.gesture.backend.input;
+
+/**
+ * 가상 입력 장치가 기록한 이벤트 (type 은 InputSequence 의 이벤트 상수)
+ */
+public final class InputEventRecord {
+
+    private final long sequence;
+    private final int type;
+    private final int first;
+    private final int second;
+    private final long nanoTime;
+
+    public InputEventRecord(long sequence, int type, int first, int second, long nanoTime) {
+        this.sequence = sequence;
+        this.type = type;
+        this.first = first;
+        this.second = second;
+        this.nanoTime = nanoTime;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public int getType() {
+        return type;
+    }
+
+    public int getFirst() {
+        return first;
+    }
+
+    public int getSecond() {
+        return second;
+    }
+
+    public long getNanoTime() {
+        return nanoTime;
+    }
+
+    @Override
+    public String toString() {
+        return "InputEventRecord{seq=" + sequence + ", type=" + type + ", " + first + ", " + second + ", t=" + nanoTime + "}";
+    }
+}
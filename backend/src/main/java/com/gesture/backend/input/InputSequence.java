@@ -0,0 +1,174 @@
+package com.gesture.backend.input;
+
+import java.util.Arrays;
+
+/**
+ * 하나의 제스처를 구성하는 입력 이벤트 묶음 (불변)
+ *
+ * 이동/누름/뗌/휠/키 이벤트와 명시적인 대기 시간을 순서대로 담고 있으며,
+ * InputDispatcher 의 디바이스 스레드에서 자동 지연 없이 한 번에 실행된다.
+ * 자주 쓰는 시퀀스는 미리 만들어 두고 재사용할 수 있다.
+ */
+public final class InputSequence {
+
+    public static final int MOVE = 0;
+    public static final int MOUSE_PRESS = 1;
+    public static final int MOUSE_RELEASE = 2;
+    public static final int WHEEL = 3;
+    public static final int KEY_PRESS = 4;
+    public static final int KEY_RELEASE = 5;
+    public static final int DELAY = 6;
+
+    private final int[] ops;
+    private final int[] firstArgs;
+    private final int[] secondArgs;
+
+    private InputSequence(int[] ops, int[] firstArgs, int[] secondArgs) {
+        this.ops = ops;
+        this.firstArgs = firstArgs;
+        this.secondArgs = secondArgs;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 버튼 클릭 (누름 → holdMs 대기 → 뗌)
+     */
+    public static InputSequence click(int buttons, int holdMs) {
+        return builder().mousePress(buttons).delay(holdMs).mouseRelease(buttons).build();
+    }
+
+    /**
+     * 더블클릭 (클릭 → gapMs 대기 → 클릭)
+     */
+    public static InputSequence doubleClick(int buttons, int holdMs, int gapMs) {
+        return builder()
+                .mousePress(buttons).delay(holdMs).mouseRelease(buttons)
+                .delay(gapMs)
+                .mousePress(buttons).delay(holdMs).mouseRelease(buttons)
+                .build();
+    }
+
+    /**
+     * 키 조합 (순서대로 누르고 holdMs 뒤 역순으로 뗌)
+     */
+    public static InputSequence keyChord(int holdMs, int... keyCodes) {
+        Builder builder = builder();
+        for (int keyCode : keyCodes) {
+            builder.keyPress(keyCode);
+        }
+        builder.delay(holdMs);
+        for (int i = keyCodes.length - 1; i >= 0; i--) {
+            builder.keyRelease(keyCodes[i]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 휠 스크롤 (음수: 위, 양수: 아래)
+     */
+    public static InputSequence scroll(int notches) {
+        return builder().wheel(notches).build();
+    }
+
+    public int size() {
+        return ops.length;
+    }
+
+    public int op(int index) {
+        return ops[index];
+    }
+
+    public int firstArg(int index) {
+        return firstArgs[index];
+    }
+
+    public int secondArg(int index) {
+        return secondArgs[index];
+    }
+
+    /**
+     * 시퀀스에 포함된 대기 시간 합계 (ms)
+     */
+    public int totalDelayMs() {
+        int total = 0;
+        for (int i = 0; i < ops.length; i++) {
+            if (ops[i] == DELAY) {
+                total += firstArgs[i];
+            }
+        }
+        return total;
+    }
+
+    public static final class Builder {
+        private int[] ops = new int[8];
+        private int[] firstArgs = new int[8];
+        private int[] secondArgs = new int[8];
+        private int size;
+
+        private Builder() {}
+
+        public Builder move(int x, int y) {
+            return add(MOVE, x, y);
+        }
+
+        public Builder mousePress(int buttons) {
+            return add(MOUSE_PRESS, buttons, 0);
+        }
+
+        public Builder mouseRelease(int buttons) {
+            return add(MOUSE_RELEASE, buttons, 0);
+        }
+
+        public Builder wheel(int notches) {
+            return add(WHEEL, notches, 0);
+        }
+
+        public Builder keyPress(int keyCode) {
+            return add(KEY_PRESS, keyCode, 0);
+        }
+
+        public Builder keyRelease(int keyCode) {
+            return add(KEY_RELEASE, keyCode, 0);
+        }
+
+        public Builder delay(int millis) {
+            if (millis < 0) {
+                throw new IllegalArgumentException("대기 시간은 0 이상이어야 합니다: " + millis);
+            }
+            return millis == 0 ? this : add(DELAY, millis, 0);
+        }
+
+        /**
+         * 다른 시퀀스를 이어 붙임
+         */
+        public Builder append(InputSequence sequence) {
+            for (int i = 0; i < sequence.size(); i++) {
+                add(sequence.op(i), sequence.firstArg(i), sequence.secondArg(i));
+            }
+            return this;
+        }
+
+        public InputSequence build() {
+            return new InputSequence(
+                    Arrays.copyOf(ops, size),
+                    Arrays.copyOf(firstArgs, size),
+                    Arrays.copyOf(secondArgs, size));
+        }
+
+        private Builder add(int op, int first, int second) {
+            if (size == ops.length) {
+                ops = Arrays.copyOf(ops, size * 2);
+                firstArgs = Arrays.copyOf(firstArgs, size * 2);
+                secondArgs = Arrays.copyOf(secondArgs, size * 2);
+            }
+            ops[size] = op;
+            firstArgs[size] = first;
+            secondArgs[size] = second;
+            size++;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.gesture.backend.input;
+
+import com.sun.jna.Native;
+import com.sun.jna.Platform;
+import com.sun.jna.Pointer;
+import com.sun.jna.Structure;
+import com.sun.jna.win32.StdCallLibrary;
+
+import java.awt.Dimension;
+import java.awt.GraphicsEnvironment;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.event.InputEvent;
+import java.awt.event.KeyEvent;
+
+/**
+ * Windows user32 직접 호출 입력 장치 (JNA)
+ *
+ * AWT 를 거치지 않고 SetCursorPos / mouse_event / keybd_event 를 호출한다.
+ * 이벤트마다 네이티브 호출 한 번이며 구조체를 만들지 않는다.
+ */
+public class JnaInputDevice implements InputDevice {
+
+    private static final int MOUSEEVENTF_LEFTDOWN = 0x0002;
+    private static final int MOUSEEVENTF_LEFTUP = 0x0004;
+    private static final int MOUSEEVENTF_RIGHTDOWN = 0x0008;
+    private static final int MOUSEEVENTF_RIGHTUP = 0x0010;
+    private static final int MOUSEEVENTF_MIDDLEDOWN = 0x0020;
+    private static final int MOUSEEVENTF_MIDDLEUP = 0x0040;
+    private static final int MOUSEEVENTF_WHEEL = 0x0800;
+    private static final int KEYEVENTF_KEYUP = 0x0002;
+    private static final int WHEEL_DELTA = 120;
+    private static final int SM_CXSCREEN = 0;
+    private static final int SM_CYSCREEN = 1;
+    // Windows 가상 키 코드 범위 (1 ~ 254)
+    private static final int MAX_VIRTUAL_KEY = 0xFE;
+
+    /**
+     * 필요한 user32 함수만 선언한 바인딩
+     */
+    interface User32 extends StdCallLibrary {
+        boolean SetCursorPos(int x, int y);
+
+        boolean GetCursorPos(CursorPoint point);
+
+        void mouse_event(int flags, int dx, int dy, int data, Pointer extraInfo);
+
+        void keybd_event(byte virtualKey, byte scanCode, int flags, Pointer extraInfo);
+
+        int GetSystemMetrics(int index);
+    }
+
+    @Structure.FieldOrder({"x", "y"})
+    public static class CursorPoint extends Structure {
+        public int x;
+        public int y;
+    }
+
+    private final User32 user32;
+
+    public JnaInputDevice() {
+        if (!Platform.isWindows()) {
+            throw new IllegalStateException("JNA 입력 장치는 Windows 에서만 사용할 수 있습니다");
+        }
+        this.user32 = Native.load("user32", User32.class);
+    }
+
+    /**
+     * 현재 플랫폼에서 user32 를 불러올 수 있는지 확인
+     */
+    public static boolean isSupported() {
+        if (!Platform.isWindows()) {
+            return false;
+        }
+        try {
+            Native.load("user32", User32.class);
+            return true;
+        } catch (UnsatisfiedLinkError | RuntimeException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public String name() {
+        return "jna";
+    }
+
+    @Override
+    public void mouseMove(int x, int y) {
+        user32.SetCursorPos(x, y);
+    }
+
+    @Override
+    public void mousePress(int buttons) {
+        user32.mouse_event(buttonFlags(buttons, true), 0, 0, 0, null);
+    }
+
+    @Override
+    public void mouseRelease(int buttons) {
+        user32.mouse_event(buttonFlags(buttons, false), 0, 0, 0, null);
+    }
+
+    @Override
+    public void mouseWheel(int notches) {
+        // Robot 은 양수가 아래(사용자 쪽), Windows 는 양수가 위(앞쪽)
+        user32.mouse_event(MOUSEEVENTF_WHEEL, 0, 0, -notches * WHEEL_DELTA, null);
+    }
+
+    @Override
+    public void keyPress(int keyCode) {
+        user32.keybd_event((byte) virtualKey(keyCode), (byte) 0, 0, null);
+    }
+
+    @Override
+    public void keyRelease(int keyCode) {
+        user32.keybd_event((byte) virtualKey(keyCode), (byte) 0, KEYEVENTF_KEYUP, null);
+    }
+
+    @Override
+    public Point getPointerLocation() {
+        CursorPoint point = new CursorPoint();
+        user32.GetCursorPos(point);
+        return new Point(point.x, point.y);
+    }
+
+    @Override
+    public Dimension getScreenSize() {
+        return new Dimension(user32.GetSystemMetrics(SM_CXSCREEN), user32.GetSystemMetrics(SM_CYSCREEN));
+    }
+
+    @Override
+    public Rectangle[] getScreenBounds() {
+        // 모니터별 영역은 AWT 로 조회 (헤드리스 JVM 에서는 기본 모니터만)
+        if (GraphicsEnvironment.isHeadless()) {
+            return new Rectangle[] {new Rectangle(getScreenSize())};
+        }
+        return AwtScreens.bounds();
+    }
+
+    private static int buttonFlags(int buttons, boolean down) {
+        int flags = 0;
+        if ((buttons & InputEvent.BUTTON1_DOWN_MASK) != 0) {
+            flags |= down ? MOUSEEVENTF_LEFTDOWN : MOUSEEVENTF_LEFTUP;
+        }
+        if ((buttons & InputEvent.BUTTON3_DOWN_MASK) != 0) {
+            flags |= down ? MOUSEEVENTF_RIGHTDOWN : MOUSEEVENTF_RIGHTUP;
+        }
+        if ((buttons & InputEvent.BUTTON2_DOWN_MASK) != 0) {
+            flags |= down ? MOUSEEVENTF_MIDDLEDOWN : MOUSEEVENTF_MIDDLEUP;
+        }
+        return flags;
+    }
+
+    /**
+     * Java 키 코드 → Windows 가상 키 코드 (문자/숫자/F1~F12/방향키 등은 값이 같음)
+     * 대응하는 가상 키가 없는 코드는 byte 로 잘리지 않도록 IllegalArgumentException 으로 거부한다.
+     */
+    static int virtualKey(int keyCode) {
+        if (keyCode >= KeyEvent.VK_F13 && keyCode <= KeyEvent.VK_F24) {
+            return 0x7C + (keyCode - KeyEvent.VK_F13);
+        }
+        int virtualKey = switch (keyCode) {
+            case KeyEvent.VK_ENTER -> 0x0D;
+            case KeyEvent.VK_DELETE -> 0x2E;
+            case KeyEvent.VK_INSERT -> 0x2D;
+            case KeyEvent.VK_META, KeyEvent.VK_WINDOWS -> 0x5B;
+            case KeyEvent.VK_CONTEXT_MENU -> 0x5D;
+            case KeyEvent.VK_PRINTSCREEN -> 0x2C;
+            case KeyEvent.VK_SEMICOLON -> 0xBA;
+            case KeyEvent.VK_EQUALS -> 0xBB;
+            case KeyEvent.VK_COMMA -> 0xBC;
+            case KeyEvent.VK_MINUS -> 0xBD;
+            case KeyEvent.VK_PERIOD -> 0xBE;
+            case KeyEvent.VK_SLASH -> 0xBF;
+            case KeyEvent.VK_BACK_QUOTE -> 0xC0;
+            case KeyEvent.VK_OPEN_BRACKET -> 0xDB;
+            case KeyEvent.VK_BACK_SLASH -> 0xDC;
+            case KeyEvent.VK_CLOSE_BRACKET -> 0xDD;
+            case KeyEvent.VK_QUOTE -> 0xDE;
+            case KeyEvent.VK_HELP -> 0x2F;
+            case KeyEvent.VK_KP_LEFT -> 0x25;
+            case KeyEvent.VK_KP_UP -> 0x26;
+            case KeyEvent.VK_KP_RIGHT -> 0x27;
+            case KeyEvent.VK_KP_DOWN -> 0x28;
+            // Windows 에는 AltGr 전용 키가 없고 오른쪽 Alt 로 입력됨
+            case KeyEvent.VK_ALT_GRAPH -> 0xA5;
+            default -> keyCode;
+        };
+        if (virtualKey <= 0 || virtualKey > MAX_VIRTUAL_KEY) {
+            throw new IllegalArgumentException("Windows 가상 키로 변환할 수 없는 키 코드: " + keyCode);
+        }
+        return virtualKey;
+    }
+}
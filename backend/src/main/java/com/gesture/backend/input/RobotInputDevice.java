@@ -0,0 +1,73 @@
+package com.gesture.backend.input;
+
+import java.awt.AWTException;
+import java.awt.Dimension;
+import java.awt.MouseInfo;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.Robot;
+import java.awt.Toolkit;
+
+/**
+ * AWT Robot 입력 장치 (디스플레이가 있는 모든 OS)
+ * 이벤트마다 붙는 autoDelay 는 사용하지 않고 시퀀스에 명시된 대기만 적용한다.
+ */
+public class RobotInputDevice implements InputDevice {
+
+    private final Robot robot;
+
+    public RobotInputDevice() throws AWTException {
+        this.robot = new Robot();
+        this.robot.setAutoDelay(0);
+    }
+
+    @Override
+    public String name() {
+        return "robot";
+    }
+
+    @Override
+    public void mouseMove(int x, int y) {
+        robot.mouseMove(x, y);
+    }
+
+    @Override
+    public void mousePress(int buttons) {
+        robot.mousePress(buttons);
+    }
+
+    @Override
+    public void mouseRelease(int buttons) {
+        robot.mouseRelease(buttons);
+    }
+
+    @Override
+    public void mouseWheel(int notches) {
+        robot.mouseWheel(notches);
+    }
+
+    @Override
+    public void keyPress(int keyCode) {
+        robot.keyPress(keyCode);
+    }
+
+    @Override
+    public void keyRelease(int keyCode) {
+        robot.keyRelease(keyCode);
+    }
+
+    @Override
+    public Point getPointerLocation() {
+        return MouseInfo.getPointerInfo().getLocation();
+    }
+
+    @Override
+    public Dimension getScreenSize() {
+        return Toolkit.getDefaultToolkit().getScreenSize();
+    }
+
+    @Override
+    public Rectangle[] getScreenBounds() {
+        return AwtScreens.bounds();
+    }
+}
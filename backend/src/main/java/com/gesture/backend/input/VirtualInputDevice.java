@@ -0,0 +1,165 @@
+package com.gesture.backend.input;
+
+import java.awt.Dimension;
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 헤드리스 가상 입력 장치 (부하 테스트/벤치마크용)
+ *
+ * 실제 장치 대신 내보낸 모든 이벤트를 System.nanoTime 과 함께 고정 크기 링 버퍼에 기록한다.
+ * 기록은 대기하지 않으며 버퍼가 가득 차면 가장 오래된 이벤트부터 덮어쓴다 (TelemetryRingBuffer 와 같은 방식).
+ * 테스트와 벤치마크는 events() 스냅샷이나 awaitEvents() 로 기록된 이벤트를 검증한다.
+ */
+public final class VirtualInputDevice implements InputDevice {
+
+    private final AtomicReferenceArray<InputEventRecord> slots;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final Dimension screenSize;
+    // reset() 이전 이벤트는 스냅샷에서 제외
+    private volatile long baseline;
+    // 포인터 위치 (x, y 를 하나의 long 으로 묶어 원자적으로 갱신)
+    private volatile long pointer;
+
+    public VirtualInputDevice(int capacity, int screenWidth, int screenHeight) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("링 버퍼 용량은 2 이상의 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.screenSize = new Dimension(screenWidth, screenHeight);
+        this.pointer = pack(screenWidth / 2, screenHeight / 2);
+    }
+
+    public VirtualInputDevice() {
+        this(4096, 1920, 1080);
+    }
+
+    @Override
+    public String name() {
+        return "virtual";
+    }
+
+    @Override
+    public void mouseMove(int x, int y) {
+        pointer = pack(x, y);
+        record(InputSequence.MOVE, x, y);
+    }
+
+    @Override
+    public void mousePress(int buttons) {
+        record(InputSequence.MOUSE_PRESS, buttons, 0);
+    }
+
+    @Override
+    public void mouseRelease(int buttons) {
+        record(InputSequence.MOUSE_RELEASE, buttons, 0);
+    }
+
+    @Override
+    public void mouseWheel(int notches) {
+        record(InputSequence.WHEEL, notches, 0);
+    }
+
+    @Override
+    public void keyPress(int keyCode) {
+        record(InputSequence.KEY_PRESS, keyCode, 0);
+    }
+
+    @Override
+    public void keyRelease(int keyCode) {
+        record(InputSequence.KEY_RELEASE, keyCode, 0);
+    }
+
+    @Override
+    public Point getPointerLocation() {
+        long packed = pointer;
+        return new Point((int) (packed >> 32), (int) packed);
+    }
+
+    @Override
+    public Dimension getScreenSize() {
+        return new Dimension(screenSize);
+    }
+
+    private void record(int type, int first, int second) {
+        long sequence = head.getAndIncrement();
+        InputEventRecord event = new InputEventRecord(sequence, type, first, second, System.nanoTime());
+        int index = (int) (sequence & mask);
+        while (true) {
+            InputEventRecord current = slots.get(index);
+            if (current != null && current.getSequence() > sequence) {
+                // 더 새로운 이벤트가 이미 이 칸을 차지함
+                return;
+            }
+            if (slots.compareAndSet(index, current, event)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * reset() 이후 기록된 이벤트 수 (덮어써진 이벤트 포함)
+     */
+    public long count() {
+        return head.get() - baseline;
+    }
+
+    /**
+     * 버퍼에 남아 있는 이벤트를 기록 순서대로 복사
+     *
+     * 번호는 받았지만 아직 게시되지 않은 이벤트와 이미 덮어써진 이벤트는 빠진다.
+     */
+    public List<InputEventRecord> events() {
+        long published = head.get();
+        long from = Math.max(baseline, published - (mask + 1));
+        List<InputEventRecord> events = new ArrayList<>((int) (published - from));
+        for (long sequence = from; sequence < published; sequence++) {
+            InputEventRecord event = slots.get((int) (sequence & mask));
+            if (event != null && event.getSequence() == sequence) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * reset() 이후 count 개 이상의 이벤트가 기록될 때까지 대기
+     *
+     * @return 제한 시간 안에 도달했는지 여부
+     */
+    public boolean awaitEvents(long count, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (count() < count) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            LockSupport.parkNanos(100_000);
+        }
+        return true;
+    }
+
+    /**
+     * 이후 스냅샷과 카운트가 지금부터 기록된 이벤트만 보도록 기준점 이동
+     */
+    public void reset() {
+        baseline = head.get();
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    private static long pack(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,38 @@
+package com.gesture.backend.logging;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 프레임 단위 이벤트 로그 빈도 제한기
+ *
+ * 구간마다 최대 maxPerInterval 건만 통과시킨다. 경계 구간에서 한두 건 더 통과할 수는 있지만
+ * 락 없이 동작하므로 핫패스에서 로그 레벨 확인 뒤에 가볍게 호출할 수 있다.
+ * <pre>
+ * if (log.isDebugEnabled() && SAMPLER.tryAcquire()) {
+ *     log.debug("...", x, y);
+ * }
+ * </pre>
+ */
+public final class LogSampler {
+
+    private final long intervalNanos;
+    private final int maxPerInterval;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicInteger count = new AtomicInteger();
+
+    public LogSampler(int maxPerInterval, Duration interval) {
+        this.maxPerInterval = maxPerInterval;
+        this.intervalNanos = interval.toNanos();
+    }
+
+    public boolean tryAcquire() {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= intervalNanos && windowStart.compareAndSet(start, now)) {
+            count.set(0);
+        }
+        return count.incrementAndGet() <= maxPerInterval;
+    }
+}
@@ -0,0 +1,103 @@
+package com.gesture.backend.mapping;
+
+import com.gesture.backend.input.InputSequence;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.awt.event.InputEvent;
+import java.awt.event.KeyEvent;
+import java.util.Locale;
+
+/**
+ * 매핑 액션 { type, value } 를 입력 시퀀스로 컴파일
+ *
+ * <ul>
+ *   <li>keystroke: "CTRL+S", "ALT+F4", "ESC" (KeyEvent.VK_* 이름, 일부 별칭 허용)</li>
+ *   <li>click: left | right | middle | double</li>
+ *   <li>scroll: up | down, 선택적으로 ":칸수" (예: "down:5")</li>
+ *   <li>none: 제스처 비활성화</li>
+ * </ul>
+ * 규칙 변경 시에만 호출되며, 잘못된 액션은 IllegalArgumentException 으로 거절한다.
+ */
+@Component
+public class ActionCompiler {
+
+    private static final int DEFAULT_SCROLL_AMOUNT = 3;
+
+    private final int clickHoldMs;
+    private final int doubleClickGapMs;
+    private final int keyHoldMs;
+
+    public ActionCompiler(@Value("${gesture.input.click-hold-ms:20}") int clickHoldMs,
+                          @Value("${gesture.input.double-click-gap-ms:60}") int doubleClickGapMs,
+                          @Value("${gesture.input.key-hold-ms:20}") int keyHoldMs) {
+        this.clickHoldMs = clickHoldMs;
+        this.doubleClickGapMs = doubleClickGapMs;
+        this.keyHoldMs = keyHoldMs;
+    }
+
+    public CompiledAction compile(MappingRule rule) {
+        String type = rule.getActionType() == null ? "" : rule.getActionType().trim().toLowerCase(Locale.ROOT);
+        String value = rule.getActionValue() == null ? "" : rule.getActionValue().trim();
+        String name = rule.getName() != null ? rule.getName() : type + ":" + value;
+
+        InputSequence sequence = switch (type) {
+            case "keystroke", "key" -> InputSequence.keyChord(keyHoldMs, parseKeys(value));
+            case "click" -> compileClick(value.toLowerCase(Locale.ROOT));
+            case "scroll" -> compileScroll(value.toLowerCase(Locale.ROOT));
+            case "none" -> null;
+            default -> throw new IllegalArgumentException("지원하지 않는 액션 타입: " + rule.getActionType());
+        };
+        return new CompiledAction(rule.getId(), name, sequence);
+    }
+
+    private InputSequence compileClick(String value) {
+        return switch (value) {
+            case "left", "" -> InputSequence.click(InputEvent.BUTTON1_DOWN_MASK, clickHoldMs);
+            case "right" -> InputSequence.click(InputEvent.BUTTON3_DOWN_MASK, clickHoldMs);
+            case "middle" -> InputSequence.click(InputEvent.BUTTON2_DOWN_MASK, clickHoldMs);
+            case "double" -> InputSequence.doubleClick(InputEvent.BUTTON1_DOWN_MASK, clickHoldMs, doubleClickGapMs);
+            default -> throw new IllegalArgumentException("지원하지 않는 클릭: " + value);
+        };
+    }
+
+    private static InputSequence compileScroll(String value) {
+        String[] parts = value.split(":", 2);
+        int amount = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : DEFAULT_SCROLL_AMOUNT;
+        return switch (parts[0].trim()) {
+            case "up" -> InputSequence.scroll(-amount);
+            case "down" -> InputSequence.scroll(amount);
+            default -> throw new IllegalArgumentException("지원하지 않는 스크롤 방향: " + value);
+        };
+    }
+
+    private static int[] parseKeys(String value) {
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException("키 입력 값이 비어 있습니다");
+        }
+        String[] tokens = value.split("\\+");
+        int[] keyCodes = new int[tokens.length];
+        for (int i = 0; i < tokens.length; i++) {
+            keyCodes[i] = keyCode(tokens[i].trim().toUpperCase(Locale.ROOT));
+        }
+        return keyCodes;
+    }
+
+    private static int keyCode(String token) {
+        String name = switch (token) {
+            case "CTRL" -> "CONTROL";
+            case "CMD", "WIN", "SUPER" -> "META";
+            case "ESC" -> "ESCAPE";
+            case "DEL" -> "DELETE";
+            case "PGUP" -> "PAGE_UP";
+            case "PGDN" -> "PAGE_DOWN";
+            case "RETURN" -> "ENTER";
+            default -> token;
+        };
+        try {
+            return KeyEvent.class.getField("VK_" + name).getInt(null);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new IllegalArgumentException("알 수 없는 키: " + token);
+        }
+    }
+}
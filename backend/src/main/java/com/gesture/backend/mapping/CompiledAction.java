@@ -0,0 +1,36 @@
+package com.gesture.backend.mapping;
+
+import com.gesture.backend.input.InputSequence;
+
+/**
+ * 입력 시퀀스로 미리 컴파일된 매핑 액션
+ * sequence 가 null 이면 해당 제스처를 비활성화하는 규칙이다 (action.type = "none").
+ */
+public final class CompiledAction {
+
+    private final String ruleId;
+    private final String name;
+    private final InputSequence sequence;
+
+    public CompiledAction(String ruleId, String name, InputSequence sequence) {
+        this.ruleId = ruleId;
+        this.name = name;
+        this.sequence = sequence;
+    }
+
+    public String getRuleId() {
+        return ruleId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public InputSequence getSequence() {
+        return sequence;
+    }
+
+    public boolean isSuppressed() {
+        return sequence == null;
+    }
+}
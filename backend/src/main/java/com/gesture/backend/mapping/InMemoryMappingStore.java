@@ -0,0 +1,39 @@
+package com.gesture.backend.mapping;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 매핑 저장소 (기본값, 테스트/로컬 실행용)
+ */
+@Component
+@ConditionalOnProperty(name = "gesture.mapping.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryMappingStore implements MappingStore {
+
+    private final Map<String, MappingRule> rules = new ConcurrentHashMap<>();
+
+    @Override
+    public List<MappingRule> loadActiveRules() {
+        return new ArrayList<>(rules.values());
+    }
+
+    @Override
+    public MappingRule save(MappingRule rule) {
+        String id = rule.getId() != null ? rule.getId() : UUID.randomUUID().toString();
+        MappingRule saved = new MappingRule(id, rule.getName(), rule.getGesture(), rule.getContext(),
+                rule.getActionType(), rule.getActionValue(), rule.getPriority(), System.currentTimeMillis());
+        rules.put(id, saved);
+        return saved;
+    }
+
+    @Override
+    public boolean delete(String id) {
+        return rules.remove(id) != null;
+    }
+}
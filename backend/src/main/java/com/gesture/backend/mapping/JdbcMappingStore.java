@@ -0,0 +1,103 @@
+package com.gesture.backend.mapping;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * profile/mapping 테이블 기반 매핑 저장소 (gesture.mapping.store=jdbc)
+ *
+ * JSONB 조건/액션은 PostgreSQL 에서 ->> 로 평탄화해 읽으므로 애플리케이션에서는 JSON 을 파싱하지 않는다.
+ * 활성 프로파일은 설정된 사용자의 활성 프로파일 중 기본 프로파일, 그다음 최근 수정된 순서로 하나를 고른다.
+ * 저장/삭제는 활성 프로파일의 규칙에만 적용되어 다른 프로파일의 매핑을 id 로 덮어쓰거나 지울 수 없다.
+ */
+@Component
+@ConditionalOnProperty(name = "gesture.mapping.store", havingValue = "jdbc")
+public class JdbcMappingStore implements MappingStore {
+
+    private static final String ACTIVE_PROFILE = """
+            SELECT p.id FROM profile p JOIN app_user u ON u.id = p.user_id
+            WHERE u.email = ? AND p.is_active
+            ORDER BY p.is_default DESC, p.updated_at DESC
+            LIMIT 1""";
+
+    private static final String SELECT_RULES = """
+            SELECT m.id::text AS id, m.name,
+                   m.condition->>'gesture' AS gesture, m.condition->>'when' AS context,
+                   m.action->>'type' AS action_type, m.action->>'value' AS action_value,
+                   m.priority, m.updated_at
+            FROM mapping m
+            WHERE m.enabled AND m.profile_id = (""" + ACTIVE_PROFILE + ")";
+
+    private static final String SELECT_ACTIVE_PROFILE = "SELECT id::text FROM (" + ACTIVE_PROFILE + ") active";
+
+    // 다른 프로파일의 같은 id 와 충돌하면 갱신하지 않음 (갱신 행 수 0)
+    private static final String UPSERT_RULE = """
+            INSERT INTO mapping (id, profile_id, name, condition, action, priority, enabled)
+            VALUES (?::uuid, ?::uuid, ?, jsonb_strip_nulls(jsonb_build_object('gesture', ?::text, 'when', ?::text)),
+                jsonb_build_object('type', ?::text, 'value', ?::text), ?, TRUE)
+            ON CONFLICT (id) DO UPDATE SET
+                name = EXCLUDED.name, condition = EXCLUDED.condition, action = EXCLUDED.action,
+                priority = EXCLUDED.priority, enabled = TRUE, updated_at = CURRENT_TIMESTAMP
+            WHERE mapping.profile_id = EXCLUDED.profile_id""";
+
+    private static final String DELETE_RULE = """
+            DELETE FROM mapping WHERE id = ?::uuid AND profile_id = (""" + ACTIVE_PROFILE + ")";
+
+    private static final RowMapper<MappingRule> RULE_MAPPER = (rs, rowNum) -> new MappingRule(
+            rs.getString("id"),
+            rs.getString("name"),
+            rs.getString("gesture"),
+            rs.getString("context"),
+            rs.getString("action_type"),
+            rs.getString("action_value"),
+            rs.getInt("priority"),
+            rs.getTimestamp("updated_at") != null ? rs.getTimestamp("updated_at").getTime() : 0L);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String userEmail;
+
+    public JdbcMappingStore(JdbcTemplate jdbcTemplate,
+                            @Value("${gesture.mapping.user-email:admin@gesture.com}") String userEmail) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userEmail = userEmail;
+    }
+
+    @Override
+    public List<MappingRule> loadActiveRules() {
+        return jdbcTemplate.query(SELECT_RULES, RULE_MAPPER, userEmail);
+    }
+
+    @Override
+    public MappingRule save(MappingRule rule) {
+        List<String> profiles = jdbcTemplate.queryForList(SELECT_ACTIVE_PROFILE, String.class, userEmail);
+        if (profiles.isEmpty()) {
+            throw new IllegalArgumentException("활성 프로파일이 없습니다: " + userEmail);
+        }
+        // 형식이 잘못된 id 는 DB 캐스트 오류 대신 IllegalArgumentException 으로 거절
+        String id = rule.getId() != null ? UUID.fromString(rule.getId()).toString() : UUID.randomUUID().toString();
+        String context = MappingRule.ANY_CONTEXT.equals(rule.getContext()) ? null : rule.getContext();
+        int updated = jdbcTemplate.update(UPSERT_RULE, id, profiles.get(0), rule.getName(), rule.getGesture(), context,
+                rule.getActionType(), rule.getActionValue(), rule.getPriority());
+        if (updated == 0) {
+            throw new IllegalArgumentException("활성 프로파일의 매핑이 아닙니다: " + id);
+        }
+        return new MappingRule(id, rule.getName(), rule.getGesture(), rule.getContext(),
+                rule.getActionType(), rule.getActionValue(), rule.getPriority(), System.currentTimeMillis());
+    }
+
+    @Override
+    public boolean delete(String id) {
+        try {
+            UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return jdbcTemplate.update(DELETE_RULE, id, userEmail) > 0;
+    }
+}
@@ -0,0 +1,313 @@
+package com.gesture.backend.mapping;
+
+import com.gesture.backend.gesture.GestureType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 제스처 → 액션 매핑 엔진
+ *
+ * 활성 프로파일의 규칙을 [컨텍스트 ID][GestureType ordinal] 배열로 컴파일해 두고,
+ * 제스처 처리 경로에서는 volatile 스냅샷의 배열 조회만 한다 (DB/JSON 접근 없음).
+ * 각 칸에는 해당 컨텍스트 규칙 중 우선순위가 가장 높은 것이, 없으면 "*" 규칙이 미리 채워진다.
+ *
+ * 규칙이 바뀌면 바뀐 규칙만 다시 컴파일하고, 영향받는 제스처 열만 새 스냅샷으로 교체한다.
+ * 저장소 I/O 는 락 밖에서 하고 인덱스 반영만 synchronized 로 직렬화하며, 조회는 락을 잡지 않는다.
+ * 컨텍스트 ID 는 규칙을 반영할 때만 발급되고, 클라이언트가 보낸 컨텍스트 이름은 조회만 한다.
+ */
+@Service
+public class MappingEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(MappingEngine.class);
+
+    private static final int ANY_CONTEXT_ID = 0;
+    // 규칙에 쓰인 컨텍스트 수 한도 ("*" 포함, 인덱스 행 수)
+    static final int MAX_CONTEXTS = 256;
+    private static final int GESTURE_COUNT = GestureType.values().length;
+
+    private final MappingStore mappingStore;
+    private final ActionCompiler actionCompiler;
+    private final long refreshMs;
+
+    // 변경 작업 전용 상태 (this 로 보호)
+    private final Map<String, MappingRule> rules = new HashMap<>();
+    private final Map<String, CompiledAction> compiled = new HashMap<>();
+    private final List<String> contextNames = new ArrayList<>();
+
+    // 조회 경로 상태
+    private final Map<String, Integer> contextIds = new ConcurrentHashMap<>();
+    // 세션별 컨텍스트 이름 (규칙이 나중에 추가되어도 다음 조회부터 반영되도록 ID 가 아닌 이름을 보관)
+    private final Map<String, String> sessionContexts = new ConcurrentHashMap<>();
+    private volatile CompiledAction[][] index = new CompiledAction[][] {new CompiledAction[GESTURE_COUNT]};
+
+    private ScheduledExecutorService refresher;
+
+    public MappingEngine(MappingStore mappingStore, ActionCompiler actionCompiler,
+                         @Value("${gesture.mapping.refresh-ms:0}") long refreshMs) {
+        this.mappingStore = mappingStore;
+        this.actionCompiler = actionCompiler;
+        this.refreshMs = refreshMs;
+        contextNames.add(MappingRule.ANY_CONTEXT);
+        contextIds.put(MappingRule.ANY_CONTEXT, ANY_CONTEXT_ID);
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            // 저장소를 읽지 못해도 기본 제스처 핸들러로 동작할 수 있도록 기동은 계속한다
+            log.warn("⚠️ 매핑 규칙 로드 실패 - 기본 제스처 동작 사용: {}", e.getMessage());
+        }
+        if (refreshMs > 0) {
+            // 외부(DB 직접 수정 등)에서 바뀐 규칙을 주기적으로 반영
+            refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "mapping-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+            refresher.scheduleWithFixedDelay(this::refreshQuietly, refreshMs, refreshMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 세션의 현재 컨텍스트에 매핑된 액션 (없으면 null, 기본 핸들러 사용)
+     */
+    public CompiledAction resolve(String sessionId, GestureType type) {
+        CompiledAction[][] snapshot = index;
+        String context = sessionContexts.get(sessionId);
+        Integer contextId = context != null ? contextIds.get(context) : null;
+        int row = contextId != null && contextId < snapshot.length ? contextId : ANY_CONTEXT_ID;
+        return snapshot[row][type.ordinal()];
+    }
+
+    /**
+     * 세션 컨텍스트 변경 (예: "presentation"), 규칙에 없는 컨텍스트는 "*" 규칙을 따른다
+     * 컨텍스트 ID 를 발급하지 않으므로 클라이언트가 임의의 이름을 보내도 인덱스는 커지지 않는다.
+     */
+    public void setContext(String sessionId, String context) {
+        if (context == null || context.isBlank() || MappingRule.ANY_CONTEXT.equals(context)) {
+            sessionContexts.remove(sessionId);
+        } else {
+            sessionContexts.put(sessionId, context);
+        }
+    }
+
+    /**
+     * 규칙 추가/갱신 (저장 전에 컴파일해 잘못된 규칙은 저장하지 않음)
+     */
+    public MappingRule save(MappingRule rule) {
+        requireGesture(rule);
+        actionCompiler.compile(rule);
+        MappingRule saved = mappingStore.save(rule);
+        synchronized (this) {
+            // 동시에 저장된 같은 규칙은 더 최근 것만 남김
+            MappingRule current = rules.get(saved.getId());
+            if (current == null || current.getUpdatedAt() <= saved.getUpdatedAt()) {
+                apply(List.of(saved), List.of());
+            }
+        }
+        return saved;
+    }
+
+    public boolean delete(String id) {
+        boolean deleted = mappingStore.delete(id);
+        if (deleted) {
+            synchronized (this) {
+                apply(List.of(), List.of(id));
+            }
+        }
+        return deleted;
+    }
+
+    public synchronized List<MappingRule> getRules() {
+        return new ArrayList<>(rules.values());
+    }
+
+    /**
+     * 저장소의 규칙과 비교해 바뀐 규칙만 반영
+     */
+    public void refresh() {
+        Map<String, MappingRule> latest = new HashMap<>();
+        for (MappingRule rule : mappingStore.loadActiveRules()) {
+            latest.put(rule.getId(), rule);
+        }
+        synchronized (this) {
+            reconcile(latest);
+        }
+    }
+
+    private void reconcile(Map<String, MappingRule> latest) {
+        List<MappingRule> changed = new ArrayList<>();
+        for (MappingRule rule : latest.values()) {
+            MappingRule current = rules.get(rule.getId());
+            if (current == null || current.getUpdatedAt() != rule.getUpdatedAt()) {
+                changed.add(rule);
+            }
+        }
+        List<String> removed = new ArrayList<>();
+        for (String id : rules.keySet()) {
+            if (!latest.containsKey(id)) {
+                removed.add(id);
+            }
+        }
+        if (!changed.isEmpty() || !removed.isEmpty()) {
+            apply(changed, removed);
+            log.info("🗺️ 매핑 규칙 반영: 변경 {}건, 삭제 {}건 (전체 {}건)", changed.size(), removed.size(), rules.size());
+        }
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 매핑 규칙 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 바뀐 규칙을 컴파일하고 영향받는 제스처 열만 다시 계산해 스냅샷 교체
+     */
+    private void apply(Collection<MappingRule> changed, Collection<String> removedIds) {
+        Set<Integer> affected = new HashSet<>();
+        for (String id : removedIds) {
+            MappingRule old = rules.remove(id);
+            compiled.remove(id);
+            markAffected(old, affected);
+        }
+        for (MappingRule rule : changed) {
+            markAffected(rules.put(rule.getId(), rule), affected);
+            compiled.remove(rule.getId());
+            GestureType type = GestureType.fromWireName(rule.getGesture());
+            if (type == null) {
+                log.warn("⚠️ 알 수 없는 제스처의 매핑 규칙 무시: {} ({})", rule.getName(), rule.getGesture());
+                continue;
+            }
+            if (internContext(rule.getContext()) == ANY_CONTEXT_ID && !MappingRule.ANY_CONTEXT.equals(rule.getContext())) {
+                log.warn("⚠️ 컨텍스트 수 한도({}) 초과로 매핑 규칙 무시: {} ({})", MAX_CONTEXTS, rule.getName(), rule.getContext());
+                continue;
+            }
+            try {
+                compiled.put(rule.getId(), actionCompiler.compile(rule));
+                affected.add(type.ordinal());
+            } catch (RuntimeException e) {
+                log.warn("⚠️ 매핑 규칙 컴파일 실패: {} - {}", rule.getName(), e.getMessage());
+            }
+        }
+        if (!affected.isEmpty()) {
+            rebuildColumns(affected);
+        }
+    }
+
+    private static void markAffected(MappingRule rule, Set<Integer> affected) {
+        if (rule == null) {
+            return;
+        }
+        GestureType type = GestureType.fromWireName(rule.getGesture());
+        if (type != null) {
+            affected.add(type.ordinal());
+        }
+    }
+
+    private void rebuildColumns(Set<Integer> gestures) {
+        CompiledAction[][] current = index;
+        int contexts = contextNames.size();
+        CompiledAction[][] next = new CompiledAction[contexts][];
+        for (int c = 0; c < contexts; c++) {
+            next[c] = c < current.length ? Arrays.copyOf(current[c], GESTURE_COUNT) : new CompiledAction[GESTURE_COUNT];
+        }
+
+        for (int gesture : gestures) {
+            // 컨텍스트별 최우선 규칙
+            MappingRule[] best = new MappingRule[contexts];
+            for (MappingRule rule : rules.values()) {
+                GestureType type = GestureType.fromWireName(rule.getGesture());
+                Integer contextId = contextIds.get(rule.getContext());
+                if (type == null || type.ordinal() != gesture || contextId == null || !compiled.containsKey(rule.getId())) {
+                    continue;
+                }
+                if (best[contextId] == null || precedes(rule, best[contextId])) {
+                    best[contextId] = rule;
+                }
+            }
+            CompiledAction fallback = best[ANY_CONTEXT_ID] != null ? compiled.get(best[ANY_CONTEXT_ID].getId()) : null;
+            for (int c = 0; c < contexts; c++) {
+                next[c][gesture] = best[c] != null ? compiled.get(best[c].getId()) : fallback;
+            }
+        }
+        // 새로 생긴 컨텍스트 행은 영향받지 않은 열도 "*" 규칙으로 채움
+        for (int c = current.length; c < contexts; c++) {
+            for (int g = 0; g < GESTURE_COUNT; g++) {
+                if (!gestures.contains(g)) {
+                    next[c][g] = next[ANY_CONTEXT_ID][g];
+                }
+            }
+        }
+        index = next;
+    }
+
+    private static boolean precedes(MappingRule candidate, MappingRule current) {
+        if (candidate.getPriority() != current.getPriority()) {
+            return candidate.getPriority() < current.getPriority();
+        }
+        return candidate.getUpdatedAt() > current.getUpdatedAt();
+    }
+
+    /**
+     * 컨텍스트 이름 → ID (새 이름이면 다음 스냅샷부터 행이 생김, apply 에서만 호출)
+     */
+    private int internContext(String context) {
+        Integer existing = contextIds.get(context);
+        if (existing != null) {
+            return existing;
+        }
+        if (contextNames.size() >= MAX_CONTEXTS) {
+            return ANY_CONTEXT_ID;
+        }
+        int id = contextNames.size();
+        contextNames.add(context);
+        contextIds.put(context, id);
+        return id;
+    }
+
+    private static void requireGesture(MappingRule rule) {
+        if (GestureType.fromWireName(rule.getGesture()) == null) {
+            throw new IllegalArgumentException("알 수 없는 제스처: " + rule.getGesture());
+        }
+    }
+
+    @EventListener
+    public void onSessionDisconnect(SessionDisconnectEvent event) {
+        removeSession(event.getSessionId());
+    }
+
+    public void removeSession(String sessionId) {
+        sessionContexts.remove(sessionId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+}
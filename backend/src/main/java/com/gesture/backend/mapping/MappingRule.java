@@ -0,0 +1,65 @@
+package com.gesture.backend.mapping;
+
+/**
+ * 매핑 규칙 (mapping 테이블 한 행, JSONB 필드는 저장소에서 평탄화된 상태)
+ *
+ * condition = { gesture, when }, action = { type, value }
+ * priority 는 값이 작을수록 먼저 적용된다.
+ */
+public final class MappingRule {
+
+    public static final String ANY_CONTEXT = "*";
+
+    private final String id;
+    private final String name;
+    private final String gesture;
+    private final String context;
+    private final String actionType;
+    private final String actionValue;
+    private final int priority;
+    private final long updatedAt;
+
+    public MappingRule(String id, String name, String gesture, String context,
+                       String actionType, String actionValue, int priority, long updatedAt) {
+        this.id = id;
+        this.name = name;
+        this.gesture = gesture;
+        this.context = context == null || context.isBlank() ? ANY_CONTEXT : context;
+        this.actionType = actionType;
+        this.actionValue = actionValue;
+        this.priority = priority;
+        this.updatedAt = updatedAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getGesture() {
+        return gesture;
+    }
+
+    public String getContext() {
+        return context;
+    }
+
+    public String getActionType() {
+        return actionType;
+    }
+
+    public String getActionValue() {
+        return actionValue;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public long getUpdatedAt() {
+        return updatedAt;
+    }
+}
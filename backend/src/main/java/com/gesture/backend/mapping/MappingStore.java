@@ -0,0 +1,26 @@
+package com.gesture.backend.mapping;
+
+import java.util.List;
+
+/**
+ * 활성 프로파일의 매핑 규칙 저장소
+ * 엔진은 시작/변경 시에만 호출하며, 제스처 처리 경로에서는 사용하지 않는다.
+ */
+public interface MappingStore {
+
+    /**
+     * 활성 프로파일의 사용 가능한(enabled) 규칙 전체
+     */
+    List<MappingRule> loadActiveRules();
+
+    /**
+     * 규칙 추가 또는 갱신 (저장된 규칙 반환)
+     * 활성 프로파일이 없거나 다른 프로파일의 규칙이면 IllegalArgumentException
+     */
+    MappingRule save(MappingRule rule);
+
+    /**
+     * @return 삭제된 규칙이 있으면 true
+     */
+    boolean delete(String id);
+}
@@ -0,0 +1,51 @@
+package com.gesture.backend.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP 브로커 채널 실행기의 대기열 길이/포화 게이지
+ *
+ * 버려진 메시지 수는 실행기의 거절 핸들러에서 gesture.broker.rejections 로 집계된다.
+ */
+@Component
+public class BrokerChannelMetrics {
+
+    private final GestureMetrics gestureMetrics;
+    private final ThreadPoolTaskExecutor inboundExecutor;
+    private final ThreadPoolTaskExecutor outboundExecutor;
+
+    public BrokerChannelMetrics(GestureMetrics gestureMetrics,
+                                @Qualifier("clientInboundChannelExecutor") ThreadPoolTaskExecutor inboundExecutor,
+                                @Qualifier("clientOutboundChannelExecutor") ThreadPoolTaskExecutor outboundExecutor) {
+        this.gestureMetrics = gestureMetrics;
+        this.inboundExecutor = inboundExecutor;
+        this.outboundExecutor = outboundExecutor;
+    }
+
+    @PostConstruct
+    public void register() {
+        MeterRegistry registry = gestureMetrics.getRegistry();
+        bind(registry, "inbound", inboundExecutor);
+        bind(registry, "outbound", outboundExecutor);
+    }
+
+    private static void bind(MeterRegistry registry, String channel, ThreadPoolTaskExecutor executor) {
+        Gauge.builder("gesture.broker.queue.depth", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("브로커 채널 실행기 대기열 길이")
+                .tag("channel", channel)
+                .register(registry);
+        Gauge.builder("gesture.broker.queue.remaining", executor, e -> e.getThreadPoolExecutor().getQueue().remainingCapacity())
+                .description("브로커 채널 실행기 대기열 남은 용량 (0 이면 이후 메시지는 버려짐)")
+                .tag("channel", channel)
+                .register(registry);
+        Gauge.builder("gesture.broker.active.threads", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("브로커 채널 실행기 활성 스레드 수")
+                .tag("channel", channel)
+                .register(registry);
+    }
+}
@@ -0,0 +1,161 @@
+package com.gesture.backend.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 제스처 파이프라인 계측 (Micrometer)
+ *
+ * 태그 조합별 미터는 처음 한 번만 등록하고 이후에는 캐시에서 꺼내 쓰므로
+ * 핫패스에서는 맵 조회와 카운터 증가만 일어난다.
+ */
+@Component
+public class GestureMetrics {
+
+    // 클라이언트가 임의의 destination 을 보내도 태그 수가 무한히 늘지 않도록 제한
+    private static final int MAX_DESTINATION_TAGS = 64;
+    private static final String OTHER = "other";
+    // 시계 오차로 인한 비정상 값은 지연 히스토그램에서 제외
+    private static final long MAX_CAPTURE_LATENCY_MS = 60_000;
+
+    private final MeterRegistry registry;
+    private final Map<String, Counter> inboundCounters = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Timer> deserializationTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> actionTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> cooldownCounters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> captureTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> brokerRejectionCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> clusterCounters = new ConcurrentHashMap<>();
+    private volatile Timer templateMatchTimer;
+    private volatile Timer gazeFitTimer;
+
+    public GestureMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public MeterRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * destination 별 인바운드 메시지 수
+     */
+    public void recordInbound(String destination) {
+        Counter counter = inboundCounters.get(destination);
+        if (counter == null) {
+            String tag = inboundCounters.size() < MAX_DESTINATION_TAGS ? destination : OTHER;
+            counter = inboundCounters.computeIfAbsent(tag, d -> Counter.builder("gesture.inbound.messages")
+                    .description("STOMP 인바운드 메시지 수")
+                    .tag("destination", d)
+                    .register(registry));
+        }
+        counter.increment();
+    }
+
+    /**
+     * 페이로드 역직렬화 시간
+     */
+    public void recordDeserialization(Class<?> targetType, long nanos) {
+        deserializationTimers.computeIfAbsent(targetType, type -> Timer.builder("gesture.deserialization")
+                .description("메시지 페이로드 역직렬화 시간")
+                .tag("type", type.getSimpleName())
+                .register(registry)).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 입력 장치 액션 실행 시간
+     */
+    public void recordAction(String action, long nanos) {
+        actionTimers.computeIfAbsent(action, a -> Timer.builder("gesture.action.latency")
+                .description("입력 장치 액션 실행 시간")
+                .tag("action", a)
+                .register(registry)).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 쿨다운으로 거절된 액션 수
+     */
+    public void recordCooldownRejection(String action) {
+        cooldownCounters.computeIfAbsent(action, a -> Counter.builder("gesture.cooldown.rejections")
+                .description("쿨다운으로 거절된 액션 수")
+                .tag("action", a)
+                .register(registry)).increment();
+    }
+
+    /**
+     * 브로커 채널 실행기 대기열이 가득 차 버려진 메시지 수
+     */
+    public void recordBrokerRejection(String channel) {
+        brokerRejectionCounters.computeIfAbsent(channel, c -> Counter.builder("gesture.broker.rejections")
+                .description("채널 대기열 포화로 버려진 메시지 수")
+                .tag("channel", c)
+                .register(registry)).increment();
+    }
+
+    /**
+     * 프레임당 동적 제스처 템플릿 매칭 시간 (라이브러리 전체)
+     */
+    public void recordTemplateMatch(long nanos) {
+        Timer timer = templateMatchTimer;
+        if (timer == null) {
+            timer = Timer.builder("gesture.template.match")
+                    .description("프레임당 동적 제스처 템플릿 매칭 시간")
+                    .publishPercentileHistogram()
+                    .register(registry);
+            templateMatchTimer = timer;
+        }
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 시선 보정 재적합 시간 (적합 스레드)
+     */
+    public void recordGazeFit(long nanos) {
+        Timer timer = gazeFitTimer;
+        if (timer == null) {
+            timer = Timer.builder("gesture.gaze.fit")
+                    .description("시선 보정 다항식 재적합 시간")
+                    .register(registry);
+            gazeFitTimer = timer;
+        }
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 클러스터 버스 이벤트 수 (direction: out, in, dropped)
+     */
+    public void recordClusterMessage(String topic, String direction) {
+        clusterCounters.computeIfAbsent(topic + ':' + direction, key -> Counter.builder("gesture.cluster.messages")
+                .description("노드 간 클러스터 이벤트 수")
+                .tag("topic", topic)
+                .tag("direction", direction)
+                .register(registry)).increment();
+    }
+
+    /**
+     * 클라이언트 캡처 시각부터 액션 응답 시각까지의 지연 (epoch ms 기준)
+     */
+    public void recordCaptureToAction(String gesture, Long clientTimestamp, long responseTimestamp) {
+        if (clientTimestamp == null) {
+            return;
+        }
+        long latency = responseTimestamp - clientTimestamp;
+        if (latency < 0 || latency > MAX_CAPTURE_LATENCY_MS) {
+            return;
+        }
+        captureTimers.computeIfAbsent(gesture, g -> Timer.builder("gesture.capture.to.action")
+                .description("클라이언트 캡처부터 액션 완료까지의 지연")
+                .tag("gesture", g)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(5))
+                .register(registry)).record(latency, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,32 @@
+package com.gesture.backend.metrics;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * clientInboundChannel 에서 destination 별 메시지 수 집계
+ */
+@Component
+public class InboundMetricsInterceptor implements ChannelInterceptor {
+
+    private final GestureMetrics gestureMetrics;
+
+    public InboundMetricsInterceptor(GestureMetrics gestureMetrics) {
+        this.gestureMetrics = gestureMetrics;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+            String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+            if (destination != null) {
+                gestureMetrics.recordInbound(destination);
+            }
+        }
+        return message;
+    }
+}
@@ -0,0 +1,26 @@
+package com.gesture.backend.metrics;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+
+/**
+ * 역직렬화 시간을 기록하는 Jackson 메시지 컨버터
+ */
+public class TimedJacksonMessageConverter extends MappingJackson2MessageConverter {
+
+    private final GestureMetrics gestureMetrics;
+
+    public TimedJacksonMessageConverter(GestureMetrics gestureMetrics) {
+        this.gestureMetrics = gestureMetrics;
+    }
+
+    @Override
+    protected Object convertFromInternal(Message<?> message, Class<?> targetClass, Object conversionHint) {
+        long start = System.nanoTime();
+        try {
+            return super.convertFromInternal(message, targetClass, conversionHint);
+        } finally {
+            gestureMetrics.recordDeserialization(targetClass, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.gesture.backend.protocol;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 원시 WebSocket 스트림의 제스처 인식 결과 프레임 코덱
+ *
+ * 프레임 구조 (big-endian, 16 bytes):
+ * <pre>
+ *  0  int16  magic (0x4752, "GR")
+ *  2  int8   version (1)
+ *  3  int8   gesture (GestureType ordinal)
+ *  4  int32  sequence (입력 랜드마크 프레임의 sequence)
+ *  8  int64  timestamp (입력 랜드마크 프레임의 timestamp)
+ * </pre>
+ */
+public final class GestureResultCodec {
+
+    public static final short MAGIC = 0x4752;
+    public static final byte VERSION = 1;
+    public static final int FRAME_SIZE = 16;
+
+    private GestureResultCodec() {}
+
+    public static void encode(int gesture, int sequence, long timestamp, ByteBuffer buffer) {
+        buffer.putShort(MAGIC);
+        buffer.put(VERSION);
+        buffer.put((byte) gesture);
+        buffer.putInt(sequence);
+        buffer.putLong(timestamp);
+    }
+}
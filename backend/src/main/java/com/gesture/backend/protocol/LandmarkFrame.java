@@ -0,0 +1,313 @@
+package com.gesture.backend.protocol;
+
+import com.gesture.backend.dto.GestureDto;
+
+import java.util.List;
+
+/**
+ * 재사용 가능한 랜드마크 프레임 버퍼 (여러 손 + 선택적 얼굴/시선)
+ *
+ * 랜드마크는 손마다 21개 포인트 × (x, y, z, visibility) float 로 평탄화되어
+ * 하나의 primitive 배열에 저장되고, 손마다 handedness 와 confidence 를 따로 가진다.
+ * 얼굴 메시 포인트는 (x, y, z) 로 별도 배열에 저장된다. 모든 배열은 최대 크기로 한 번만
+ * 할당되며, LandmarkFramePool 에서 빌려 쓰고 처리 후 반납한다.
+ */
+public final class LandmarkFrame {
+
+    public static final int LANDMARKS_PER_HAND = 21;
+    public static final int FLOATS_PER_LANDMARK = 4;
+    public static final int FLOATS_PER_HAND = LANDMARKS_PER_HAND * FLOATS_PER_LANDMARK;
+    // 두 사람 × 양손
+    public static final int MAX_HANDS = 4;
+    // FaceMesh 468 포인트 + 홍채 10 포인트
+    public static final int MAX_FACE_POINTS = 478;
+    public static final int FLOATS_PER_FACE_POINT = 3;
+
+    public static final byte HAND_UNKNOWN = 0;
+    public static final byte HAND_LEFT = 1;
+    public static final byte HAND_RIGHT = 2;
+
+    private final float[] points = new float[MAX_HANDS * FLOATS_PER_HAND];
+    private final byte[] handedness = new byte[MAX_HANDS];
+    private final float[] confidence = new float[MAX_HANDS];
+    private final float[] facePoints = new float[MAX_FACE_POINTS * FLOATS_PER_FACE_POINT];
+    private int sessionToken;
+    private int sequence;
+    private long timestamp;
+    private int handCount;
+    private int facePointCount;
+    private boolean gaze;
+    private float gazeX;
+    private float gazeY;
+    private float gazeConfidence;
+
+    /**
+     * 헤더 값 설정 (포인트 배열은 호출자가 직접 채움)
+     * 손 정보는 handedness 알 수 없음, confidence 1 로 초기화되고 얼굴/시선은 비워진다.
+     */
+    public void setHeader(int sessionToken, int sequence, long timestamp, int handCount) {
+        if (handCount < 0 || handCount > MAX_HANDS) {
+            throw new IllegalArgumentException("지원하지 않는 손 개수: " + handCount);
+        }
+        this.sessionToken = sessionToken;
+        this.sequence = sequence;
+        this.timestamp = timestamp;
+        this.handCount = handCount;
+        for (int hand = 0; hand < handCount; hand++) {
+            handedness[hand] = HAND_UNKNOWN;
+            confidence[hand] = 1f;
+        }
+        this.facePointCount = 0;
+        this.gaze = false;
+    }
+
+    public void setHand(int hand, byte handedness, float confidence) {
+        checkHand(hand);
+        this.handedness[hand] = handedness;
+        this.confidence[hand] = confidence;
+    }
+
+    /**
+     * 얼굴 메시 포인트 수 설정 (포인트는 facePoints() 에 호출자가 직접 채움)
+     */
+    public void setFacePointCount(int facePointCount) {
+        if (facePointCount < 0 || facePointCount > MAX_FACE_POINTS) {
+            throw new IllegalArgumentException("지원하지 않는 얼굴 포인트 수: " + facePointCount);
+        }
+        this.facePointCount = facePointCount;
+    }
+
+    public void setGaze(float x, float y, float confidence) {
+        this.gaze = true;
+        this.gazeX = x;
+        this.gazeY = y;
+        this.gazeConfidence = confidence;
+    }
+
+    /**
+     * 풀에 반납하기 전 상태 초기화 (배열 내용은 다음 디코딩에서 덮어씀)
+     */
+    public void reset() {
+        sessionToken = 0;
+        sequence = 0;
+        timestamp = 0;
+        handCount = 0;
+        facePointCount = 0;
+        gaze = false;
+    }
+
+    /**
+     * JSON 경로 호환: 랜드마크 목록을 버퍼로 복사 (21개 단위로 손을 구분)
+     */
+    public void fromLandmarks(List<GestureDto.HandLandmark> landmarks, long timestamp) {
+        int hands = Math.min(landmarks.size() / LANDMARKS_PER_HAND, MAX_HANDS);
+        setHeader(0, 0, timestamp, hands);
+
+        int count = hands * LANDMARKS_PER_HAND;
+        for (int i = 0; i < count; i++) {
+            copyLandmark(landmarks.get(i), i * FLOATS_PER_LANDMARK);
+        }
+    }
+
+    /**
+     * JSON 요청을 버퍼로 복사 (hands 가 있으면 손별 정보 사용, 없으면 평탄화된 landmarks 사용)
+     */
+    public void fromRequest(GestureDto.CommandRequest request, long timestamp) {
+        List<GestureDto.Hand> hands = request.getHands();
+        if (hands == null || hands.isEmpty()) {
+            fromLandmarks(request.getLandmarks() != null ? request.getLandmarks() : List.of(), timestamp);
+        } else {
+            int count = 0;
+            int limit = Math.min(hands.size(), MAX_HANDS);
+            for (int i = 0; i < limit; i++) {
+                List<GestureDto.HandLandmark> landmarks = hands.get(i).getLandmarks();
+                if (landmarks != null && landmarks.size() >= LANDMARKS_PER_HAND) {
+                    count++;
+                }
+            }
+            setHeader(0, 0, timestamp, count);
+
+            int hand = 0;
+            for (int i = 0; i < limit && hand < count; i++) {
+                GestureDto.Hand source = hands.get(i);
+                List<GestureDto.HandLandmark> landmarks = source.getLandmarks();
+                if (landmarks == null || landmarks.size() < LANDMARKS_PER_HAND) {
+                    continue;
+                }
+                int base = hand * FLOATS_PER_HAND;
+                for (int landmark = 0; landmark < LANDMARKS_PER_HAND; landmark++) {
+                    copyLandmark(landmarks.get(landmark), base + landmark * FLOATS_PER_LANDMARK);
+                }
+                setHand(hand, parseHandedness(source.getHandedness()),
+                        source.getScore() != null ? source.getScore().floatValue() : 1f);
+                hand++;
+            }
+        }
+        if (request.getSequence() != null) {
+            this.sequence = request.getSequence().intValue();
+        }
+
+        List<GestureDto.HandLandmark> face = request.getFace();
+        if (face != null && !face.isEmpty()) {
+            int count = Math.min(face.size(), MAX_FACE_POINTS);
+            for (int i = 0; i < count; i++) {
+                GestureDto.HandLandmark point = face.get(i);
+                int offset = i * FLOATS_PER_FACE_POINT;
+                facePoints[offset] = toFloat(point.getX());
+                facePoints[offset + 1] = toFloat(point.getY());
+                facePoints[offset + 2] = toFloat(point.getZ());
+            }
+            facePointCount = count;
+        }
+
+        GestureDto.Gaze gazePoint = request.getGaze();
+        if (gazePoint != null && gazePoint.getX() != null && gazePoint.getY() != null) {
+            setGaze(gazePoint.getX().floatValue(), gazePoint.getY().floatValue(),
+                    gazePoint.getConfidence() != null ? gazePoint.getConfidence().floatValue() : 1f);
+        }
+    }
+
+    /**
+     * MediaPipe handedness 라벨 변환 ("Left", "Right")
+     */
+    public static byte parseHandedness(String label) {
+        if (label == null) {
+            return HAND_UNKNOWN;
+        }
+        if (label.equalsIgnoreCase("left")) {
+            return HAND_LEFT;
+        }
+        if (label.equalsIgnoreCase("right")) {
+            return HAND_RIGHT;
+        }
+        return HAND_UNKNOWN;
+    }
+
+    /**
+     * 단일 손 제스처에 사용할 손 (confidence 가 가장 높은 손, 없으면 -1)
+     */
+    public int primaryHand() {
+        int primary = -1;
+        float best = Float.NEGATIVE_INFINITY;
+        for (int hand = 0; hand < handCount; hand++) {
+            if (confidence[hand] > best) {
+                best = confidence[hand];
+                primary = hand;
+            }
+        }
+        return primary;
+    }
+
+    /**
+     * 지정한 handedness 의 첫 번째 손 (없으면 -1)
+     */
+    public int findHand(byte handedness) {
+        for (int hand = 0; hand < handCount; hand++) {
+            if (this.handedness[hand] == handedness) {
+                return hand;
+            }
+        }
+        return -1;
+    }
+
+    public float x(int hand, int landmark) {
+        return points[index(hand, landmark)];
+    }
+
+    public float y(int hand, int landmark) {
+        return points[index(hand, landmark) + 1];
+    }
+
+    public float z(int hand, int landmark) {
+        return points[index(hand, landmark) + 2];
+    }
+
+    public float visibility(int hand, int landmark) {
+        return points[index(hand, landmark) + 3];
+    }
+
+    public byte handedness(int hand) {
+        checkHand(hand);
+        return handedness[hand];
+    }
+
+    public float confidence(int hand) {
+        checkHand(hand);
+        return confidence[hand];
+    }
+
+    /**
+     * 평탄화된 원본 포인트 배열 (hand * FLOATS_PER_HAND + landmark * FLOATS_PER_LANDMARK)
+     */
+    public float[] points() {
+        return points;
+    }
+
+    /**
+     * 평탄화된 얼굴 메시 포인트 배열 (point * FLOATS_PER_FACE_POINT)
+     */
+    public float[] facePoints() {
+        return facePoints;
+    }
+
+    public int getSessionToken() {
+        return sessionToken;
+    }
+
+    public int getSequence() {
+        return sequence;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public int getHandCount() {
+        return handCount;
+    }
+
+    public int getLandmarkCount() {
+        return handCount * LANDMARKS_PER_HAND;
+    }
+
+    public int getFacePointCount() {
+        return facePointCount;
+    }
+
+    public boolean hasGaze() {
+        return gaze;
+    }
+
+    public float getGazeX() {
+        return gazeX;
+    }
+
+    public float getGazeY() {
+        return gazeY;
+    }
+
+    public float getGazeConfidence() {
+        return gazeConfidence;
+    }
+
+    private void copyLandmark(GestureDto.HandLandmark landmark, int offset) {
+        points[offset] = toFloat(landmark.getX());
+        points[offset + 1] = toFloat(landmark.getY());
+        points[offset + 2] = toFloat(landmark.getZ());
+        points[offset + 3] = landmark.getVisibility() != null ? landmark.getVisibility().floatValue() : 1f;
+    }
+
+    private void checkHand(int hand) {
+        if (hand < 0 || hand >= handCount) {
+            throw new IndexOutOfBoundsException("손 인덱스 범위 초과: " + hand + " (손 개수: " + handCount + ")");
+        }
+    }
+
+    private static int index(int hand, int landmark) {
+        return hand * FLOATS_PER_HAND + landmark * FLOATS_PER_LANDMARK;
+    }
+
+    private static float toFloat(Double value) {
+        return value != null ? value.floatValue() : 0f;
+    }
+}
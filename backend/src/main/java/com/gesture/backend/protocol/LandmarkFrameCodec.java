@@ -0,0 +1,179 @@
+package com.gesture.backend.protocol;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * 바이너리 랜드마크 프레임 코덱
+ *
+ * 버전 1 프레임 구조 (big-endian):
+ * <pre>
+ *  0  int16   magic (0x474C, "GL")
+ *  2  int8    version (1)
+ *  3  int8    handCount (0..4)
+ *  4  int32   sessionToken
+ *  8  int32   sequence
+ * 12  int64   timestamp (클라이언트 캡처 시각, epoch ms)
+ * 20  float32 x, y, z, visibility × 21 × handCount
+ * </pre>
+ *
+ * 버전 2 프레임 구조 (손별 정보, 얼굴 메시, 시선):
+ * <pre>
+ *  0  int16   magic (0x474C, "GL")
+ *  2  int8    version (2)
+ *  3  int8    handCount (0..4)
+ *  4  int32   sessionToken
+ *  8  int32   sequence
+ * 12  int64   timestamp (클라이언트 캡처 시각, epoch ms)
+ * 20  int16   facePointCount (0..478)
+ * 22  int8    flags (bit 0: 시선 포함)
+ * 23  int8    reserved
+ * 24  [float32 gazeX, gazeY, gazeConfidence]                       시선 플래그가 있을 때만
+ *     [int8 handedness, int8 × 3 reserved, float32 confidence,
+ *      float32 x, y, z, visibility × 21] × handCount
+ *     float32 x, y, z × facePointCount
+ * </pre>
+ * 디코딩은 두 버전을 모두 지원하고, 인코딩은 버전 2 로 한다.
+ */
+public final class LandmarkFrameCodec {
+
+    public static final short MAGIC = 0x474C;
+    public static final byte VERSION = 2;
+    public static final byte VERSION_1 = 1;
+    public static final int HEADER_SIZE = 24;
+    public static final int HEADER_SIZE_V1 = 20;
+    public static final int HAND_SIZE_V1 = LandmarkFrame.FLOATS_PER_HAND * Float.BYTES;
+    public static final int HAND_SIZE = Integer.BYTES + Float.BYTES + HAND_SIZE_V1;
+    public static final int GAZE_SIZE = 3 * Float.BYTES;
+    public static final int FACE_POINT_SIZE = LandmarkFrame.FLOATS_PER_FACE_POINT * Float.BYTES;
+    private static final int FLAG_GAZE = 0x01;
+
+    private LandmarkFrameCodec() {}
+
+    /**
+     * 바이너리 프레임을 재사용 버퍼로 디코딩 (버퍼의 position 은 프레임 끝으로 이동)
+     */
+    public static LandmarkFrame decode(ByteBuffer buffer, LandmarkFrame frame) {
+        try {
+            short magic = buffer.getShort();
+            if (magic != MAGIC) {
+                throw new IllegalArgumentException("잘못된 프레임 헤더: 0x" + Integer.toHexString(magic & 0xFFFF));
+            }
+            byte version = buffer.get();
+            if (version != VERSION && version != VERSION_1) {
+                throw new IllegalArgumentException("지원하지 않는 프레임 버전: " + version);
+            }
+            int handCount = buffer.get() & 0xFF;
+            int sessionToken = buffer.getInt();
+            int sequence = buffer.getInt();
+            long timestamp = buffer.getLong();
+            frame.setHeader(sessionToken, sequence, timestamp, handCount);
+
+            if (version == VERSION_1) {
+                decodeHandsV1(buffer, frame, handCount);
+            } else {
+                decodeBodyV2(buffer, frame, handCount);
+            }
+            return frame;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("프레임 헤더가 잘렸습니다", e);
+        }
+    }
+
+    public static LandmarkFrame decode(byte[] payload, LandmarkFrame frame) {
+        return decode(ByteBuffer.wrap(payload), frame);
+    }
+
+    private static void decodeHandsV1(ByteBuffer buffer, LandmarkFrame frame, int handCount) {
+        if (buffer.remaining() < handCount * HAND_SIZE_V1) {
+            throw new IllegalArgumentException("프레임 길이가 부족합니다: " + buffer.remaining() + " bytes");
+        }
+        float[] points = frame.points();
+        int floats = handCount * LandmarkFrame.FLOATS_PER_HAND;
+        for (int i = 0; i < floats; i++) {
+            points[i] = buffer.getFloat();
+        }
+    }
+
+    private static void decodeBodyV2(ByteBuffer buffer, LandmarkFrame frame, int handCount) {
+        int facePointCount = buffer.getShort() & 0xFFFF;
+        int flags = buffer.get();
+        buffer.get();
+        boolean gaze = (flags & FLAG_GAZE) != 0;
+
+        int bodySize = (gaze ? GAZE_SIZE : 0) + handCount * HAND_SIZE + facePointCount * FACE_POINT_SIZE;
+        if (buffer.remaining() < bodySize) {
+            throw new IllegalArgumentException("프레임 길이가 부족합니다: " + buffer.remaining() + " bytes");
+        }
+        frame.setFacePointCount(facePointCount);
+        if (gaze) {
+            frame.setGaze(buffer.getFloat(), buffer.getFloat(), buffer.getFloat());
+        }
+
+        float[] points = frame.points();
+        for (int hand = 0; hand < handCount; hand++) {
+            byte handedness = buffer.get();
+            buffer.position(buffer.position() + 3);
+            frame.setHand(hand, handedness, buffer.getFloat());
+            int base = hand * LandmarkFrame.FLOATS_PER_HAND;
+            for (int i = 0; i < LandmarkFrame.FLOATS_PER_HAND; i++) {
+                points[base + i] = buffer.getFloat();
+            }
+        }
+
+        float[] facePoints = frame.facePoints();
+        int faceFloats = facePointCount * LandmarkFrame.FLOATS_PER_FACE_POINT;
+        for (int i = 0; i < faceFloats; i++) {
+            facePoints[i] = buffer.getFloat();
+        }
+    }
+
+    /**
+     * 프레임을 버전 2 바이너리로 인코딩 (벤치마크/리플레이 및 클라이언트 구현 참고용)
+     */
+    public static void encode(LandmarkFrame frame, ByteBuffer buffer) {
+        int handCount = frame.getHandCount();
+        buffer.putShort(MAGIC);
+        buffer.put(VERSION);
+        buffer.put((byte) handCount);
+        buffer.putInt(frame.getSessionToken());
+        buffer.putInt(frame.getSequence());
+        buffer.putLong(frame.getTimestamp());
+        buffer.putShort((short) frame.getFacePointCount());
+        buffer.put((byte) (frame.hasGaze() ? FLAG_GAZE : 0));
+        buffer.put((byte) 0);
+
+        if (frame.hasGaze()) {
+            buffer.putFloat(frame.getGazeX());
+            buffer.putFloat(frame.getGazeY());
+            buffer.putFloat(frame.getGazeConfidence());
+        }
+
+        float[] points = frame.points();
+        for (int hand = 0; hand < handCount; hand++) {
+            buffer.put(frame.handedness(hand));
+            buffer.put((byte) 0).put((byte) 0).put((byte) 0);
+            buffer.putFloat(frame.confidence(hand));
+            int base = hand * LandmarkFrame.FLOATS_PER_HAND;
+            for (int i = 0; i < LandmarkFrame.FLOATS_PER_HAND; i++) {
+                buffer.putFloat(points[base + i]);
+            }
+        }
+
+        float[] facePoints = frame.facePoints();
+        int faceFloats = frame.getFacePointCount() * LandmarkFrame.FLOATS_PER_FACE_POINT;
+        for (int i = 0; i < faceFloats; i++) {
+            buffer.putFloat(facePoints[i]);
+        }
+    }
+
+    /**
+     * 버전 2 인코딩 크기
+     */
+    public static int encodedSize(LandmarkFrame frame) {
+        return HEADER_SIZE
+                + (frame.hasGaze() ? GAZE_SIZE : 0)
+                + frame.getHandCount() * HAND_SIZE
+                + frame.getFacePointCount() * FACE_POINT_SIZE;
+    }
+}
@@ -0,0 +1,85 @@
+package com.gesture.backend.protocol;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 크기가 고정된 lock-free 랜드마크 프레임 풀
+ *
+ * 칸마다 하나의 프레임을 담아 두고 acquire 는 채워진 칸을, release 는 빈 칸을 CAS 로 차지한다.
+ * 탐색 시작 칸은 스레드마다 다르게 잡아 경합을 줄인다. 풀이 비어 있으면 새 프레임을 만들고
+ * (allocations 로 집계), 가득 차 있으면 반납된 프레임을 버린다. 정상 상태에서는 동시 처리 중인
+ * 프레임 수가 용량을 넘지 않으므로 스트리밍 중 할당이 일어나지 않는다.
+ */
+public final class LandmarkFramePool {
+
+    private final AtomicReferenceArray<LandmarkFrame> slots;
+    private final int mask;
+    private final AtomicLong allocations = new AtomicLong();
+    private final AtomicLong discarded = new AtomicLong();
+
+    public LandmarkFramePool(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("프레임 풀 용량은 2 이상의 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots.set(i, new LandmarkFrame());
+        }
+    }
+
+    /**
+     * 프레임 대여 (처리가 끝나면 반드시 release 로 반납)
+     */
+    public LandmarkFrame acquire() {
+        int start = probe();
+        for (int i = 0; i <= mask; i++) {
+            int index = (start + i) & mask;
+            LandmarkFrame frame = slots.get(index);
+            if (frame != null && slots.compareAndSet(index, frame, null)) {
+                return frame;
+            }
+        }
+        allocations.incrementAndGet();
+        return new LandmarkFrame();
+    }
+
+    /**
+     * 프레임 반납 (반납 후에는 프레임을 참조하지 않아야 함)
+     */
+    public void release(LandmarkFrame frame) {
+        frame.reset();
+        int start = probe();
+        for (int i = 0; i <= mask; i++) {
+            int index = (start + i) & mask;
+            if (slots.get(index) == null && slots.compareAndSet(index, null, frame)) {
+                return;
+            }
+        }
+        discarded.incrementAndGet();
+    }
+
+    /**
+     * 풀이 비어 새로 만든 프레임 수
+     */
+    public long getAllocations() {
+        return allocations.get();
+    }
+
+    /**
+     * 풀이 가득 차 버려진 프레임 수
+     */
+    public long getDiscarded() {
+        return discarded.get();
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    private static int probe() {
+        long id = Thread.currentThread().threadId();
+        return (int) (id ^ (id >>> 16)) * 0x9E3779B9;
+    }
+}
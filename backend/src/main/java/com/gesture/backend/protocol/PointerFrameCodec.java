@@ -0,0 +1,69 @@
+package com.gesture.backend.protocol;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 바이너리 포인터 이동 프레임 코덱
+ *
+ * 프레임 구조 (big-endian, 24 bytes):
+ * <pre>
+ *  0  int16  magic (0x4750, "GP")
+ *  2  int8   version (1)
+ *  3  int8   flags (예약)
+ *  4  int32  sequence
+ *  8  int32  x (화면 픽셀)
+ * 12  int32  y (화면 픽셀)
+ * 16  int64  timestamp (클라이언트 캡처 시각, epoch ms)
+ * </pre>
+ * 필드는 절대 위치로 읽으므로 디코딩 시 객체를 만들지 않는다.
+ */
+public final class PointerFrameCodec {
+
+    public static final short MAGIC = 0x4750;
+    public static final byte VERSION = 1;
+    public static final int FRAME_SIZE = 24;
+
+    private PointerFrameCodec() {}
+
+    /**
+     * 버퍼 현재 위치에 유효한 포인터 프레임이 있는지 확인
+     */
+    public static void validate(ByteBuffer buffer) {
+        int base = buffer.position();
+        if (buffer.remaining() < FRAME_SIZE) {
+            throw new IllegalArgumentException("포인터 프레임 길이가 부족합니다: " + buffer.remaining() + " bytes");
+        }
+        if (buffer.getShort(base) != MAGIC) {
+            throw new IllegalArgumentException("잘못된 포인터 프레임 헤더");
+        }
+        if (buffer.get(base + 2) != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 포인터 프레임 버전: " + buffer.get(base + 2));
+        }
+    }
+
+    public static int sequence(ByteBuffer buffer) {
+        return buffer.getInt(buffer.position() + 4);
+    }
+
+    public static int x(ByteBuffer buffer) {
+        return buffer.getInt(buffer.position() + 8);
+    }
+
+    public static int y(ByteBuffer buffer) {
+        return buffer.getInt(buffer.position() + 12);
+    }
+
+    public static long timestamp(ByteBuffer buffer) {
+        return buffer.getLong(buffer.position() + 16);
+    }
+
+    public static void encode(int sequence, int x, int y, long timestamp, ByteBuffer buffer) {
+        buffer.putShort(MAGIC);
+        buffer.put(VERSION);
+        buffer.put((byte) 0);
+        buffer.putInt(sequence);
+        buffer.putInt(x);
+        buffer.putInt(y);
+        buffer.putLong(timestamp);
+    }
+}
@@ -0,0 +1,182 @@
+package com.gesture.backend.recording;
+
+import com.gesture.backend.protocol.LandmarkFrame;
+import com.gesture.backend.protocol.LandmarkFrameCodec;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 포인터/랜드마크 스트림 녹화기 (gesture.recording.enabled=true 일 때만 동작)
+ *
+ * 세그먼트 단위로 메모리 매핑한 파일에 레코드를 바로 복사하므로 레코드마다 시스템 콜이 없다.
+ * 세그먼트가 차면 다음 위치를 새로 매핑하고, 종료 시 실제 기록한 길이로 파일을 잘라낸다.
+ * 기록은 짧은 복사뿐이라 synchronized 로 직렬화한다 (녹화는 부하 재현용 도구이며 기본 비활성화).
+ */
+@Service
+public class FrameRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(FrameRecorder.class);
+
+    private final Path directory;
+    private final long segmentSize;
+    private final Map<String, Integer> sessionNumbers = new ConcurrentHashMap<>();
+    private final AtomicInteger nextSessionNumber = new AtomicInteger();
+
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private long segmentBase;
+    private long startNanos;
+    private Path file;
+    private volatile boolean recording;
+
+    public FrameRecorder(@Value("${gesture.recording.enabled:false}") boolean enabled,
+                         @Value("${gesture.recording.directory:recordings}") String directory,
+                         @Value("${gesture.recording.segment-size-mb:64}") int segmentSizeMb) {
+        this.directory = Path.of(directory);
+        this.segmentSize = (long) segmentSizeMb * 1024 * 1024;
+        if (enabled) {
+            open();
+        }
+    }
+
+    private synchronized void open() {
+        try {
+            Files.createDirectories(directory);
+            file = directory.resolve("gesture-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".grec");
+            channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            segmentBase = 0;
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            startNanos = System.nanoTime();
+
+            segment.putInt(RecordingFormat.MAGIC);
+            segment.put(RecordingFormat.VERSION);
+            segment.put((byte) 0).put((byte) 0).put((byte) 0);
+            segment.putLong(System.currentTimeMillis());
+            recording = true;
+            log.info("⏺️ 프레임 녹화 시작: {}", file.toAbsolutePath());
+        } catch (IOException e) {
+            log.warn("⚠️ 녹화 파일을 열 수 없어 녹화를 비활성화합니다: {}", e.getMessage());
+        }
+    }
+
+    public boolean isRecording() {
+        return recording;
+    }
+
+    public void recordPointer(String sessionId, int x, int y) {
+        if (!recording) {
+            return;
+        }
+        int session = sessionNumber(sessionId);
+        synchronized (this) {
+            if (!ensureCapacity(RecordingFormat.RECORD_HEADER_SIZE + RecordingFormat.POINTER_PAYLOAD_SIZE)) {
+                return;
+            }
+            putHeader(RecordingFormat.KIND_POINTER, RecordingFormat.POINTER_PAYLOAD_SIZE, session);
+            segment.putInt(x);
+            segment.putInt(y);
+        }
+    }
+
+    public void recordLandmarks(String sessionId, LandmarkFrame frame) {
+        if (!recording) {
+            return;
+        }
+        int session = sessionNumber(sessionId);
+        int payloadSize = LandmarkFrameCodec.encodedSize(frame);
+        synchronized (this) {
+            if (!ensureCapacity(RecordingFormat.RECORD_HEADER_SIZE + payloadSize)) {
+                return;
+            }
+            putHeader(RecordingFormat.KIND_LANDMARKS, payloadSize, session);
+            LandmarkFrameCodec.encode(frame, segment);
+        }
+    }
+
+    private void putHeader(byte kind, int payloadSize, int session) {
+        segment.put(kind);
+        segment.put((byte) 0);
+        segment.putShort((short) payloadSize);
+        segment.putInt(session);
+        segment.putLong(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * 남은 공간이 부족하면 현재 위치부터 새 세그먼트를 매핑
+     */
+    private boolean ensureCapacity(int bytes) {
+        if (!recording) {
+            return false;
+        }
+        if (segment.remaining() >= bytes) {
+            return true;
+        }
+        try {
+            segmentBase += segment.position();
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, segmentBase, segmentSize);
+            return true;
+        } catch (IOException e) {
+            recording = false;
+            log.warn("⚠️ 녹화 세그먼트 매핑 실패 - 녹화 중단: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private int sessionNumber(String sessionId) {
+        Integer number = sessionNumbers.get(sessionId);
+        if (number == null) {
+            number = sessionNumbers.computeIfAbsent(sessionId, id -> nextSessionNumber.getAndIncrement());
+        }
+        return number;
+    }
+
+    @EventListener
+    public void onSessionDisconnect(SessionDisconnectEvent event) {
+        removeSession(event.getSessionId());
+    }
+
+    public void removeSession(String sessionId) {
+        sessionNumbers.remove(sessionId);
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (channel == null) {
+            return;
+        }
+        recording = false;
+        long length = segmentBase + segment.position();
+        try {
+            segment.force();
+            try {
+                channel.truncate(length);
+            } catch (IOException e) {
+                // 매핑이 남아 있으면 잘라낼 수 없는 플랫폼(Windows)이 있으며, 남은 0 영역은 읽을 때 파일 끝으로 처리된다
+                log.debug("녹화 파일 길이 정리 생략: {}", e.getMessage());
+            }
+            channel.close();
+            log.info("⏹️ 프레임 녹화 종료: {} ({} bytes)", file.toAbsolutePath(), length);
+        } catch (IOException e) {
+            log.warn("⚠️ 녹화 파일 닫기 실패: {}", e.getMessage());
+        } finally {
+            channel = null;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.gesture.backend.recording;
+
+/**
+ * 녹화 파일 형식 (big-endian, 추가 전용)
+ *
+ * <pre>
+ * 파일 헤더 (16 bytes)
+ *  0  int32  magic (0x47524543, "GREC")
+ *  4  int8   version (1)
+ *  5  int8[3] 예약
+ *  8  int64  녹화 시작 시각 (epoch ms)
+ *
+ * 레코드 (16 bytes 헤더 + payload)
+ *  0  int8   kind (1: 포인터, 2: 랜드마크, 0: 파일 끝)
+ *  1  int8   예약
+ *  2  uint16 payload 길이
+ *  4  int32  세션 번호 (파일 안에서만 유효)
+ *  8  int64  녹화 시작 이후 경과 시간 (ns)
+ * 16  payload
+ *       포인터: int32 x, int32 y
+ *       랜드마크: LandmarkFrameCodec 프레임
+ * </pre>
+ * 매핑된 파일의 미기록 영역은 0 으로 채워지므로, 비정상 종료된 파일도 kind 0 에서 끝난다.
+ */
+final class RecordingFormat {
+
+    static final int MAGIC = 0x47524543;
+    static final byte VERSION = 1;
+    static final int FILE_HEADER_SIZE = 16;
+    static final int RECORD_HEADER_SIZE = 16;
+
+    static final byte KIND_END = 0;
+    static final byte KIND_POINTER = 1;
+    static final byte KIND_LANDMARKS = 2;
+
+    static final int POINTER_PAYLOAD_SIZE = 8;
+
+    private RecordingFormat() {}
+}
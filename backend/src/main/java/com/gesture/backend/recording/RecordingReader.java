@@ -0,0 +1,105 @@
+package com.gesture.backend.recording;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 녹화 파일 순차 읽기 (읽기 전용 메모리 매핑)
+ *
+ * next() 로 레코드를 하나씩 넘기며, payload() 는 파일 버퍼를 공유하는 읽기 전용 조각이다.
+ */
+public class RecordingReader implements Closeable {
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final long startEpochMs;
+
+    private byte kind;
+    private int session;
+    private long elapsedNanos;
+    private ByteBuffer payload;
+
+    public RecordingReader(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            channel.close();
+            throw new IOException("2GB 를 넘는 녹화 파일은 지원하지 않습니다: " + file);
+        }
+        this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        if (size < RecordingFormat.FILE_HEADER_SIZE || buffer.getInt() != RecordingFormat.MAGIC) {
+            channel.close();
+            throw new IOException("녹화 파일이 아닙니다: " + file);
+        }
+        byte version = buffer.get();
+        if (version != RecordingFormat.VERSION) {
+            channel.close();
+            throw new IOException("지원하지 않는 녹화 파일 버전: " + version);
+        }
+        buffer.position(8);
+        this.startEpochMs = buffer.getLong();
+    }
+
+    /**
+     * 다음 레코드로 이동 (파일 끝이거나 마지막 레코드가 잘려 있으면 false)
+     */
+    public boolean next() {
+        if (buffer.remaining() < RecordingFormat.RECORD_HEADER_SIZE) {
+            return false;
+        }
+        int base = buffer.position();
+        byte nextKind = buffer.get(base);
+        int length = buffer.getShort(base + 2) & 0xFFFF;
+        if (nextKind == RecordingFormat.KIND_END || buffer.remaining() < RecordingFormat.RECORD_HEADER_SIZE + length) {
+            return false;
+        }
+        kind = nextKind;
+        session = buffer.getInt(base + 4);
+        elapsedNanos = buffer.getLong(base + 8);
+        payload = buffer.slice(base + RecordingFormat.RECORD_HEADER_SIZE, length).asReadOnlyBuffer();
+        buffer.position(base + RecordingFormat.RECORD_HEADER_SIZE + length);
+        return true;
+    }
+
+    public boolean isPointer() {
+        return kind == RecordingFormat.KIND_POINTER;
+    }
+
+    public boolean isLandmarks() {
+        return kind == RecordingFormat.KIND_LANDMARKS;
+    }
+
+    public int session() {
+        return session;
+    }
+
+    public long elapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public ByteBuffer payload() {
+        return payload;
+    }
+
+    public int pointerX() {
+        return payload.getInt(0);
+    }
+
+    public int pointerY() {
+        return payload.getInt(4);
+    }
+
+    public long getStartEpochMs() {
+        return startEpochMs;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
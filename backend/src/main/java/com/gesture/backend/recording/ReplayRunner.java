@@ -0,0 +1,155 @@
+package com.gesture.backend.recording;
+
+import com.gesture.backend.GestureBackendApplication;
+import com.gesture.backend.controller.GestureWebSocketController;
+import com.gesture.backend.dto.GestureDto;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 녹화 파일 리플레이 도구
+ *
+ * 녹화된 세션을 지정한 수만큼 복제해 가상 스레드마다 하나씩, 헤드리스 애플리케이션 컨텍스트의
+ * GestureWebSocketController 에 그대로 다시 넣는다. 속도는 1 (원래 간격), N (N배 빠르게), max (대기 없음).
+ * 랜드마크는 녹화 시 바이너리 프레임으로 저장되므로 바이너리 엔드포인트 경로로 재생된다.
+ * 끝나면 호출 지연 분포와 처리량을 출력한다.
+ *
+ * 사용법: ./gradlew replay -Pfile=recordings/gesture-....grec -Pspeed=max -Psessions=50
+ */
+public final class ReplayRunner {
+
+    private ReplayRunner() {}
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1 || args[0].isBlank()) {
+            System.err.println("사용법: ReplayRunner <녹화 파일> [speed: 1 | N | max] [복제 세션 수]");
+            System.exit(1);
+        }
+        Path file = Path.of(args[0]);
+        double speed = args.length > 1 && !"max".equalsIgnoreCase(args[1]) ? Double.parseDouble(args[1]) : 0;
+        int clones = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+
+        Map<Integer, List<ReplayFrame>> sessions = load(file);
+        int frames = sessions.values().stream().mapToInt(List::size).sum();
+        System.out.printf("녹화 세션 %d개, 프레임 %d개 → 시뮬레이션 세션 %d개, 속도 %s%n",
+                sessions.size(), frames, sessions.size() * clones, speed == 0 ? "max" : speed + "x");
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(GestureBackendApplication.class)
+                .headless(true)
+                .properties("server.port=0", "spring.main.banner-mode=off", "gesture.recording.enabled=false")
+                .run()) {
+            GestureWebSocketController controller = context.getBean(GestureWebSocketController.class);
+            replay(controller, sessions, clones, speed);
+        }
+    }
+
+    /**
+     * 세션별 프레임 목록으로 읽어 둠 (리플레이 중에는 파일/디코딩 비용이 섞이지 않도록)
+     */
+    static Map<Integer, List<ReplayFrame>> load(Path file) throws IOException {
+        Map<Integer, List<ReplayFrame>> sessions = new TreeMap<>();
+        try (RecordingReader reader = new RecordingReader(file)) {
+            while (reader.next()) {
+                ReplayFrame frame;
+                if (reader.isPointer()) {
+                    GestureDto.CommandRequest request = new GestureDto.CommandRequest();
+                    request.setGestureType("mouse_pointer");
+                    request.setX(reader.pointerX());
+                    request.setY(reader.pointerY());
+                    frame = new ReplayFrame(reader.elapsedNanos(), request, null);
+                } else if (reader.isLandmarks()) {
+                    byte[] payload = new byte[reader.payload().remaining()];
+                    reader.payload().get(0, payload);
+                    frame = new ReplayFrame(reader.elapsedNanos(), null, payload);
+                } else {
+                    continue;
+                }
+                sessions.computeIfAbsent(reader.session(), id -> new ArrayList<>()).add(frame);
+            }
+        }
+        return sessions;
+    }
+
+    static void replay(GestureWebSocketController controller, Map<Integer, List<ReplayFrame>> sessions,
+                       int clones, double speed) throws InterruptedException {
+        List<Thread> threads = new ArrayList<>();
+        List<long[]> latencies = new ArrayList<>();
+        long start = System.nanoTime();
+
+        for (int clone = 0; clone < clones; clone++) {
+            for (Map.Entry<Integer, List<ReplayFrame>> entry : sessions.entrySet()) {
+                String sessionId = "replay-" + clone + "-" + entry.getKey();
+                List<ReplayFrame> frames = entry.getValue();
+                long[] samples = new long[frames.size()];
+                latencies.add(samples);
+                threads.add(Thread.ofVirtual().name(sessionId).start(
+                        () -> replaySession(controller, sessionId, frames, samples, start, speed)));
+            }
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long[] all = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        System.out.printf("프레임 %d개, %.1f ms, %.0f frames/s%n",
+                all.length, elapsed / 1e6, all.length / (elapsed / 1e9));
+        if (all.length > 0) {
+            System.out.printf("호출 지연 (µs) p50 %.1f, p90 %.1f, p99 %.1f, p99.9 %.1f, max %.1f%n",
+                    percentile(all, 0.50), percentile(all, 0.90), percentile(all, 0.99),
+                    percentile(all, 0.999), all[all.length - 1] / 1e3);
+        }
+    }
+
+    private static void replaySession(GestureWebSocketController controller, String sessionId,
+                                      List<ReplayFrame> frames, long[] samples, long start, double speed) {
+        SimpMessageHeaderAccessor headerAccessor = SimpMessageHeaderAccessor.create();
+        headerAccessor.setSessionId(sessionId);
+        headerAccessor.setLeaveMutable(true);
+
+        for (int i = 0; i < frames.size(); i++) {
+            ReplayFrame frame = frames.get(i);
+            if (speed > 0) {
+                long due = start + (long) (frame.elapsedNanos / speed);
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            }
+            long callStart = System.nanoTime();
+            if (frame.pointer != null) {
+                controller.handleMouseMove(frame.pointer, headerAccessor);
+            } else {
+                controller.analyzeBinaryLandmarks(frame.landmarks, headerAccessor);
+            }
+            samples[i] = System.nanoTime() - callStart;
+        }
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+        return sorted[Math.max(index, 0)] / 1e3;
+    }
+
+    static final class ReplayFrame {
+        private final long elapsedNanos;
+        private final GestureDto.CommandRequest pointer;
+        private final byte[] landmarks;
+
+        ReplayFrame(long elapsedNanos, GestureDto.CommandRequest pointer, byte[] landmarks) {
+            this.elapsedNanos = elapsedNanos;
+            this.pointer = pointer;
+            this.landmarks = landmarks;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.gesture.backend.service;
+
+import com.gesture.backend.gesture.GestureType;
+import com.gesture.backend.metrics.GestureMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 세션별 제스처 쿨다운 (debounce)
+ *
+ * 세션마다 GestureType ordinal 로 인덱싱되는 마지막 실행 시각 배열(nanoTime)을 두고,
+ * 확인과 기록을 CAS 한 번으로 처리한다. 같은 세션에서 동시에 들어온 요청 중 하나만 통과하며,
+ * 다른 세션의 액션에는 영향을 주지 않는다. 락은 사용하지 않는다.
+ *
+ * 창 크기는 gesture.cooldown.default-ms 와 gesture.cooldown.windows.{wireName} 으로 설정한다 (0 이면 제한 없음).
+ */
+@Service
+public class CooldownLimiter {
+
+    // nanoTime 은 음수도 가능하므로 "실행 기록 없음" 은 별도 값으로 구분
+    private static final long NEVER = Long.MIN_VALUE;
+    private static final GestureType[] TYPES = GestureType.values();
+
+    private final GestureMetrics gestureMetrics;
+    private final long[] windowNanos = new long[TYPES.length];
+    private final Map<String, AtomicLongArray> sessions = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CooldownLimiter(GestureMetrics gestureMetrics, Environment environment) {
+        this.gestureMetrics = gestureMetrics;
+        long defaultMs = environment.getProperty("gesture.cooldown.default-ms", Long.class, 100L);
+        for (GestureType type : TYPES) {
+            long ms = environment.getProperty("gesture.cooldown.windows." + type.getWireName(), Long.class, defaultMs);
+            windowNanos[type.ordinal()] = Duration.ofMillis(ms).toNanos();
+        }
+    }
+
+    /**
+     * 쿨다운이 지났으면 실행 시각을 기록하고 true, 아직 쿨다운 중이면 false
+     */
+    public boolean tryAcquire(String sessionId, GestureType type) {
+        int index = type.ordinal();
+        long window = windowNanos[index];
+        if (window == 0) {
+            return true;
+        }
+
+        AtomicLongArray lastAcquired = sessions.computeIfAbsent(sessionId, id -> newSlots());
+        long now = System.nanoTime();
+        while (true) {
+            long last = lastAcquired.get(index);
+            if (last != NEVER && now - last < window) {
+                gestureMetrics.recordCooldownRejection(type.getWireName());
+                return false;
+            }
+            if (lastAcquired.compareAndSet(index, last, now)) {
+                return true;
+            }
+            // 다른 스레드가 먼저 기록했다면 그 값으로 다시 판단 (대부분 쿨다운으로 거절됨)
+        }
+    }
+
+    @EventListener
+    public void onSessionDisconnect(SessionDisconnectEvent event) {
+        removeSession(event.getSessionId());
+    }
+
+    public void removeSession(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    private static AtomicLongArray newSlots() {
+        AtomicLongArray slots = new AtomicLongArray(TYPES.length);
+        for (int i = 0; i < TYPES.length; i++) {
+            slots.set(i, NEVER);
+        }
+        return slots;
+    }
+}
@@ -0,0 +1,122 @@
+package com.gesture.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 제스처 액션 비동기 실행기
+ *
+ * 세션마다 순서가 보장되는 실행 레인을 두고, 레인별 대기열 길이를 제한한다.
+ * 인바운드 스레드는 액션을 등록만 하고 즉시 반환하며, 완료 결과는 반환된 future 로 전달된다.
+ * 대기열이 가득 찬 세션의 요청은 대기하지 않고 즉시 거절된다 (backpressure).
+ */
+@Service
+public class GestureActionExecutor {
+
+    private final ExecutorService workers;
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+    private final int queueCapacity;
+
+    public GestureActionExecutor(@Value("${gesture.action.queue-capacity:16}") int queueCapacity,
+                                 @Value("${gesture.action.virtual-threads:true}") boolean virtualThreads,
+                                 @Value("${gesture.action.worker-threads:4}") int workerThreads) {
+        this.queueCapacity = queueCapacity;
+        if (virtualThreads) {
+            this.workers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("gesture-action-", 0).factory());
+        } else {
+            AtomicInteger counter = new AtomicInteger();
+            this.workers = Executors.newFixedThreadPool(workerThreads, r -> {
+                Thread thread = new Thread(r, "gesture-action-" + counter.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * 세션 레인에 액션 등록 (같은 세션의 액션은 등록 순서대로 하나씩 실행)
+     */
+    public CompletableFuture<Void> submit(String sessionId, Runnable action) {
+        Lane lane = lanes.computeIfAbsent(sessionId, id -> new Lane());
+
+        int pending = lane.pending.incrementAndGet();
+        if (pending > queueCapacity) {
+            lane.pending.decrementAndGet();
+            return CompletableFuture.failedFuture(
+                    new RejectedExecutionException("처리 대기 중인 제스처가 너무 많습니다"));
+        }
+
+        Task task = new Task(action);
+        lane.queue.offer(task);
+
+        // 비어 있던 레인에 처음 들어온 작업만 드레인을 시작
+        if (pending == 1) {
+            try {
+                workers.execute(() -> drain(lane));
+            } catch (RejectedExecutionException e) {
+                lane.queue.remove(task);
+                lane.pending.decrementAndGet();
+                task.future.completeExceptionally(e);
+            }
+        }
+        return task.future;
+    }
+
+    private void drain(Lane lane) {
+        do {
+            Task task;
+            // pending 증가 후 offer 전 사이의 짧은 구간을 기다림
+            while ((task = lane.queue.poll()) == null) {
+                Thread.onSpinWait();
+            }
+            try {
+                task.action.run();
+                task.future.complete(null);
+            } catch (Throwable e) {
+                task.future.completeExceptionally(e);
+            }
+        } while (lane.pending.decrementAndGet() > 0);
+    }
+
+    @EventListener
+    public void onSessionDisconnect(SessionDisconnectEvent event) {
+        removeSession(event.getSessionId());
+    }
+
+    public void removeSession(String sessionId) {
+        // 실행 중인 작업은 끝까지 처리되고 레인만 정리된다
+        lanes.remove(sessionId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private static final class Lane {
+        private final Queue<Task> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+    }
+
+    private static final class Task {
+        private final Runnable action;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private Task(Runnable action) {
+            this.action = action;
+        }
+    }
+}
@@ -1,353 +1,219 @@
 package com.gesture.backend.service;
 
+import com.gesture.backend.filter.PointerFilter;
+import com.gesture.backend.filter.PointerFilterFactory;
+import com.gesture.backend.input.InputDevice;
+import com.gesture.backend.input.InputDispatcher;
+import com.gesture.backend.input.InputSequence;
+import com.gesture.backend.logging.LogSampler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import java.awt.*;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 import java.awt.event.InputEvent;
-import java.awt.event.KeyEvent;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.Map;
 
 @Service
 public class MouseControlService {
     
-    private final Robot robot;
-    private final WindowsMouseControlService windowsMouseControlService;
-    private final Map<String, Long> lastActionTime = new ConcurrentHashMap<>();
-    private final long ACTION_COOLDOWN = 100; // 100ms 쿨다운
-    private final boolean isHeadless;
-    private final String osName;
-    private final boolean isWindows;
-    private final boolean isLinux;
-    private final boolean isMacOS;
+    private static final Logger log = LoggerFactory.getLogger(MouseControlService.class);
+    // 프레임 단위 이동 로그는 초당 5건까지만 기록
+    private static final LogSampler MOVE_LOG_SAMPLER = new LogSampler(5, Duration.ofSeconds(1));
     
-    // 마우스 위치 스무딩을 위한 변수들
-    private int lastX = 0;
-    private int lastY = 0;
-    private final double SMOOTHING_FACTOR = 0.3;
+    private final InputDevice inputDevice;
+    private final InputDispatcher inputDispatcher;
+    private final InputSequence leftClickSequence;
+    private final InputSequence rightClickSequence;
+    private final InputSequence doubleClickSequence;
+    private final int keyHoldMs;
+    
+    // 마우스 위치 스무딩 상태 (세션별 포인터 필터)
+    private static final String DEFAULT_SESSION = "default";
+    private final PointerFilterFactory pointerFilterFactory;
+    private final Map<String, SmoothingSession> smoothingSessions = new ConcurrentHashMap<>();
     
     @Autowired
-    public MouseControlService(WindowsMouseControlService windowsMouseControlService) {
-        this.windowsMouseControlService = windowsMouseControlService;
-        
-        // 운영체제 정보 초기화
-        this.osName = System.getProperty("os.name").toLowerCase();
-        this.isWindows = osName.contains("windows");
-        this.isLinux = osName.contains("linux");
-        this.isMacOS = osName.contains("mac");
-        
-        // 헤드리스 환경 체크
-        this.isHeadless = GraphicsEnvironment.isHeadless();
-        
-        System.out.println("🖥️ 시스템 정보:");
-        System.out.println("  - OS: " + osName);
-        System.out.println("  - Windows: " + isWindows);
-        System.out.println("  - Linux: " + isLinux);
-        System.out.println("  - macOS: " + isMacOS);
-        System.out.println("  - 헤드리스: " + isHeadless);
-        
-        if (isHeadless) {
-            System.out.println("⚠️ 헤드리스 환경 감지 - GUI 기능 비활성화");
-            this.robot = null;
-        } else {
-            try {
-                // GUI 환경에서만 Robot 초기화
-                this.robot = new Robot();
-                robot.setAutoDelay(10); // 10ms 딜레이
-                
-                // 화면 크기 가져오기
-                Dimension screenSize = Toolkit.getDefaultToolkit().getScreenSize();
-                System.out.println("🖥️ 화면 크기: " + screenSize.width + "x" + screenSize.height);
-                System.out.println("✅ MouseControlService 초기화 완료 (" + osName + ")");
-            } catch (AWTException e) {
-                System.err.println("❌ Robot 클래스 초기화 실패: " + e.getMessage());
-                throw new RuntimeException("❌ Robot 클래스 초기화 실패: " + e.getMessage(), e);
-            }
-        }
+    public MouseControlService(InputDevice inputDevice,
+                               PointerFilterFactory pointerFilterFactory,
+                               @Value("${gesture.input.click-hold-ms:20}") int clickHoldMs,
+                               @Value("${gesture.input.double-click-gap-ms:60}") int doubleClickGapMs,
+                               @Value("${gesture.input.key-hold-ms:20}") int keyHoldMs) {
+        this.inputDevice = inputDevice;
+        this.inputDispatcher = new InputDispatcher(inputDevice);
+        this.pointerFilterFactory = pointerFilterFactory;
+        
+        // 제스처별 입력 시퀀스는 한 번만 구성해 재사용
+        this.keyHoldMs = keyHoldMs;
+        this.leftClickSequence = InputSequence.click(InputEvent.BUTTON1_DOWN_MASK, clickHoldMs);
+        this.rightClickSequence = InputSequence.click(InputEvent.BUTTON3_DOWN_MASK, clickHoldMs);
+        this.doubleClickSequence = InputSequence.doubleClick(InputEvent.BUTTON1_DOWN_MASK, clickHoldMs, doubleClickGapMs);
+        
+        log.info("✅ MouseControlService 초기화 완료 (입력 장치: {})", inputDevice.name());
     }
     
     /**
-     * 마우스 위치 이동 (스무딩 적용) - Windows API 우선 사용
+     * 마우스 위치 이동 (스무딩 적용) - 세션 구분 없는 호출용
      */
     public void moveMouseSmooth(int x, int y) {
-        // 스무딩 적용
-        int smoothedX = (int) (lastX + (x - lastX) * SMOOTHING_FACTOR);
-        int smoothedY = (int) (lastY + (y - lastY) * SMOOTHING_FACTOR);
-        
-        // Windows: Windows API 우선 시도
-        if (isWindows && windowsMouseControlService.isWindowsApiAvailable()) {
-            boolean success = windowsMouseControlService.moveMouseDirect(smoothedX, smoothedY);
-            if (success) {
-                lastX = smoothedX;
-                lastY = smoothedY;
-                return;
-            }
-            System.out.println("⚠️ Windows API 실패 - Robot 클래스로 대체");
-        }
+        moveMouseSmooth(DEFAULT_SESSION, x, y);
+    }
+    
+    /**
+     * 마우스 위치 이동 (세션별 스무딩 적용)
+     */
+    public void moveMouseSmooth(String sessionId, int x, int y) {
+        long smoothed = smooth(sessionId, x, y);
+        int smoothedX = PackedPoint.x(smoothed);
+        int smoothedY = PackedPoint.y(smoothed);
         
-        // Linux/macOS 또는 Windows API 실패: Robot 클래스 사용
-        if (isHeadless || robot == null) {
-            System.out.println("🖱️ 헤드리스 환경 - 마우스 이동 시뮬레이션: (" + smoothedX + ", " + smoothedY + ")");
-            lastX = smoothedX;
-            lastY = smoothedY;
-            return;
-        }
+        // 실제 이동은 디바이스 스레드가 시퀀스 사이에서 실행 (실패 로그도 그쪽에서)
+        inputDispatcher.move(smoothedX, smoothedY);
         
-        try {
-            robot.mouseMove(smoothedX, smoothedY);
-            lastX = smoothedX;
-            lastY = smoothedY;
-            
-            String osInfo = isLinux ? "Linux" : isMacOS ? "macOS" : "Robot";
-            System.out.println("🖱️ " + osInfo + " 마우스 이동: (" + smoothedX + ", " + smoothedY + ")");
-        } catch (Exception e) {
-            System.err.println("❌ 마우스 이동 실패 (" + osName + "): " + e.getMessage());
+        if (log.isDebugEnabled() && MOVE_LOG_SAMPLER.tryAcquire()) {
+            log.debug("🖱️ {} 마우스 이동: ({}, {})", inputDevice.name(), smoothedX, smoothedY);
         }
     }
     
     /**
-     * 마우스 위치 이동 (즉시)
+     * 세션의 포인터 필터를 통과시킨 좌표를 반환
+     *
+     * 필터 상태는 소유권 플래그를 CAS 로 획득한 스레드만 갱신한다. 포인터 파이프라인은
+     * 세션당 하나의 드레인만 실행하므로 경합은 사실상 없고, 경합 시에는 대기하지 않고
+     * 마지막 출력 좌표를 그대로 사용한다 (최신 값 우선 정책과 동일).
      */
-    public void moveMouse(int x, int y) {
-        if (isHeadless || robot == null) {
-            System.out.println("🖱️ 헤드리스 환경 - 마우스 이동 시뮬레이션: (" + x + ", " + y + ")");
-            return;
+    private long smooth(String sessionId, int x, int y) {
+        SmoothingSession session = smoothingSessions.computeIfAbsent(sessionId,
+                id -> new SmoothingSession(pointerFilterFactory.createDefault()));
+        if (!session.owner.compareAndSet(false, true)) {
+            long last = session.lastOutput;
+            return last != PackedPoint.EMPTY ? last : PackedPoint.pack(x, y);
         }
-        
         try {
-            robot.mouseMove(x, y);
-            lastX = x;
-            lastY = y;
-            System.out.println("🖱️ 마우스 이동: (" + x + ", " + y + ")");
-        } catch (Exception e) {
-            System.err.println("❌ 마우스 이동 실패: " + e.getMessage());
+            long output = session.filter.filter(x, y, System.nanoTime());
+            session.lastOutput = output;
+            return output;
+        } finally {
+            session.owner.set(false);
         }
     }
     
     /**
-     * 좌클릭 - 크로스 플랫폼 지원
+     * 세션의 포인터 필터 변경 (ema, one-euro, kalman)
      */
-    public CompletableFuture<Void> leftClick() {
-        // Windows: Windows API 우선 시도
-        if (isWindows && windowsMouseControlService.isWindowsApiAvailable()) {
-            return windowsMouseControlService.leftClickDirect();
-        }
-        
-        // Linux/macOS 또는 Windows API 실패: Robot 클래스 사용
-        if (isHeadless || robot == null) {
-            System.out.println("🖱️ 헤드리스 환경 - 좌클릭 시뮬레이션");
-            return CompletableFuture.completedFuture(null);
-        }
-        
-        return performClickAction("leftClick", () -> {
-            robot.mousePress(InputEvent.BUTTON1_DOWN_MASK);
-            robot.delay(50);
-            robot.mouseRelease(InputEvent.BUTTON1_DOWN_MASK);
-            
-            String osInfo = isLinux ? "Linux" : isMacOS ? "macOS" : "Robot";
-            System.out.println("🖱️ " + osInfo + " 좌클릭 실행");
-        });
+    public String setPointerFilter(String sessionId, String filterType) {
+        PointerFilter filter = pointerFilterFactory.create(filterType);
+        smoothingSessions.put(sessionId, new SmoothingSession(filter));
+        return filter.name();
     }
     
     /**
-     * 우클릭 - 크로스 플랫폼 지원
+     * 세션 종료 시 스무딩 상태 정리
      */
-    public CompletableFuture<Void> rightClick() {
-        // Windows: Windows API 우선 시도
-        if (isWindows && windowsMouseControlService.isWindowsApiAvailable()) {
-            return windowsMouseControlService.rightClickDirect();
-        }
-        
-        // Linux/macOS 또는 Windows API 실패: Robot 클래스 사용
-        if (isHeadless || robot == null) {
-            System.out.println("🖱️ 헤드리스 환경 - 우클릭 시뮬레이션");
-            return CompletableFuture.completedFuture(null);
-        }
-        
-        return performClickAction("rightClick", () -> {
-            robot.mousePress(InputEvent.BUTTON3_DOWN_MASK);
-            robot.delay(50);
-            robot.mouseRelease(InputEvent.BUTTON3_DOWN_MASK);
-            
-            String osInfo = isLinux ? "Linux" : isMacOS ? "macOS" : "Robot";
-            System.out.println("🖱️ " + osInfo + " 우클릭 실행");
-        });
+    @EventListener
+    public void onSessionDisconnect(SessionDisconnectEvent event) {
+        removeSession(event.getSessionId());
+    }
+    
+    public void removeSession(String sessionId) {
+        smoothingSessions.remove(sessionId);
     }
     
     /**
-     * 더블클릭
+     * 마우스 위치 이동 (스무딩 없이, 디바이스 스레드에서 최신 값 우선)
      */
-    public CompletableFuture<Void> doubleClick() {
-        if (isHeadless || robot == null) {
-            System.out.println("🖱️ 헤드리스 환경 - 더블클릭 시뮬레이션");
-            return CompletableFuture.completedFuture(null);
+    public void moveMouse(int x, int y) {
+        inputDispatcher.move(x, y);
+        if (log.isDebugEnabled()) {
+            log.debug("🖱️ 마우스 이동: ({}, {})", x, y);
         }
-        
-        return performClickAction("doubleClick", () -> {
-            robot.mousePress(InputEvent.BUTTON1_DOWN_MASK);
-            robot.delay(50);
-            robot.mouseRelease(InputEvent.BUTTON1_DOWN_MASK);
-            robot.delay(100);
-            robot.mousePress(InputEvent.BUTTON1_DOWN_MASK);
-            robot.delay(50);
-            robot.mouseRelease(InputEvent.BUTTON1_DOWN_MASK);
-            System.out.println("🖱️ 더블클릭 실행");
-        });
     }
     
     /**
-     * 스크롤 - Windows API 우선 사용
+     * 좌클릭
      */
-    public void scroll(String direction, int amount) {
-        // Windows: Windows API 우선 시도
-        if (isWindows && windowsMouseControlService.isWindowsApiAvailable()) {
-            windowsMouseControlService.scrollDirect(direction, amount);
-            return;
-        }
-        
-        // Linux/macOS 또는 Windows API 실패: Robot 클래스 사용
-        if (isHeadless || robot == null) {
-            System.out.println("📜 헤드리스 환경 - 스크롤 시뮬레이션: " + direction + " (양: " + amount + ")");
-            return;
-        }
-        
-        try {
-            if (!canPerformAction("scroll")) return;
-            
-            int scrollAmount = direction.equals("up") ? -amount : amount;
-            robot.mouseWheel(scrollAmount);
-            
-            recordAction("scroll");
-            
-            String osInfo = isLinux ? "Linux" : isMacOS ? "macOS" : "Robot";
-            System.out.println("📜 " + osInfo + " 스크롤: " + direction + " (양: " + amount + ")");
-        } catch (Exception e) {
-            System.err.println("❌ 스크롤 실패 (" + osName + "): " + e.getMessage());
-        }
+    public CompletableFuture<Void> leftClick() {
+        return dispatch("leftClick", leftClickSequence);
     }
     
     /**
-     * 키보드 입력
+     * 우클릭
      */
-    public void pressKey(int keyCode) {
-        if (isHeadless || robot == null) {
-            System.out.println("⌨️ 헤드리스 환경 - 키 입력 시뮬레이션: " + KeyEvent.getKeyText(keyCode));
-            return;
-        }
-        
-        try {
-            if (!canPerformAction("keyPress")) return;
-            
-            robot.keyPress(keyCode);
-            robot.delay(50);
-            robot.keyRelease(keyCode);
-            
-            recordAction("keyPress");
-            System.out.println("⌨️ 키 입력: " + KeyEvent.getKeyText(keyCode));
-        } catch (Exception e) {
-            System.err.println("❌ 키 입력 실패: " + e.getMessage());
-        }
+    public CompletableFuture<Void> rightClick() {
+        return dispatch("rightClick", rightClickSequence);
     }
     
     /**
-     * 키 조합 (Ctrl+C, Ctrl+V 등)
+     * 더블클릭
      */
-    public void pressKeyCombo(int... keyCodes) {
-        if (isHeadless || robot == null) {
-            System.out.println("⌨️ 헤드리스 환경 - 키 조합 시뮬레이션");
-            return;
-        }
-        
-        try {
-            if (!canPerformAction("keyCombo")) return;
-            
-            // 모든 키 누르기
-            for (int keyCode : keyCodes) {
-                robot.keyPress(keyCode);
-                robot.delay(10);
-            }
-            
-            robot.delay(50);
-            
-            // 역순으로 키 떼기
-            for (int i = keyCodes.length - 1; i >= 0; i--) {
-                robot.keyRelease(keyCodes[i]);
-                robot.delay(10);
-            }
-            
-            recordAction("keyCombo");
-            System.out.println("⌨️ 키 조합 실행");
-        } catch (Exception e) {
-            System.err.println("❌ 키 조합 실패: " + e.getMessage());
-        }
+    public CompletableFuture<Void> doubleClick() {
+        return dispatch("doubleClick", doubleClickSequence);
     }
     
     /**
-     * 화면 해상도 가져오기
+     * 스크롤
      */
-    public Dimension getScreenSize() {
-        if (isHeadless) {
-            System.out.println("🖥️ 헤드리스 환경 - 기본 화면 크기 반환: 1920x1080");
-            return new Dimension(1920, 1080);
-        }
-        return Toolkit.getDefaultToolkit().getScreenSize();
+    public CompletableFuture<Void> scroll(String direction, int amount) {
+        int scrollAmount = direction.equals("up") ? -amount : amount;
+        return dispatch("scroll", InputSequence.scroll(scrollAmount));
     }
     
     /**
-     * 현재 마우스 위치 가져오기 - Windows API 우선 사용
+     * 키보드 입력
      */
-    public Point getCurrentMousePosition() {
-        // Windows API 우선 시도
-        if (windowsMouseControlService.isWindowsApiAvailable()) {
-            return windowsMouseControlService.getCurrentMousePosition();
-        }
-        
-        // Robot 클래스 대체 사용
-        if (isHeadless) {
-            System.out.println("🖱️ 헤드리스 환경 - 기본 마우스 위치 반환: (0, 0)");
-            return new Point(0, 0);
-        }
-        return MouseInfo.getPointerInfo().getLocation();
+    public CompletableFuture<Void> pressKey(int keyCode) {
+        return dispatch("keyPress", InputSequence.keyChord(keyHoldMs, keyCode));
     }
     
     /**
-     * 액션 실행 가능 여부 확인 (쿨다운)
+     * 키 조합 (Ctrl+C, Ctrl+V 등) - 한 번의 시퀀스로 누르고 역순으로 뗌
      */
-    private boolean canPerformAction(String actionType) {
-        long currentTime = System.currentTimeMillis();
-        Long lastTime = lastActionTime.get(actionType);
-        
-        if (lastTime == null || currentTime - lastTime >= ACTION_COOLDOWN) {
-            return true;
-        }
-        
-        return false;
+    public CompletableFuture<Void> pressKeyCombo(int... keyCodes) {
+        return dispatch("keyCombo", InputSequence.keyChord(keyHoldMs, keyCodes));
     }
     
     /**
-     * 액션 실행 시간 기록
+     * 미리 구성된 입력 시퀀스 실행 (매핑 엔진 등에서 사용)
      */
-    private void recordAction(String actionType) {
-        lastActionTime.put(actionType, System.currentTimeMillis());
+    public CompletableFuture<Void> execute(String actionType, InputSequence sequence) {
+        return dispatch(actionType, sequence);
     }
     
     /**
-     * 클릭 액션 실행 (비동기)
+     * 디바이스 스레드에 시퀀스 제출 (비동기, 쿨다운은 호출 전에 CooldownLimiter 에서 세션별로 확인)
      */
-    private CompletableFuture<Void> performClickAction(String actionType, Runnable action) {
-        return CompletableFuture.runAsync(() -> {
-            try {
-                if (!canPerformAction(actionType)) {
-                    System.out.println("⏰ " + actionType + " 쿨다운 중...");
-                    return;
-                }
-                
-                action.run();
-                recordAction(actionType);
-            } catch (Exception e) {
-                System.err.println("❌ " + actionType + " 실행 실패: " + e.getMessage());
+    private CompletableFuture<Void> dispatch(String actionType, InputSequence sequence) {
+        return inputDispatcher.submit(sequence).whenComplete((ignored, error) -> {
+            if (error != null) {
+                log.warn("❌ {} 실행 실패: {}", actionType, error.getMessage());
+            } else {
+                log.debug("🎛️ {} {} 실행", inputDevice.name(), actionType);
             }
         });
     }
+    
+    @PreDestroy
+    public void shutdown() {
+        inputDispatcher.shutdown();
+    }
+    
+    /**
+     * 세션별 필터와 소유권 플래그
+     */
+    private static final class SmoothingSession {
+        private final PointerFilter filter;
+        private final AtomicBoolean owner = new AtomicBoolean(false);
+        private volatile long lastOutput = PackedPoint.EMPTY;
+        
+        private SmoothingSession(PointerFilter filter) {
+            this.filter = filter;
+        }
+    }
 }
@@ -0,0 +1,24 @@
+package com.gesture.backend.service;
+
+/**
+ * 두 개의 int 좌표를 하나의 long 으로 묶어 원자적으로 다루기 위한 유틸리티
+ */
+public final class PackedPoint {
+
+    /** 값이 비어 있음을 나타내는 센티널 (정상 좌표로는 만들어지지 않음) */
+    public static final long EMPTY = Long.MIN_VALUE;
+
+    private PackedPoint() {}
+
+    public static long pack(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    public static int x(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    public static int y(long packed) {
+        return (int) packed;
+    }
+}
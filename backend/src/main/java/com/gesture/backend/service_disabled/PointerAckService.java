@@ -0,0 +1,127 @@
+package com.gesture.backend.service;
+
+import com.gesture.backend.dto.GestureDto;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 포인터 이동 ack 전송
+ *
+ * 모드에 따라 ack 를 보내지 않거나(none), 주기마다 마지막으로 처리한 sequence 를 담은
+ * 누적 ack 하나만 보내거나(periodic), 프레임마다 보낸다(per-message).
+ * ack 는 브로드캐스트 토픽이 아니라 보낸 세션의 /user/queue/gesture/ack 로만 전달된다.
+ */
+@Service
+public class PointerAckService {
+
+    public static final String ACK_DESTINATION = "/queue/gesture/ack";
+
+    private static final long NO_SEQUENCE = -1L;
+
+    public enum Mode {
+        NONE, PERIODIC, PER_MESSAGE;
+
+        static Mode parse(String value) {
+            return Mode.valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private final SessionMessenger sessionMessenger;
+    private final Mode mode;
+    private final Map<String, AckState> states = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+
+    public PointerAckService(SessionMessenger sessionMessenger,
+                             @Value("${gesture.pointer.ack.mode:periodic}") String mode,
+                             @Value("${gesture.pointer.ack.interval-ms:100}") long intervalMs) {
+        this.sessionMessenger = sessionMessenger;
+        this.mode = Mode.parse(mode);
+        if (this.mode == Mode.PERIODIC) {
+            this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "pointer-ack");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleAtFixedRate(this::flush, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            this.flusher = null;
+        }
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * 처리(접수)된 포인터 프레임 기록
+     */
+    public void acknowledge(String sessionId, Long sequence) {
+        switch (mode) {
+            case NONE -> {
+            }
+            case PER_MESSAGE -> send(sessionId, sequence, 1);
+            case PERIODIC -> {
+                AckState state = states.computeIfAbsent(sessionId, id -> new AckState());
+                if (sequence != null) {
+                    state.lastSequence.accumulateAndGet(sequence, Math::max);
+                }
+                state.pending.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 마지막 ack 이후 처리된 프레임이 있는 세션에만 누적 ack 전송
+     */
+    private void flush() {
+        for (Map.Entry<String, AckState> entry : states.entrySet()) {
+            AckState state = entry.getValue();
+            int processed = state.pending.getAndSet(0);
+            if (processed > 0) {
+                long last = state.lastSequence.get();
+                try {
+                    send(entry.getKey(), last == NO_SEQUENCE ? null : last, processed);
+                } catch (RuntimeException ignored) {
+                    // 전송 실패(채널 포화 등)는 다음 주기의 누적 ack 로 대체된다
+                }
+            }
+        }
+    }
+
+    private void send(String sessionId, Long sequence, int processed) {
+        sessionMessenger.send(sessionId, ACK_DESTINATION, new GestureDto.PointerAck(sequence, processed));
+    }
+
+    @EventListener
+    public void onSessionDisconnect(SessionDisconnectEvent event) {
+        removeSession(event.getSessionId());
+    }
+
+    public void removeSession(String sessionId) {
+        states.remove(sessionId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+    }
+
+    private static final class AckState {
+        private final AtomicLong lastSequence = new AtomicLong(NO_SEQUENCE);
+        private final AtomicInteger pending = new AtomicInteger();
+    }
+}
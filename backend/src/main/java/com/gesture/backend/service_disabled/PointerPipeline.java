@@ -0,0 +1,110 @@
+package com.gesture.backend.service;
+
+import com.gesture.backend.metrics.GestureMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 세션별 "최신 값 우선" 포인터 파이프라인
+ *
+ * 수신한 이동 좌표는 세션마다 하나뿐인 슬롯을 덮어쓰고, 전용 디바이스 스레드가
+ * 출력 장치가 처리할 수 있는 속도로 슬롯을 비운다. 처리되지 못한 중간 좌표는
+ * 큐에 쌓이지 않고 버려지므로 부하가 걸려도 포인터 지연이 늘어나지 않는다.
+ */
+@Service
+public class PointerPipeline {
+
+    private final MouseControlService mouseControlService;
+    private final GestureMetrics gestureMetrics;
+    private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+    private final ExecutorService deviceExecutor;
+
+    @Autowired
+    public PointerPipeline(MouseControlService mouseControlService, GestureMetrics gestureMetrics) {
+        this.mouseControlService = mouseControlService;
+        this.gestureMetrics = gestureMetrics;
+        this.deviceExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "pointer-device");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 세션의 최신 포인터 좌표 등록 (이전 미처리 좌표는 덮어씀)
+     */
+    public void submit(String sessionId, int x, int y) {
+        Slot slot = slots.computeIfAbsent(sessionId, Slot::new);
+        slot.latest.set(PackedPoint.pack(x, y));
+
+        schedule(slot);
+    }
+
+    /**
+     * 세션 종료 시 슬롯 정리
+     */
+    @EventListener
+    public void onSessionDisconnect(SessionDisconnectEvent event) {
+        removeSession(event.getSessionId());
+    }
+
+    public void removeSession(String sessionId) {
+        slots.remove(sessionId);
+    }
+
+    /**
+     * 드레인 작업 예약 (이미 예약되어 있다면 그 작업이 최신 값을 가져감)
+     */
+    private void schedule(Slot slot) {
+        if (slot.scheduled.compareAndSet(false, true)) {
+            try {
+                deviceExecutor.execute(() -> drain(slot));
+            } catch (RejectedExecutionException e) {
+                slot.scheduled.set(false);
+            }
+        }
+    }
+
+    private void drain(Slot slot) {
+        try {
+            long packed = slot.latest.getAndSet(PackedPoint.EMPTY);
+            if (packed != PackedPoint.EMPTY) {
+                long start = System.nanoTime();
+                mouseControlService.moveMouseSmooth(slot.sessionId, PackedPoint.x(packed), PackedPoint.y(packed));
+                gestureMetrics.recordAction("mouse_move", System.nanoTime() - start);
+            }
+        } finally {
+            slot.scheduled.set(false);
+            // 드레인 도중 새 좌표가 들어왔다면 한 번 더 예약
+            if (slot.latest.get() != PackedPoint.EMPTY) {
+                schedule(slot);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        deviceExecutor.shutdownNow();
+    }
+
+    private static final class Slot {
+        private final String sessionId;
+        private final AtomicLong latest = new AtomicLong(PackedPoint.EMPTY);
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+        private Slot(String sessionId) {
+            this.sessionId = sessionId;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.gesture.backend.service;
+
+import com.gesture.backend.dto.GestureDto;
+import com.gesture.backend.input.InputDevice;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 화면 구성/포인터 위치 캐시
+ *
+ * 모니터 영역 (GraphicsDevice 전체) 과 포인터 위치는 네이티브 호출이므로 요청마다 조회하지 않고
+ * 전용 스레드가 주기적으로 조회해 불변 스냅샷으로 교체한다. 상태 조회는 volatile 읽기뿐이라 락이 없다.
+ * 화면 구성이 바뀌면 /topic/gesture/screen 으로, 포인터가 움직이면 주기당 최대 한 번
+ * /topic/gesture/pointer 로 발행한다 (변화가 없으면 보내지 않음).
+ * 포인터 발행을 꺼도 (pointer-interval-ms 0) 상태 조회가 오래된 값을 돌려주지 않도록 캐시는 계속 갱신한다.
+ */
+@Service
+public class ScreenStateService {
+
+    private static final Logger log = LoggerFactory.getLogger(ScreenStateService.class);
+
+    public static final String SCREEN_DESTINATION = "/topic/gesture/screen";
+    public static final String POINTER_DESTINATION = "/topic/gesture/pointer";
+    // 포인터 발행을 끈 경우의 캐시 갱신 주기
+    private static final long POINTER_SAMPLE_MS = 100;
+
+    private final InputDevice inputDevice;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final long refreshMs;
+    private final long pointerIntervalMs;
+
+    private volatile Geometry geometry = Geometry.EMPTY;
+    private volatile long pointer = PackedPoint.pack(0, 0);
+    // 마지막으로 발행한 포인터 (샘플러 스레드 전용)
+    private long publishedPointer = PackedPoint.EMPTY;
+    private ScheduledExecutorService sampler;
+
+    public ScreenStateService(InputDevice inputDevice, SimpMessagingTemplate messagingTemplate,
+                              @Value("${gesture.screen.refresh-ms:5000}") long refreshMs,
+                              @Value("${gesture.screen.pointer-interval-ms:100}") long pointerIntervalMs) {
+        this.inputDevice = inputDevice;
+        this.messagingTemplate = messagingTemplate;
+        this.refreshMs = refreshMs;
+        this.pointerIntervalMs = pointerIntervalMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        refreshQuietly();
+        samplePointerQuietly();
+        sampler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "screen-state");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (refreshMs > 0) {
+            // 모니터 연결/해상도 변경 반영
+            sampler.scheduleWithFixedDelay(this::refreshQuietly, refreshMs, refreshMs, TimeUnit.MILLISECONDS);
+        }
+        if (pointerIntervalMs > 0) {
+            sampler.scheduleAtFixedRate(this::publishPointer, pointerIntervalMs, pointerIntervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            sampler.scheduleAtFixedRate(this::samplePointerQuietly, POINTER_SAMPLE_MS, POINTER_SAMPLE_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 화면 구성을 다시 조회하고, 바뀌었으면 스냅샷 교체 후 발행
+     *
+     * @return 바뀌었으면 true
+     */
+    public boolean refresh() {
+        Rectangle[] bounds = inputDevice.getScreenBounds();
+        Geometry current = geometry;
+        if (Arrays.equals(bounds, current.bounds)) {
+            return false;
+        }
+        Geometry next = new Geometry(bounds, System.currentTimeMillis());
+        geometry = next;
+        if (current != Geometry.EMPTY) {
+            log.info("🖥️ 화면 구성 변경: 모니터 {}개, 기본 {}x{}", bounds.length, next.width, next.height);
+            messagingTemplate.convertAndSend(SCREEN_DESTINATION, getScreenInfo());
+        }
+        return true;
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 화면 구성 조회 실패 - 이전 값 유지: {}", e.getMessage());
+        }
+    }
+
+    private void samplePointerQuietly() {
+        try {
+            Point location = inputDevice.getPointerLocation();
+            pointer = PackedPoint.pack(location.x, location.y);
+        } catch (RuntimeException e) {
+            // 포인터 정보를 얻을 수 없는 환경 (원격 세션 잠금 등) 에서는 마지막 값 유지
+            log.debug("포인터 위치 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    private void publishPointer() {
+        samplePointerQuietly();
+        long current = pointer;
+        if (current == publishedPointer) {
+            return;
+        }
+        try {
+            messagingTemplate.convertAndSend(POINTER_DESTINATION,
+                    new GestureDto.PointerPosition(PackedPoint.x(current), PackedPoint.y(current), System.currentTimeMillis()));
+            publishedPointer = current;
+        } catch (RuntimeException e) {
+            // 발행 실패(채널 포화 등)는 다음 주기에 최신 위치로 다시 시도
+            log.debug("포인터 위치 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시된 화면 구성과 포인터 위치 (네이티브 호출 없음)
+     */
+    public GestureDto.ScreenInfo getScreenInfo() {
+        Geometry snapshot = geometry;
+        long current = pointer;
+        GestureDto.ScreenInfo info = new GestureDto.ScreenInfo(snapshot.width, snapshot.height,
+                PackedPoint.x(current), PackedPoint.y(current));
+        info.setMonitors(snapshot.monitors);
+        info.setUpdatedAt(snapshot.updatedAt);
+        return info;
+    }
+
+    /**
+     * 기본 모니터 너비
+     */
+    public int getScreenWidth() {
+        return geometry.width;
+    }
+
+    /**
+     * 기본 모니터 높이
+     */
+    public int getScreenHeight() {
+        return geometry.height;
+    }
+
+    /**
+     * 마지막으로 조회한 포인터 위치 (PackedPoint)
+     */
+    public long getPointer() {
+        return pointer;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sampler != null) {
+            sampler.shutdownNow();
+        }
+    }
+
+    /**
+     * 불변 화면 구성 스냅샷 (응답용 모니터 목록도 한 번만 만듦)
+     */
+    private static final class Geometry {
+        private static final Geometry EMPTY = new Geometry(new Rectangle[0], 0L);
+
+        private final Rectangle[] bounds;
+        private final int width;
+        private final int height;
+        private final List<GestureDto.Monitor> monitors;
+        private final long updatedAt;
+
+        private Geometry(Rectangle[] bounds, long updatedAt) {
+            this.bounds = bounds;
+            this.width = bounds.length > 0 ? bounds[0].width : 0;
+            this.height = bounds.length > 0 ? bounds[0].height : 0;
+            List<GestureDto.Monitor> list = new ArrayList<>(bounds.length);
+            for (int i = 0; i < bounds.length; i++) {
+                Rectangle rectangle = bounds[i];
+                list.add(new GestureDto.Monitor(rectangle.x, rectangle.y, rectangle.width, rectangle.height, i == 0));
+            }
+            this.monitors = List.copyOf(list);
+            this.updatedAt = updatedAt;
+        }
+    }
+}
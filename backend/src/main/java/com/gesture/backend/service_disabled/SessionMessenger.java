@@ -0,0 +1,38 @@
+package com.gesture.backend.service;
+
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 세션 단위 메시지 전송
+ *
+ * 인증 사용자가 없으므로 세션 ID 를 사용자 이름으로 사용한다. 클라이언트가 구독한
+ * /user/queue/... 는 세션마다 별도 destination 으로 변환되므로, 결과는 요청한 세션에만 전달되고
+ * 다른 세션으로 팬아웃되지 않는다.
+ */
+@Service
+public class SessionMessenger {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    public SessionMessenger(SimpMessagingTemplate messagingTemplate) {
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    /**
+     * @param destination 사용자 prefix 를 뺀 destination (예: /queue/gesture/response)
+     */
+    public void send(String sessionId, String destination, Object payload) {
+        messagingTemplate.convertAndSendToUser(sessionId, destination, payload, headers(sessionId));
+    }
+
+    private static MessageHeaders headers(String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setLeaveMutable(true);
+        return accessor.getMessageHeaders();
+    }
+}
@@ -0,0 +1,93 @@
+package com.gesture.backend.telemetry;
+
+/**
+ * 텔레메트리 이벤트 (telemetry 테이블 한 행)
+ *
+ * payload JSON 은 기록 스레드가 아니라 배치 작성 스레드에서 만든다.
+ * sequence 는 링 버퍼가 게시 직전에 채우며, 게시 후에는 변경되지 않는다.
+ */
+public final class TelemetryEvent {
+
+    public static final long NO_LATENCY = -1L;
+
+    private final String sessionId;
+    private final String eventType;
+    private final String gesture;
+    private final long latencyMs;
+    private final boolean success;
+    private final long timestamp;
+    long sequence;
+
+    public TelemetryEvent(String sessionId, String eventType, String gesture, long latencyMs, boolean success) {
+        this.sessionId = sessionId;
+        this.eventType = eventType;
+        this.gesture = gesture;
+        this.latencyMs = latencyMs;
+        this.success = success;
+        this.timestamp = System.currentTimeMillis();
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getGesture() {
+        return gesture;
+    }
+
+    public long getLatencyMs() {
+        return latencyMs;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * payload 컬럼용 JSON
+     * 제스처 이름에는 사용자가 정한 동적 템플릿 이름도 들어오므로 이스케이프한다
+     * (잘못된 JSON 한 건이 jsonb 캐스트에서 배치 전체를 실패시키지 않도록).
+     */
+    String payloadJson(StringBuilder buffer) {
+        buffer.setLength(0);
+        buffer.append('{');
+        if (gesture != null) {
+            buffer.append("\"gesture\":\"");
+            appendEscaped(buffer, gesture);
+            buffer.append("\",");
+        }
+        if (latencyMs != NO_LATENCY) {
+            buffer.append("\"latency_ms\":").append(latencyMs).append(',');
+        }
+        buffer.append("\"success\":").append(success).append('}');
+        return buffer.toString();
+    }
+
+    private static void appendEscaped(StringBuilder buffer, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> buffer.append("\\\"");
+                case '\\' -> buffer.append("\\\\");
+                case '\n' -> buffer.append("\\n");
+                case '\r' -> buffer.append("\\r");
+                case '\t' -> buffer.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        buffer.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        buffer.append(c);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.gesture.backend.telemetry;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 크기가 고정된 lock-free 텔레메트리 링 버퍼 (다중 생산자, 단일 소비자)
+ *
+ * 생산자는 getAndIncrement 로 번호를 받아 번호 % 용량 칸에 이벤트를 넣는다. 버퍼가 가득 차 있으면
+ * 가장 오래된 미소비 이벤트를 덮어쓰므로 생산자는 절대 기다리지 않는다 (drop-oldest).
+ * 칸에는 항상 번호가 더 큰 이벤트만 들어가도록 CAS 로 교체하며, 소비자는 칸의 번호로
+ * 아직 게시되지 않은 칸(대기)과 이미 덮어써진 칸(유실)을 구분한다.
+ */
+public final class TelemetryRingBuffer {
+
+    private final AtomicReferenceArray<TelemetryEvent> slots;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    // 소비자 스레드만 갱신
+    private long tail;
+
+    public TelemetryRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("링 버퍼 용량은 2 이상의 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * 이벤트 게시 (대기하지 않음, 가득 차 있으면 가장 오래된 이벤트가 유실됨)
+     */
+    public void offer(TelemetryEvent event) {
+        long sequence = head.getAndIncrement();
+        event.sequence = sequence;
+        int index = (int) (sequence & mask);
+        while (true) {
+            TelemetryEvent current = slots.get(index);
+            if (current != null && current.sequence > sequence) {
+                // 느린 생산자: 더 새로운 이벤트가 이미 이 칸을 차지했으므로 자신이 유실된다 (집계는 소비자가 함)
+                return;
+            }
+            if (slots.compareAndSet(index, current, event)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 게시된 이벤트를 순서대로 최대 maxEvents 개 꺼냄 (소비자 스레드 전용)
+     *
+     * @return 꺼낸 이벤트 수
+     */
+    public int drainTo(List<TelemetryEvent> target, int maxEvents) {
+        long published = head.get();
+        int capacity = mask + 1;
+        if (published - tail > capacity) {
+            // 소비가 늦어 덮어써진 구간은 건너뜀
+            long skipped = published - capacity - tail;
+            dropped.addAndGet(skipped);
+            tail = published - capacity;
+        }
+
+        int drained = 0;
+        while (drained < maxEvents && tail < published) {
+            TelemetryEvent event = slots.get((int) (tail & mask));
+            if (event == null || event.sequence < tail) {
+                // 번호는 받았지만 아직 게시되지 않은 칸: 다음 드레인에서 다시 확인
+                break;
+            }
+            if (event.sequence == tail) {
+                target.add(event);
+                drained++;
+            } else {
+                dropped.incrementAndGet();
+            }
+            tail++;
+        }
+        return drained;
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,157 @@
+package com.gesture.backend.telemetry;
+
+import com.gesture.backend.metrics.GestureMetrics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 옵트인 텔레메트리 파이프라인 (write-behind)
+ *
+ * 제스처 처리 스레드는 이벤트를 링 버퍼에 넣기만 하고 바로 반환한다. 전용 writer 스레드가
+ * flush-size 만큼 모이거나 flush-interval 이 지나면 다중 행 INSERT 한 번으로 기록한다.
+ * 버퍼가 가득 차면 가장 오래된 이벤트부터 버리며, 유실 수는 gesture.telemetry.dropped 로 집계된다.
+ * DB 기록이 실패한 배치는 재시도하지 않고 버린다 (제스처 처리에 영향을 주지 않는 것이 우선).
+ */
+@Service
+public class TelemetryService {
+
+    private static final Logger log = LoggerFactory.getLogger(TelemetryService.class);
+    // PostgreSQL 바인드 파라미터 한도(32767) / 행당 파라미터 4개
+    private static final int MAX_FLUSH_SIZE = 8191;
+
+    private final boolean enabled;
+    private final TelemetryRingBuffer ringBuffer;
+    private final int flushSize;
+    private final long flushIntervalNanos;
+    private final long idleParkNanos;
+    private final ObjectProvider<JdbcTemplate> jdbcTemplateProvider;
+    private final GestureMetrics gestureMetrics;
+    private final String table;
+    private final String payloadExpression;
+
+    private volatile boolean running;
+    private Thread writerThread;
+    private volatile long written;
+    private long failed;
+
+    public TelemetryService(ObjectProvider<JdbcTemplate> jdbcTemplateProvider,
+                            GestureMetrics gestureMetrics,
+                            @Value("${gesture.telemetry.enabled:false}") boolean enabled,
+                            @Value("${gesture.telemetry.buffer-size:8192}") int bufferSize,
+                            @Value("${gesture.telemetry.flush-size:500}") int flushSize,
+                            @Value("${gesture.telemetry.flush-interval-ms:1000}") long flushIntervalMs,
+                            @Value("${gesture.telemetry.table:telemetry}") String table,
+                            @Value("${gesture.telemetry.payload-expression:CAST(? AS jsonb)}") String payloadExpression) {
+        this.jdbcTemplateProvider = jdbcTemplateProvider;
+        this.gestureMetrics = gestureMetrics;
+        this.enabled = enabled;
+        this.ringBuffer = enabled ? new TelemetryRingBuffer(bufferSize) : null;
+        this.flushSize = Math.min(flushSize, MAX_FLUSH_SIZE);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        // 비어 있을 때는 flush 주기보다 충분히 짧게 쉬었다가 다시 확인
+        this.idleParkNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(1), flushIntervalNanos / 10);
+        this.table = table;
+        this.payloadExpression = payloadExpression;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        JdbcTemplate jdbcTemplate = jdbcTemplateProvider.getIfAvailable();
+        if (jdbcTemplate == null) {
+            log.warn("⚠️ DataSource 가 없어 텔레메트리를 기록하지 않습니다");
+            return;
+        }
+
+        FunctionCounter.builder("gesture.telemetry.dropped", ringBuffer, TelemetryRingBuffer::getDropped)
+                .description("버퍼 포화로 버려진 텔레메트리 이벤트 수")
+                .register(gestureMetrics.getRegistry());
+        FunctionCounter.builder("gesture.telemetry.written", this, service -> service.written)
+                .description("기록된 텔레메트리 이벤트 수")
+                .register(gestureMetrics.getRegistry());
+        Gauge.builder("gesture.telemetry.buffer.capacity", ringBuffer, TelemetryRingBuffer::capacity)
+                .register(gestureMetrics.getRegistry());
+
+        TelemetryWriter writer = new TelemetryWriter(jdbcTemplate, table, payloadExpression, flushSize);
+        running = true;
+        writerThread = new Thread(() -> runWriter(writer), "telemetry-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("📊 텔레메트리 기록 시작 (버퍼 {}, 배치 {}, 주기 {}ms)",
+                ringBuffer.capacity(), flushSize, TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos));
+    }
+
+    public boolean isEnabled() {
+        return running;
+    }
+
+    /**
+     * 이벤트 기록 (대기하지 않음, 비활성화 상태면 무시)
+     */
+    public void record(String sessionId, String eventType, String gesture, long latencyMs, boolean success) {
+        if (!running) {
+            return;
+        }
+        ringBuffer.offer(new TelemetryEvent(sessionId, eventType, gesture, latencyMs, success));
+    }
+
+    private void runWriter(TelemetryWriter writer) {
+        List<TelemetryEvent> batch = new ArrayList<>(flushSize);
+        long lastFlush = System.nanoTime();
+        while (running) {
+            int drained = ringBuffer.drainTo(batch, flushSize - batch.size());
+            long now = System.nanoTime();
+            if (batch.size() >= flushSize || (!batch.isEmpty() && now - lastFlush >= flushIntervalNanos)) {
+                flush(writer, batch);
+                lastFlush = now;
+            } else if (drained == 0) {
+                LockSupport.parkNanos(idleParkNanos);
+            }
+        }
+        // 종료 시 남은 이벤트 기록
+        while (ringBuffer.drainTo(batch, flushSize - batch.size()) > 0 || !batch.isEmpty()) {
+            flush(writer, batch);
+        }
+    }
+
+    private void flush(TelemetryWriter writer, List<TelemetryEvent> batch) {
+        try {
+            writer.write(batch);
+            written += batch.size();
+        } catch (RuntimeException e) {
+            failed += batch.size();
+            log.warn("⚠️ 텔레메트리 {}건 기록 실패 (누적 {}건): {}", batch.size(), failed, e.getMessage());
+        } finally {
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (writerThread == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
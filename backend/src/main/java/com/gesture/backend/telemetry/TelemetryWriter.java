@@ -0,0 +1,68 @@
+package com.gesture.backend.telemetry;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 텔레메트리 배치를 다중 행 INSERT 한 번으로 기록
+ *
+ * 배치 크기별 SQL 은 처음 한 번만 만들어 재사용한다. payload 는 설정된 캐스트 식을 거쳐
+ * JSONB 로 저장되며 (기본 CAST(? AS jsonb)), 임베디드 DB 테스트 시에는 식만 바꾸면 된다.
+ */
+public class TelemetryWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String insertPrefix;
+    private final String rowPlaceholder;
+    private final String[] statements;
+    private final StringBuilder payloadBuffer = new StringBuilder(64);
+
+    public TelemetryWriter(JdbcTemplate jdbcTemplate, String table, String payloadExpression, int maxBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.insertPrefix = "INSERT INTO " + table + " (session_id, event_type, payload, timestamp) VALUES ";
+        this.rowPlaceholder = "(?, ?, " + payloadExpression + ", ?)";
+        this.statements = new String[maxBatchSize + 1];
+    }
+
+    /**
+     * 배치 기록 (writer 스레드 전용)
+     */
+    public void write(List<TelemetryEvent> batch) {
+        int size = batch.size();
+        if (size == 0) {
+            return;
+        }
+        jdbcTemplate.update(statement(size), (PreparedStatement ps) -> bind(ps, batch));
+    }
+
+    private void bind(PreparedStatement ps, List<TelemetryEvent> batch) throws SQLException {
+        int column = 1;
+        for (TelemetryEvent event : batch) {
+            ps.setString(column++, event.getSessionId());
+            ps.setString(column++, event.getEventType());
+            ps.setString(column++, event.payloadJson(payloadBuffer));
+            ps.setTimestamp(column++, new Timestamp(event.getTimestamp()));
+        }
+    }
+
+    private String statement(int size) {
+        String sql = statements[size];
+        if (sql == null) {
+            StringBuilder builder = new StringBuilder(insertPrefix.length() + size * (rowPlaceholder.length() + 2));
+            builder.append(insertPrefix);
+            for (int i = 0; i < size; i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                builder.append(rowPlaceholder);
+            }
+            sql = builder.toString();
+            statements[size] = sql;
+        }
+        return sql;
+    }
+}
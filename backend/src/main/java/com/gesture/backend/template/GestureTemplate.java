@@ -0,0 +1,101 @@
+package com.gesture.backend.template;
+
+import com.gesture.backend.gesture.GestureType;
+
+/**
+ * 동적 제스처 템플릿 (불변)
+ *
+ * 기록된 궤적을 재표본화/정규화한 좌표와 LB_Keogh 엔벨로프를 생성 시점에 한 번만 계산해 둔다.
+ * windowMs 는 매칭 시 최근 몇 ms 의 궤적을 질의로 잘라낼지 정하며, 같은 창을 쓰는 템플릿끼리는
+ * 질의 전처리를 공유한다.
+ */
+public final class GestureTemplate {
+
+    public static final int MIN_SAMPLES = 8;
+    public static final long WINDOW_STEP_MS = 250;
+    public static final long MAX_WINDOW_MS = 4000;
+
+    private final String id;
+    private final String name;
+    private final GestureType action;
+    private final long durationMs;
+    private final long windowMs;
+    private final float threshold;
+    private final int band;
+    // 매칭 핫패스에서 직접 접근
+    final float[] x = new float[TrajectoryMath.POINTS];
+    final float[] y = new float[TrajectoryMath.POINTS];
+    final float[] upperX = new float[TrajectoryMath.POINTS];
+    final float[] lowerX = new float[TrajectoryMath.POINTS];
+    final float[] upperY = new float[TrajectoryMath.POINTS];
+    final float[] lowerY = new float[TrajectoryMath.POINTS];
+
+    private GestureTemplate(String id, String name, GestureType action, long durationMs, float threshold, int band) {
+        this.id = id;
+        this.name = name;
+        this.action = action;
+        this.durationMs = durationMs;
+        this.windowMs = windowFor(durationMs);
+        this.threshold = threshold;
+        this.band = band;
+    }
+
+    /**
+     * 기록된 궤적으로 템플릿 생성
+     *
+     * @param threshold 허용할 최대 평균 제곱 거리 (정규화 좌표 기준)
+     * @param band      DTW 정렬 허용 폭 (표본 수)
+     */
+    public static GestureTemplate create(String id, String name, GestureType action,
+                                         float[] xs, float[] ys, long[] timestamps, int count,
+                                         float threshold, int band) {
+        if (count < MIN_SAMPLES) {
+            throw new IllegalArgumentException("템플릿 궤적은 최소 " + MIN_SAMPLES + "개 포인트가 필요합니다: " + count);
+        }
+        long durationMs = Math.max(0, timestamps[count - 1] - timestamps[0]);
+        GestureTemplate template = new GestureTemplate(id, name, action, durationMs, threshold, band);
+        TrajectoryMath.resample(xs, ys, count, template.x, template.y);
+        if (TrajectoryMath.normalize(template.x, template.y) == 0f) {
+            throw new IllegalArgumentException("움직임이 없는 궤적은 템플릿으로 사용할 수 없습니다");
+        }
+        TrajectoryMath.envelope(template.x, band, template.upperX, template.lowerX);
+        TrajectoryMath.envelope(template.y, band, template.upperY, template.lowerY);
+        return template;
+    }
+
+    /**
+     * 기록 시간을 창 단위로 올림 (너무 짧거나 긴 기록은 범위 안으로 보정)
+     */
+    static long windowFor(long durationMs) {
+        long steps = (durationMs + WINDOW_STEP_MS - 1) / WINDOW_STEP_MS;
+        return Math.min(MAX_WINDOW_MS, Math.max(1, steps) * WINDOW_STEP_MS);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public GestureType getAction() {
+        return action;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public long getWindowMs() {
+        return windowMs;
+    }
+
+    public float getThreshold() {
+        return threshold;
+    }
+
+    public int getBand() {
+        return band;
+    }
+}
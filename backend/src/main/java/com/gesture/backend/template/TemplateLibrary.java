@@ -0,0 +1,89 @@
+package com.gesture.backend.template;
+
+import com.gesture.backend.gesture.GestureType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 동적 제스처 템플릿 라이브러리 (메모리)
+ *
+ * 매칭 스레드는 volatile 스냅샷 배열만 읽고, 추가/삭제 시에는 창 길이 순으로 정렬된
+ * 새 배열로 교체한다 (copy-on-write). 같은 창 길이의 템플릿이 연속으로 놓이므로
+ * 매처는 창이 바뀔 때만 질의를 다시 전처리한다.
+ */
+@Component
+public class TemplateLibrary {
+
+    private static final Logger log = LoggerFactory.getLogger(TemplateLibrary.class);
+    private static final Comparator<GestureTemplate> BY_WINDOW = Comparator.comparingLong(GestureTemplate::getWindowMs);
+
+    private final int maxTemplates;
+    private final float defaultThreshold;
+    private final int defaultBand;
+    private volatile GestureTemplate[] templates = new GestureTemplate[0];
+
+    public TemplateLibrary(@Value("${gesture.template.max-templates:512}") int maxTemplates,
+                           @Value("${gesture.template.threshold:0.02}") float defaultThreshold,
+                           @Value("${gesture.template.band:3}") int defaultBand) {
+        this.maxTemplates = maxTemplates;
+        this.defaultThreshold = defaultThreshold;
+        this.defaultBand = defaultBand;
+    }
+
+    /**
+     * 기록된 궤적으로 템플릿을 만들어 등록 (threshold 가 null 이면 기본값)
+     */
+    public GestureTemplate add(String name, GestureType action, float[] xs, float[] ys, long[] timestamps,
+                               int count, Float threshold) {
+        GestureTemplate template = GestureTemplate.create(UUID.randomUUID().toString(), name, action,
+                xs, ys, timestamps, count, threshold != null ? threshold : defaultThreshold, defaultBand);
+        synchronized (this) {
+            if (templates.length >= maxTemplates) {
+                throw new IllegalStateException("등록 가능한 템플릿 수를 초과했습니다: " + maxTemplates);
+            }
+            GestureTemplate[] next = Arrays.copyOf(templates, templates.length + 1);
+            next[templates.length] = template;
+            Arrays.sort(next, BY_WINDOW);
+            templates = next;
+        }
+        log.info("➕ 동적 제스처 템플릿 등록: {} (창 {}ms, 총 {}개)", name, template.getWindowMs(), templates.length);
+        return template;
+    }
+
+    public synchronized boolean remove(String id) {
+        GestureTemplate[] current = templates;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i].getId().equals(id)) {
+                GestureTemplate[] next = new GestureTemplate[current.length - 1];
+                System.arraycopy(current, 0, next, 0, i);
+                System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+                templates = next;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public List<GestureTemplate> list() {
+        return List.of(templates);
+    }
+
+    /**
+     * 매칭용 스냅샷 (창 길이 오름차순, 수정 금지)
+     */
+    GestureTemplate[] snapshot() {
+        return templates;
+    }
+
+    public long maxWindowMs() {
+        GestureTemplate[] current = templates;
+        return current.length == 0 ? 0 : current[current.length - 1].getWindowMs();
+    }
+}
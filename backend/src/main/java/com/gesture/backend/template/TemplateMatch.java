@@ -0,0 +1,30 @@
+package com.gesture.backend.template;
+
+/**
+ * 템플릿 매칭 결과 (distance: 평균 제곱 거리)
+ */
+public final class TemplateMatch {
+
+    private final GestureTemplate template;
+    private final float distance;
+
+    public TemplateMatch(GestureTemplate template, float distance) {
+        this.template = template;
+        this.distance = distance;
+    }
+
+    public GestureTemplate getTemplate() {
+        return template;
+    }
+
+    public float getDistance() {
+        return distance;
+    }
+
+    /**
+     * 응답에 사용할 제스처 이름 (연결된 액션이 있으면 액션 이름)
+     */
+    public String getGestureName() {
+        return template.getAction() != null ? template.getAction().getWireName() : template.getName();
+    }
+}
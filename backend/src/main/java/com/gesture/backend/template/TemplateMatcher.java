@@ -0,0 +1,254 @@
+package com.gesture.backend.template;
+
+import com.gesture.backend.gesture.GestureType;
+import com.gesture.backend.gesture.HandGeometry;
+import com.gesture.backend.metrics.GestureMetrics;
+import com.gesture.backend.protocol.LandmarkFrame;
+import io.micrometer.core.instrument.FunctionCounter;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 동적 제스처(스와이프, 원 그리기, 흔들기 등) 템플릿 매처
+ *
+ * 세션마다 주 손 중심점(중지 MCP)의 궤적을 링 버퍼에 쌓고, 프레임마다 최근 창을 잘라
+ * 라이브러리 전체와 비교한다. 템플릿은 창 길이 순으로 정렬되어 있어 질의 전처리는 창마다 한 번이며,
+ * 템플릿마다 LB_Kim → LB_Keogh → 조기 중단 DTW 순으로 지금까지의 최선값보다 나빠지는 즉시 건너뛴다.
+ * 프레임 처리 중 객체를 할당하지 않는다 (매칭 성공 시 결과 객체 제외).
+ */
+@Service
+public class TemplateMatcher {
+
+    private static final int HISTORY = 256;
+    private static final int TRACKED_LANDMARK = HandGeometry.MIDDLE_MCP;
+
+    private final TemplateLibrary library;
+    private final GestureMetrics gestureMetrics;
+    private final float minExtent;
+    private final long gapMs;
+    private final long refractoryMs;
+    private final Map<String, SessionState> sessions = new ConcurrentHashMap<>();
+    private final LongAdder evaluated = new LongAdder();
+    private final LongAdder prunedKim = new LongAdder();
+    private final LongAdder prunedKeogh = new LongAdder();
+    private final LongAdder abandoned = new LongAdder();
+
+    public TemplateMatcher(TemplateLibrary library, GestureMetrics gestureMetrics,
+                           @Value("${gesture.template.min-extent:0.08}") float minExtent,
+                           @Value("${gesture.template.gap-ms:300}") long gapMs,
+                           @Value("${gesture.template.refractory-ms:500}") long refractoryMs) {
+        this.library = library;
+        this.gestureMetrics = gestureMetrics;
+        this.minExtent = minExtent;
+        this.gapMs = gapMs;
+        this.refractoryMs = refractoryMs;
+    }
+
+    @PostConstruct
+    public void registerMetrics() {
+        registerCounter("evaluated", evaluated, "비교 대상이 된 템플릿 수");
+        registerCounter("pruned_kim", prunedKim, "LB_Kim 하한으로 건너뛴 템플릿 수");
+        registerCounter("pruned_keogh", prunedKeogh, "LB_Keogh 하한으로 건너뛴 템플릿 수");
+        registerCounter("abandoned", abandoned, "DTW 도중 중단된 템플릿 수");
+    }
+
+    private void registerCounter(String stage, LongAdder adder, String description) {
+        FunctionCounter.builder("gesture.template.candidates", adder, LongAdder::sum)
+                .description(description)
+                .tag("stage", stage)
+                .register(gestureMetrics.getRegistry());
+    }
+
+    /**
+     * 프레임의 주 손 궤적을 누적하고 완성된 동적 제스처가 있으면 반환 (없으면 null)
+     */
+    public TemplateMatch match(String sessionId, LandmarkFrame frame) {
+        int hand = frame.primaryHand();
+        if (hand < 0) {
+            return null;
+        }
+        GestureTemplate[] templates = library.snapshot();
+        SessionState state = sessions.computeIfAbsent(sessionId, id -> new SessionState());
+        synchronized (state) {
+            long now = frame.getTimestamp();
+            state.append(frame.x(hand, TRACKED_LANDMARK), frame.y(hand, TRACKED_LANDMARK), now, gapMs);
+            if (templates.length == 0 || state.recording || now < state.quietUntil) {
+                return null;
+            }
+
+            long start = System.nanoTime();
+            TemplateMatch match = evaluate(state, templates, now);
+            gestureMetrics.recordTemplateMatch(System.nanoTime() - start);
+            if (match != null) {
+                // 같은 움직임이 다음 프레임에서 다시 매칭되지 않도록 궤적을 비우고 잠시 쉼
+                state.clear();
+                state.quietUntil = now + refractoryMs;
+            }
+            return match;
+        }
+    }
+
+    private TemplateMatch evaluate(SessionState state, GestureTemplate[] templates, long now) {
+        GestureTemplate best = null;
+        float bestDistance = TrajectoryMath.INFINITY;
+        long window = -1;
+        boolean queryReady = false;
+        int candidates = 0;
+
+        for (GestureTemplate template : templates) {
+            if (template.getWindowMs() != window) {
+                window = template.getWindowMs();
+                queryReady = state.prepareQuery(now - window, minExtent);
+            }
+            if (!queryReady) {
+                continue;
+            }
+            candidates++;
+            float limit = Math.min(template.getThreshold() * TrajectoryMath.POINTS, bestDistance);
+            if (TrajectoryMath.lowerBoundKim(state.queryX, state.queryY, template) > limit) {
+                prunedKim.increment();
+                continue;
+            }
+            if (TrajectoryMath.lowerBoundKeogh(state.queryX, state.queryY, template, limit) > limit) {
+                prunedKeogh.increment();
+                continue;
+            }
+            float distance = TrajectoryMath.dtw(state.queryX, state.queryY, template, template.getBand(), limit,
+                    state.previousRow, state.currentRow);
+            if (distance > limit) {
+                abandoned.increment();
+                continue;
+            }
+            best = template;
+            bestDistance = distance;
+        }
+        evaluated.add(candidates);
+        return best == null ? null : new TemplateMatch(best, bestDistance / TrajectoryMath.POINTS);
+    }
+
+    /**
+     * 이후 프레임을 템플릿 궤적으로 기록 (기록 중에는 매칭하지 않음)
+     */
+    public void startRecording(String sessionId) {
+        SessionState state = sessions.computeIfAbsent(sessionId, id -> new SessionState());
+        synchronized (state) {
+            state.recording = true;
+            state.recordFrom = state.total;
+        }
+    }
+
+    /**
+     * 기록을 끝내고 기록된 궤적을 템플릿으로 등록
+     */
+    public GestureTemplate stopRecording(String sessionId, String name, GestureType action, Float threshold) {
+        SessionState state = sessions.get(sessionId);
+        if (state == null) {
+            throw new IllegalStateException("기록 중인 궤적이 없습니다");
+        }
+        float[] xs;
+        float[] ys;
+        long[] timestamps;
+        int count;
+        synchronized (state) {
+            if (!state.recording) {
+                throw new IllegalStateException("기록 중인 궤적이 없습니다");
+            }
+            state.recording = false;
+            long from = Math.max(state.recordFrom, state.total - HISTORY);
+            count = (int) (state.total - from);
+            xs = new float[count];
+            ys = new float[count];
+            timestamps = new long[count];
+            for (int i = 0; i < count; i++) {
+                int index = (int) ((from + i) & (HISTORY - 1));
+                xs[i] = state.xs[index];
+                ys[i] = state.ys[index];
+                timestamps[i] = state.timestamps[index];
+            }
+            state.clear();
+        }
+        return library.add(name, action, xs, ys, timestamps, count, threshold);
+    }
+
+    @EventListener
+    public void onSessionDisconnect(SessionDisconnectEvent event) {
+        removeSession(event.getSessionId());
+    }
+
+    public void removeSession(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    /**
+     * 세션별 궤적 링 버퍼와 매칭 작업 배열 (모두 생성 시 한 번만 할당)
+     */
+    private static final class SessionState {
+        private final float[] xs = new float[HISTORY];
+        private final float[] ys = new float[HISTORY];
+        private final long[] timestamps = new long[HISTORY];
+        // 지금까지 추가된 표본 수 (링 버퍼 위치는 total % HISTORY)
+        private long total;
+        // clear() 이전 표본은 질의에서 제외
+        private long validFrom;
+        private boolean recording;
+        private long recordFrom;
+        private long quietUntil = Long.MIN_VALUE;
+
+        private final float[] windowX = new float[HISTORY];
+        private final float[] windowY = new float[HISTORY];
+        private final float[] queryX = new float[TrajectoryMath.POINTS];
+        private final float[] queryY = new float[TrajectoryMath.POINTS];
+        private final float[] previousRow = new float[TrajectoryMath.POINTS];
+        private final float[] currentRow = new float[TrajectoryMath.POINTS];
+
+        private void append(float x, float y, long timestamp, long gapMs) {
+            if (total > validFrom) {
+                long last = timestamps[(int) ((total - 1) & (HISTORY - 1))];
+                // 손이 한동안 사라졌거나 시각이 거꾸로 가면 이어지지 않는 궤적으로 보고 비움 (기록 중에는 유지)
+                if (!recording && (timestamp - last > gapMs || timestamp < last)) {
+                    clear();
+                }
+            }
+            int index = (int) (total & (HISTORY - 1));
+            xs[index] = x;
+            ys[index] = y;
+            timestamps[index] = timestamp;
+            total++;
+        }
+
+        private void clear() {
+            validFrom = total;
+        }
+
+        /**
+         * from 이후 표본을 잘라 재표본화/정규화한 질의 생성
+         *
+         * @return 표본이 충분하고 움직임이 minExtent 이상이면 true
+         */
+        private boolean prepareQuery(long from, float minExtent) {
+            long first = Math.max(validFrom, total - HISTORY);
+            int count = 0;
+            for (long i = first; i < total; i++) {
+                int index = (int) (i & (HISTORY - 1));
+                if (timestamps[index] < from) {
+                    continue;
+                }
+                windowX[count] = xs[index];
+                windowY[count] = ys[index];
+                count++;
+            }
+            if (count < GestureTemplate.MIN_SAMPLES) {
+                return false;
+            }
+            TrajectoryMath.resample(windowX, windowY, count, queryX, queryY);
+            return TrajectoryMath.normalize(queryX, queryY) >= minExtent;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.gesture.backend.template;
+
+import java.util.Arrays;
+
+/**
+ * 궤적 전처리와 DTW 거리 계산 (할당 없음, 결과는 호출자가 준 배열에 기록)
+ *
+ * 궤적은 경로 길이 기준으로 POINTS 개로 재표본화한 뒤 중심을 원점으로 옮기고 최대 폭으로 나눠
+ * 위치/크기와 무관하게 비교한다. 거리는 점별 제곱 유클리드 거리의 DTW 누적값이며
+ * Sakoe-Chiba 밴드로 정렬 범위를 제한한다.
+ */
+final class TrajectoryMath {
+
+    static final int POINTS = 32;
+    static final float INFINITY = Float.POSITIVE_INFINITY;
+
+    private TrajectoryMath() {}
+
+    /**
+     * 경로 길이 기준 등간격 재표본화
+     *
+     * @return 원본 경로 길이
+     */
+    static float resample(float[] x, float[] y, int count, float[] outX, float[] outY) {
+        float length = 0f;
+        for (int i = 1; i < count; i++) {
+            length += distance(x[i - 1], y[i - 1], x[i], y[i]);
+        }
+        if (length == 0f) {
+            Arrays.fill(outX, x[0]);
+            Arrays.fill(outY, y[0]);
+            return 0f;
+        }
+
+        float interval = length / (POINTS - 1);
+        float px = x[0];
+        float py = y[0];
+        float accumulated = 0f;
+        outX[0] = px;
+        outY[0] = py;
+        int k = 1;
+        int i = 1;
+        while (i < count && k < POINTS) {
+            float d = distance(px, py, x[i], y[i]);
+            if (d > 0f && accumulated + d >= interval) {
+                // 현재 구간 안에서 다음 표본 위치를 보간하고 같은 구간을 계속 진행
+                float ratio = (interval - accumulated) / d;
+                px += ratio * (x[i] - px);
+                py += ratio * (y[i] - py);
+                outX[k] = px;
+                outY[k] = py;
+                k++;
+                accumulated = 0f;
+            } else {
+                accumulated += d;
+                px = x[i];
+                py = y[i];
+                i++;
+            }
+        }
+        // 부동소수점 오차로 마지막 표본이 빠진 경우 끝점으로 채움
+        for (; k < POINTS; k++) {
+            outX[k] = x[count - 1];
+            outY[k] = y[count - 1];
+        }
+        return length;
+    }
+
+    /**
+     * 중심을 원점으로 옮기고 가로/세로 중 큰 폭으로 나눔 (가로세로 비율 유지)
+     *
+     * @return 정규화 전 최대 폭 (0 이면 정규화하지 않음)
+     */
+    static float normalize(float[] x, float[] y) {
+        float minX = x[0], maxX = x[0], minY = y[0], maxY = y[0];
+        float sumX = 0f, sumY = 0f;
+        for (int i = 0; i < POINTS; i++) {
+            minX = Math.min(minX, x[i]);
+            maxX = Math.max(maxX, x[i]);
+            minY = Math.min(minY, y[i]);
+            maxY = Math.max(maxY, y[i]);
+            sumX += x[i];
+            sumY += y[i];
+        }
+        float extent = Math.max(maxX - minX, maxY - minY);
+        if (extent == 0f) {
+            return 0f;
+        }
+        float cx = sumX / POINTS;
+        float cy = sumY / POINTS;
+        for (int i = 0; i < POINTS; i++) {
+            x[i] = (x[i] - cx) / extent;
+            y[i] = (y[i] - cy) / extent;
+        }
+        return extent;
+    }
+
+    /**
+     * 밴드 폭 안의 최대/최소값 엔벨로프 (LB_Keogh 용, 템플릿 생성 시 한 번 계산)
+     */
+    static void envelope(float[] values, int band, float[] upper, float[] lower) {
+        for (int i = 0; i < POINTS; i++) {
+            float max = values[i];
+            float min = values[i];
+            int from = Math.max(0, i - band);
+            int to = Math.min(POINTS - 1, i + band);
+            for (int j = from; j <= to; j++) {
+                max = Math.max(max, values[j]);
+                min = Math.min(min, values[j]);
+            }
+            upper[i] = max;
+            lower[i] = min;
+        }
+    }
+
+    /**
+     * LB_Kim: 양 끝점 거리 (DTW 경로는 반드시 두 끝점을 지나므로 하한)
+     */
+    static float lowerBoundKim(float[] qx, float[] qy, GestureTemplate template) {
+        int last = POINTS - 1;
+        return squared(qx[0] - template.x[0], qy[0] - template.y[0])
+                + squared(qx[last] - template.x[last], qy[last] - template.y[last]);
+    }
+
+    /**
+     * LB_Keogh: 질의 점이 템플릿 엔벨로프를 벗어난 만큼의 합 (축별로 계산해 더해도 하한이 유지됨)
+     * 누적값이 limit 를 넘으면 바로 반환한다.
+     */
+    static float lowerBoundKeogh(float[] qx, float[] qy, GestureTemplate template, float limit) {
+        float sum = 0f;
+        for (int i = 0; i < POINTS; i++) {
+            sum += outside(qx[i], template.upperX[i], template.lowerX[i])
+                    + outside(qy[i], template.upperY[i], template.lowerY[i]);
+            if (sum > limit) {
+                return sum;
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * 밴드 제한 DTW (행의 최솟값이 limit 를 넘으면 중단하고 INFINITY 반환)
+     *
+     * @param previous 길이 POINTS 이상의 작업 배열
+     * @param current  길이 POINTS 이상의 작업 배열
+     */
+    static float dtw(float[] qx, float[] qy, GestureTemplate template, int band, float limit,
+                     float[] previous, float[] current) {
+        float[] tx = template.x;
+        float[] ty = template.y;
+        float[] prev = previous;
+        float[] curr = current;
+        Arrays.fill(prev, 0, POINTS, INFINITY);
+        for (int i = 0; i < POINTS; i++) {
+            Arrays.fill(curr, 0, POINTS, INFINITY);
+            int from = Math.max(0, i - band);
+            int to = Math.min(POINTS - 1, i + band);
+            float rowMin = INFINITY;
+            for (int j = from; j <= to; j++) {
+                float best;
+                if (i == 0 && j == 0) {
+                    best = 0f;
+                } else {
+                    best = prev[j];
+                    if (j > 0) {
+                        best = Math.min(best, Math.min(prev[j - 1], curr[j - 1]));
+                    }
+                }
+                float cell = squared(qx[i] - tx[j], qy[i] - ty[j]) + best;
+                curr[j] = cell;
+                rowMin = Math.min(rowMin, cell);
+            }
+            if (rowMin > limit) {
+                return INFINITY;
+            }
+            float[] swap = prev;
+            prev = curr;
+            curr = swap;
+        }
+        return prev[POINTS - 1];
+    }
+
+    private static float outside(float value, float upper, float lower) {
+        if (value > upper) {
+            return squared(value - upper, 0f);
+        }
+        if (value < lower) {
+            return squared(lower - value, 0f);
+        }
+        return 0f;
+    }
+
+    private static float distance(float x1, float y1, float x2, float y2) {
+        return (float) Math.sqrt(squared(x2 - x1, y2 - y1));
+    }
+
+    private static float squared(float dx, float dy) {
+        return dx * dx + dy * dy;
+    }
+}
@@ -0,0 +1,84 @@
+package com.gesture.backend.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gesture.backend.dto.GestureDto;
+import com.gesture.backend.mapping.MappingEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ClusterEventServiceTest {
+
+    private static final String STATUS = ClusterEventService.STATUS_DESTINATION;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MappingEngine engineA = mock(MappingEngine.class);
+    private final MappingEngine engineB = mock(MappingEngine.class);
+    private final SimpMessagingTemplate templateA = mock(SimpMessagingTemplate.class);
+    private final SimpMessagingTemplate templateB = mock(SimpMessagingTemplate.class);
+    private LocalClusterBus busA;
+    private ClusterEventService nodeA;
+    private ClusterEventService nodeB;
+
+    @BeforeEach
+    void setUp() {
+        busA = new LocalClusterBus(new ClusterNode("a"));
+        LocalClusterBus busB = busA.join("b");
+        nodeA = node(busA, engineA, templateA);
+        nodeB = node(busB, engineB, templateB);
+    }
+
+    @AfterEach
+    void tearDown() {
+        busA.shutdown();
+    }
+
+    @Test
+    void mappingChangeRefreshesOtherNodeOnly() {
+        nodeA.mappingsChanged();
+
+        verify(engineB, timeout(1000)).refresh();
+        // 자기 메시지가 버스로 되돌아와도 다시 읽지 않음
+        verify(engineA, after(200).never()).refresh();
+    }
+
+    @Test
+    void mappingChangeFromOtherNodeIsNotEchoedBack() {
+        nodeB.mappingsChanged();
+
+        verify(engineA, timeout(1000)).refresh();
+        verify(engineB, after(200).never()).refresh();
+    }
+
+    @Test
+    void statusReachesSubscribersOnEveryNodeOnce() {
+        GestureDto.NodeStatus status = new GestureDto.NodeStatus("a", "up");
+
+        nodeA.broadcastStatus(status);
+
+        verify(templateB, timeout(1000)).convertAndSend(eq(STATUS),
+                argThat((GestureDto.NodeStatus received) -> "a".equals(received.getNode())
+                        && "up".equals(received.getState())));
+        // 로컬 구독자는 버스를 거치지 않고 한 번만 받음
+        verify(templateA, after(200).times(1)).convertAndSend(eq(STATUS), any(Object.class));
+        verify(templateA).convertAndSend(eq(STATUS), same((Object) status));
+        verify(templateB, times(1)).convertAndSend(eq(STATUS), any(Object.class));
+    }
+
+    private ClusterEventService node(ClusterBus bus, MappingEngine engine, SimpMessagingTemplate template) {
+        ClusterEventService service = new ClusterEventService(bus, engine, template, objectMapper, "local", "memory");
+        service.subscribe();
+        return service;
+    }
+}
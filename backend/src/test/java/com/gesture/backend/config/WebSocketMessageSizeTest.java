@@ -0,0 +1,112 @@
+package com.gesture.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 얼굴 메시 전체(478 포인트)를 담은 JSON 프레임이 컨테이너 수신 버퍼에서 끊기지 않는지 확인
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "gesture.input.device=virtual")
+class WebSocketMessageSizeTest {
+
+    private static final int FACE_POINTS = 478;
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void acceptsFullFaceMeshFrame() throws Exception {
+        Map<String, Object> request = new HashMap<>();
+        request.put("x", 100);
+        request.put("y", 100);
+        request.put("userId", "face-frame-test");
+        request.put("face", faceMesh());
+        int size = new ObjectMapper().writeValueAsBytes(request).length;
+        assertTrue(size > 16 * 1024, "기본 8KB 버퍼를 넘는 프레임이어야 함: " + size);
+
+        WebSocketStompClient client = new WebSocketStompClient(new StandardWebSocketClient());
+        client.setMessageConverter(new MappingJackson2MessageConverter());
+        StompSession session = client.connectAsync("ws://localhost:" + port + "/ws/gesture/native",
+                new StompSessionHandlerAdapter() {}).get(5, TimeUnit.SECONDS);
+        try {
+            BlockingQueue<Map<String, Object>> responses = new LinkedBlockingQueue<>();
+            session.subscribe("/user/queue/gesture/response", new StompFrameHandler() {
+                @Override
+                public Type getPayloadType(StompHeaders headers) {
+                    return Map.class;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public void handleFrame(StompHeaders headers, Object payload) {
+                    responses.add((Map<String, Object>) payload);
+                }
+            });
+
+            // 구독이 먼저 처리되었는지 알 수 없으므로 응답이 올 때까지 다시 보냄 (표본만 늘어남)
+            Map<String, Object> response = null;
+            for (int attempt = 0; attempt < 20 && response == null; attempt++) {
+                session.send("/app/gesture/gaze/calibrate", request);
+                response = responses.poll(250, TimeUnit.MILLISECONDS);
+            }
+
+            assertNotNull(response, "응답 없음 (연결이 끊겼을 수 있음)");
+            assertEquals(true, response.get("success"), String.valueOf(response.get("message")));
+            assertTrue(session.isConnected());
+        } finally {
+            session.disconnect();
+            client.stop();
+        }
+    }
+
+    /**
+     * 눈꼬리/눈꺼풀 사이에 홍채가 있는 FaceMesh 포인트 (나머지는 얼굴 중앙 부근)
+     */
+    private static List<Map<String, Double>> faceMesh() {
+        double[][] points = new double[FACE_POINTS][];
+        for (int i = 0; i < FACE_POINTS; i++) {
+            points[i] = new double[] {0.5 + i * 1.234567e-4, 0.5 - i * 7.654321e-5, 0.0123456 + i * 1e-6};
+        }
+        // 오른쪽 눈: 바깥 33, 안쪽 133, 위 159, 아래 145, 홍채 468
+        points[33] = new double[] {0.3012345, 0.4712345, 0.01};
+        points[133] = new double[] {0.4012345, 0.4712345, 0.01};
+        points[159] = new double[] {0.3512345, 0.4512345, 0.01};
+        points[145] = new double[] {0.3512345, 0.5012345, 0.01};
+        points[468] = new double[] {0.3498765, 0.4765432, 0.01};
+        // 왼쪽 눈: 안쪽 362, 바깥 263, 위 386, 아래 374, 홍채 473
+        points[362] = new double[] {0.6012345, 0.4712345, 0.01};
+        points[263] = new double[] {0.7012345, 0.4712345, 0.01};
+        points[386] = new double[] {0.6512345, 0.4512345, 0.01};
+        points[374] = new double[] {0.6512345, 0.5012345, 0.01};
+        points[473] = new double[] {0.6498765, 0.4765432, 0.01};
+
+        List<Map<String, Double>> face = new ArrayList<>(FACE_POINTS);
+        for (double[] point : points) {
+            face.add(Map.of("x", point[0], "y", point[1], "z", point[2]));
+        }
+        return face;
+    }
+}
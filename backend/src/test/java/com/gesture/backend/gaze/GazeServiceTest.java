@@ -0,0 +1,154 @@
+package com.gesture.backend.gaze;
+
+import com.gesture.backend.input.VirtualInputDevice;
+import com.gesture.backend.metrics.GestureMetrics;
+import com.gesture.backend.protocol.LandmarkFrame;
+import com.gesture.backend.service.PackedPoint;
+import com.gesture.backend.service.ScreenStateService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GazeServiceTest {
+
+    private static final int WIDTH = 1000;
+    private static final int HEIGHT = 500;
+
+    private final LandmarkFrame frame = new LandmarkFrame();
+    private GazeService gazeService;
+
+    @BeforeEach
+    void setUp() {
+        ScreenStateService screenState = new ScreenStateService(new VirtualInputDevice(16, WIDTH, HEIGHT), null, 0, 0);
+        screenState.refresh();
+        gazeService = new GazeService(screenState, new GestureMetrics(new SimpleMeterRegistry()), 9, 0, 0.5f, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        gazeService.shutdown();
+    }
+
+    @Test
+    void mapsGazeAfterCalibration() throws Exception {
+        gazeService.bind("s1", "alice");
+        assertEquals(PackedPoint.EMPTY, gazeService.map("s1", gaze(0.5f, 0.5f)));
+
+        GazeCalibration calibration = calibrate("s1");
+
+        assertTrue(calibration.getErrorPixels() < 1);
+        long point = gazeService.map("s1", gaze(0.5f, 0.5f));
+        assertEquals(WIDTH / 2, PackedPoint.x(point), 1);
+        assertEquals(HEIGHT / 2, PackedPoint.y(point), 1);
+    }
+
+    @Test
+    void calibrationIsSharedAcrossSessionsOfSameUser() throws Exception {
+        gazeService.bind("s1", "alice");
+        GazeCalibration calibration = calibrate("s1");
+        gazeService.removeSession("s1");
+
+        gazeService.bind("s2", "alice");
+
+        assertSame(calibration, gazeService.getCalibration("s2"));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedUnboundUser() throws Exception {
+        gazeService.bind("s1", "alice");
+        calibrate("s1");
+        gazeService.removeSession("s1");
+        gazeService.bind("s2", "bob");
+        calibrate("s2");
+        gazeService.removeSession("s2");
+        // alice 를 다시 써서 bob 이 가장 오래된 사용자가 됨
+        gazeService.bind("s3", "alice");
+        gazeService.removeSession("s3");
+
+        gazeService.bind("s4", "carol");
+
+        gazeService.bind("s5", "alice");
+        gazeService.bind("s6", "bob");
+        assertNotNull(gazeService.getCalibration("s5"));
+        assertNull(gazeService.getCalibration("s6"));
+    }
+
+    @Test
+    void boundUsersAreNeverEvicted() throws Exception {
+        gazeService.bind("s1", "alice");
+        GazeCalibration calibration = calibrate("s1");
+
+        // 한도 2 를 넘겨도 연결된 alice 는 남고 연결이 끊긴 사용자만 버려짐
+        for (int i = 0; i < 5; i++) {
+            gazeService.bind("other", "user-" + i);
+        }
+
+        assertSame(calibration, gazeService.getCalibration("s1"));
+        gazeService.bind("s2", "alice");
+        assertSame(calibration, gazeService.getCalibration("s2"));
+    }
+
+    @Test
+    void rebindingSameUserOnFramePathDoesNotTakeCacheLock() throws Exception {
+        gazeService.bind("s1", "alice");
+        Field field = GazeService.class.getDeclaredField("users");
+        field.setAccessible(true);
+        Object cacheLock = field.get(gazeService);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            synchronized (cacheLock) {
+                locked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        holder.start();
+        try {
+            assertTrue(locked.await(1, TimeUnit.SECONDS));
+            // 캐시 락이 잡혀 있어도 이미 연결된 사용자로의 bind 는 바로 끝나야 함
+            CompletableFuture.runAsync(() -> gazeService.bind("s1", "alice")).get(1, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+    }
+
+    private GazeCalibration calibrate(String sessionId) throws InterruptedException {
+        for (int i = 0; i <= 2; i++) {
+            for (int j = 0; j <= 2; j++) {
+                float u = i * 0.5f;
+                float v = j * 0.5f;
+                gazeService.addSample(sessionId, gaze(u, v), Math.round(u * (WIDTH - 1)), Math.round(v * (HEIGHT - 1)));
+            }
+        }
+        long deadline = System.currentTimeMillis() + 2000;
+        GazeCalibration calibration;
+        while ((calibration = gazeService.getCalibration(sessionId)) == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertNotNull(calibration);
+        return calibration;
+    }
+
+    private LandmarkFrame gaze(float u, float v) {
+        frame.setHeader(0, 0, 0L, 0);
+        frame.setGaze(u, v, 1f);
+        return frame;
+    }
+}
@@ -0,0 +1,96 @@
+package com.gesture.backend.gaze;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NormalEquationsTest {
+
+    // 항 순서 [1, u, v, uv, u², v²]
+    private static final double[] X = {0.5, 0.25, -0.1, 0.05, 0.02, -0.03};
+    private static final double[] Y = {0.4, -0.05, 0.3, -0.02, 0.01, 0.04};
+    private static final int[] GRID = {-2, -1, 0, 1, 2};
+
+    @Test
+    void recoversExactQuadratic() {
+        NormalEquations equations = new NormalEquations();
+        for (int u : GRID) {
+            for (int v : GRID) {
+                equations.add(u, v, evaluate(X, u, v), evaluate(Y, u, v));
+            }
+        }
+
+        double[] coefficientsX = new double[NormalEquations.TERMS];
+        double[] coefficientsY = new double[NormalEquations.TERMS];
+        double residual = equations.solve(0, coefficientsX, coefficientsY);
+
+        for (int i = 0; i < NormalEquations.TERMS; i++) {
+            assertEquals(X[i], coefficientsX[i], 1e-9, "x 계수 " + i);
+            assertEquals(Y[i], coefficientsY[i], 1e-9, "y 계수 " + i);
+        }
+        assertEquals(0, residual, 1e-6);
+    }
+
+    @Test
+    void reportsRmsOfComponentOutsideQuadraticSpace() {
+        // s(u, v) = (u³ - 3.4u)(v³ - 3.4v) 는 격자 위에서 6개 항 모두와 직교하므로
+        // 계수는 그대로이고 잔차는 x 의 섭동 크기만큼이다
+        double amplitude = 0.01;
+        NormalEquations equations = new NormalEquations();
+        double sumSquares = 0;
+        for (int u : GRID) {
+            for (int v : GRID) {
+                double noise = amplitude * (u * u * u - 3.4 * u) * (v * v * v - 3.4 * v);
+                sumSquares += noise * noise;
+                equations.add(u, v, evaluate(X, u, v) + noise, evaluate(Y, u, v));
+            }
+        }
+
+        double[] coefficientsX = new double[NormalEquations.TERMS];
+        double[] coefficientsY = new double[NormalEquations.TERMS];
+        double residual = equations.solve(0, coefficientsX, coefficientsY);
+
+        for (int i = 0; i < NormalEquations.TERMS; i++) {
+            assertEquals(X[i], coefficientsX[i], 1e-9, "x 계수 " + i);
+        }
+        int samples = GRID.length * GRID.length;
+        assertEquals(Math.sqrt(sumSquares / (2.0 * samples)), residual, 1e-9);
+    }
+
+    @Test
+    void degenerateSamplesAreRejected() {
+        NormalEquations equations = new NormalEquations();
+        for (int i = 0; i < 10; i++) {
+            equations.add(0.5, 0.5, 0.3, 0.3);
+        }
+
+        double residual = equations.solve(0, new double[NormalEquations.TERMS], new double[NormalEquations.TERMS]);
+
+        assertTrue(Double.isNaN(residual));
+    }
+
+    @Test
+    void copyToAndClearKeepAccumulatorsConsistent() {
+        NormalEquations equations = new NormalEquations();
+        for (int u : GRID) {
+            for (int v : GRID) {
+                equations.add(u, v, evaluate(X, u, v), evaluate(Y, u, v));
+            }
+        }
+        NormalEquations copy = new NormalEquations();
+        equations.copyTo(copy);
+        equations.clear();
+
+        double[] coefficientsX = new double[NormalEquations.TERMS];
+        double[] coefficientsY = new double[NormalEquations.TERMS];
+        assertEquals(0, equations.samples());
+        assertEquals(GRID.length * GRID.length, copy.samples());
+        assertEquals(0, copy.solve(0, coefficientsX, coefficientsY), 1e-6);
+        assertEquals(X[1], coefficientsX[1], 1e-9);
+    }
+
+    private static double evaluate(double[] c, double u, double v) {
+        return c[0] + c[1] * u + c[2] * v + c[3] * u * v + c[4] * u * u + c[5] * v * v;
+    }
+}
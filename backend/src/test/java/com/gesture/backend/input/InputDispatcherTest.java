@@ -0,0 +1,153 @@
+package com.gesture.backend.input;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Dimension;
+import java.awt.Point;
+import java.awt.event.InputEvent;
+import java.awt.event.KeyEvent;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InputDispatcherTest {
+
+    private final VirtualInputDevice device = new VirtualInputDevice(1024, 1920, 1080);
+    private final InputDispatcher dispatcher = new InputDispatcher(device);
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void movesAreCoalescedWhileSequenceRuns() throws Exception {
+        dispatcher.submit(InputSequence.builder().keyPress(1).delay(50).keyRelease(1).build());
+        assertTrue(device.awaitEvents(1, 1, TimeUnit.SECONDS));
+        dispatcher.move(1, 1);
+        dispatcher.move(2, 2);
+        dispatcher.move(3, 3);
+
+        assertTrue(device.awaitEvents(3, 1, TimeUnit.SECONDS));
+        Thread.sleep(20);
+        List<InputEventRecord> events = device.events();
+        assertEquals(3, events.size());
+        assertEquals(InputSequence.MOVE, events.get(2).getType());
+        assertEquals(3, events.get(2).getFirst());
+        assertEquals(3, events.get(2).getSecond());
+    }
+
+    @Test
+    void pointerMovesNeverSplitASequence() throws Exception {
+        int buttons = InputEvent.BUTTON1_DOWN_MASK;
+        InputSequence clickAt = InputSequence.builder()
+                .move(-1, -1).mousePress(buttons).delay(1).mouseRelease(buttons).build();
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread pointer = new Thread(() -> {
+            int x = 0;
+            while (running.get()) {
+                dispatcher.move(x++ % 1000, 0);
+            }
+        });
+        pointer.start();
+        for (int i = 0; i < 20; i++) {
+            dispatcher.submit(clickAt).get(1, TimeUnit.SECONDS);
+        }
+        running.set(false);
+        pointer.join();
+
+        List<InputEventRecord> events = device.events();
+        for (int i = 0; i < events.size(); i++) {
+            if (events.get(i).getType() == InputSequence.MOVE && events.get(i).getFirst() == -1) {
+                assertEquals(InputSequence.MOUSE_PRESS, events.get(i + 1).getType());
+                assertEquals(InputSequence.MOUSE_RELEASE, events.get(i + 2).getType());
+            }
+        }
+    }
+
+    @Test
+    void failedSequenceReleasesWhatItPressed() throws Exception {
+        InputDispatcher failing = new InputDispatcher(new RejectingDevice(device, 999));
+        try {
+            InputSequence chord = InputSequence.keyChord(1, KeyEvent.VK_CONTROL, KeyEvent.VK_SHIFT, 999);
+
+            assertThrows(ExecutionException.class, () -> failing.submit(chord).get(1, TimeUnit.SECONDS));
+
+            List<InputEventRecord> events = device.events();
+            assertEquals(4, events.size());
+            assertEquals(InputSequence.KEY_RELEASE, events.get(2).getType());
+            assertEquals(KeyEvent.VK_SHIFT, events.get(2).getFirst());
+            assertEquals(InputSequence.KEY_RELEASE, events.get(3).getType());
+            assertEquals(KeyEvent.VK_CONTROL, events.get(3).getFirst());
+        } finally {
+            failing.shutdown();
+        }
+    }
+
+    /**
+     * 특정 키 코드를 거부하는 장치 (JNA 의 변환 불가 키와 같은 상황)
+     */
+    private static final class RejectingDevice implements InputDevice {
+        private final VirtualInputDevice delegate;
+        private final int rejectedKey;
+
+        private RejectingDevice(VirtualInputDevice delegate, int rejectedKey) {
+            this.delegate = delegate;
+            this.rejectedKey = rejectedKey;
+        }
+
+        @Override
+        public String name() {
+            return "rejecting";
+        }
+
+        @Override
+        public void mouseMove(int x, int y) {
+            delegate.mouseMove(x, y);
+        }
+
+        @Override
+        public void mousePress(int buttons) {
+            delegate.mousePress(buttons);
+        }
+
+        @Override
+        public void mouseRelease(int buttons) {
+            delegate.mouseRelease(buttons);
+        }
+
+        @Override
+        public void mouseWheel(int notches) {
+            delegate.mouseWheel(notches);
+        }
+
+        @Override
+        public void keyPress(int keyCode) {
+            if (keyCode == rejectedKey) {
+                throw new IllegalArgumentException("지원하지 않는 키: " + keyCode);
+            }
+            delegate.keyPress(keyCode);
+        }
+
+        @Override
+        public void keyRelease(int keyCode) {
+            delegate.keyRelease(keyCode);
+        }
+
+        @Override
+        public Point getPointerLocation() {
+            return delegate.getPointerLocation();
+        }
+
+        @Override
+        public Dimension getScreenSize() {
+            return delegate.getScreenSize();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.gesture.backend.input;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.event.KeyEvent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JnaInputDeviceTest {
+
+    @Test
+    void sharedKeyCodesPassThrough() {
+        assertEquals(0x41, JnaInputDevice.virtualKey(KeyEvent.VK_A));
+        assertEquals(0x7B, JnaInputDevice.virtualKey(KeyEvent.VK_F12));
+        assertEquals(0x11, JnaInputDevice.virtualKey(KeyEvent.VK_CONTROL));
+    }
+
+    @Test
+    void mapsKeysWhoseJavaCodesDiffer() {
+        assertEquals(0x0D, JnaInputDevice.virtualKey(KeyEvent.VK_ENTER));
+        assertEquals(0x2E, JnaInputDevice.virtualKey(KeyEvent.VK_DELETE));
+        assertEquals(0x7C, JnaInputDevice.virtualKey(KeyEvent.VK_F13));
+        assertEquals(0x87, JnaInputDevice.virtualKey(KeyEvent.VK_F24));
+        assertEquals(0x26, JnaInputDevice.virtualKey(KeyEvent.VK_KP_UP));
+        assertEquals(0xA5, JnaInputDevice.virtualKey(KeyEvent.VK_ALT_GRAPH));
+    }
+
+    @Test
+    void rejectsCodesWithoutVirtualKey() {
+        assertThrows(IllegalArgumentException.class, () -> JnaInputDevice.virtualKey(KeyEvent.VK_EURO_SIGN));
+        assertThrows(IllegalArgumentException.class, () -> JnaInputDevice.virtualKey(KeyEvent.VK_UNDEFINED));
+    }
+}
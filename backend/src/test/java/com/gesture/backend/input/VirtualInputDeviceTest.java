@@ -0,0 +1,83 @@
+package com.gesture.backend.input;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualInputDeviceTest {
+
+    @Test
+    void recordsEventsInOrderWithNanoTimestamps() {
+        VirtualInputDevice device = new VirtualInputDevice(16, 800, 600);
+        long before = System.nanoTime();
+        device.mouseMove(10, 20);
+        device.mousePress(1);
+        device.mouseRelease(1);
+        device.keyPress(65);
+        device.keyRelease(65);
+        device.mouseWheel(-3);
+        long after = System.nanoTime();
+
+        List<InputEventRecord> events = device.events();
+        int[] types = {InputSequence.MOVE, InputSequence.MOUSE_PRESS, InputSequence.MOUSE_RELEASE,
+                InputSequence.KEY_PRESS, InputSequence.KEY_RELEASE, InputSequence.WHEEL};
+        assertEquals(types.length, events.size());
+        long previous = before;
+        for (int i = 0; i < types.length; i++) {
+            InputEventRecord event = events.get(i);
+            assertEquals(i, event.getSequence());
+            assertEquals(types[i], event.getType());
+            assertTrue(event.getNanoTime() >= previous, "타임스탬프는 기록 순서대로 증가");
+            previous = event.getNanoTime();
+        }
+        assertTrue(previous <= after);
+        assertEquals(10, events.get(0).getFirst());
+        assertEquals(20, events.get(0).getSecond());
+        assertEquals(-3, events.get(5).getFirst());
+        assertEquals(10, device.getPointerLocation().x);
+        assertEquals(20, device.getPointerLocation().y);
+    }
+
+    @Test
+    void overwritesOldestEventsWhenFull() {
+        VirtualInputDevice device = new VirtualInputDevice(4, 800, 600);
+        for (int i = 0; i < 10; i++) {
+            device.mouseWheel(i);
+        }
+
+        List<InputEventRecord> events = device.events();
+        assertEquals(10, device.count());
+        assertEquals(4, events.size());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(6 + i, events.get(i).getSequence());
+            assertEquals(6 + i, events.get(i).getFirst());
+        }
+    }
+
+    @Test
+    void resetHidesEarlierEvents() throws Exception {
+        VirtualInputDevice device = new VirtualInputDevice(8, 800, 600);
+        device.keyPress(1);
+        device.reset();
+        assertEquals(0, device.count());
+        assertTrue(device.events().isEmpty());
+        assertFalse(device.awaitEvents(1, 10, TimeUnit.MILLISECONDS));
+
+        device.keyRelease(1);
+
+        assertTrue(device.awaitEvents(1, 10, TimeUnit.MILLISECONDS));
+        assertEquals(InputSequence.KEY_RELEASE, device.events().get(0).getType());
+    }
+
+    @Test
+    void rejectsCapacityThatIsNotPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new VirtualInputDevice(6, 800, 600));
+        assertThrows(IllegalArgumentException.class, () -> new VirtualInputDevice(1, 800, 600));
+    }
+}
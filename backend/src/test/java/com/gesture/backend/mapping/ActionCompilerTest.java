@@ -0,0 +1,71 @@
+package com.gesture.backend.mapping;
+
+import com.gesture.backend.input.InputSequence;
+import org.junit.jupiter.api.Test;
+
+import java.awt.event.KeyEvent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ActionCompilerTest {
+
+    private final ActionCompiler compiler = new ActionCompiler(20, 60, 15);
+
+    @Test
+    void keystrokePressesInOrderAndReleasesInReverse() {
+        InputSequence sequence = compile("keystroke", "CTRL+S").getSequence();
+
+        assertEquals(5, sequence.size());
+        assertOp(sequence, 0, InputSequence.KEY_PRESS, KeyEvent.VK_CONTROL);
+        assertOp(sequence, 1, InputSequence.KEY_PRESS, KeyEvent.VK_S);
+        assertOp(sequence, 2, InputSequence.DELAY, 15);
+        assertOp(sequence, 3, InputSequence.KEY_RELEASE, KeyEvent.VK_S);
+        assertOp(sequence, 4, InputSequence.KEY_RELEASE, KeyEvent.VK_CONTROL);
+    }
+
+    @Test
+    void keystrokeAcceptsAliases() {
+        InputSequence sequence = compile("key", "esc").getSequence();
+
+        assertOp(sequence, 0, InputSequence.KEY_PRESS, KeyEvent.VK_ESCAPE);
+    }
+
+    @Test
+    void doubleClickUsesConfiguredHoldAndGap() {
+        InputSequence sequence = compile("click", "double").getSequence();
+
+        assertEquals(7, sequence.size());
+        assertEquals(20 + 60 + 20, sequence.totalDelayMs());
+    }
+
+    @Test
+    void scrollDirectionAndAmount() {
+        assertOp(compile("scroll", "down:5").getSequence(), 0, InputSequence.WHEEL, 5);
+        assertOp(compile("scroll", "up").getSequence(), 0, InputSequence.WHEEL, -3);
+    }
+
+    @Test
+    void noneSuppressesGesture() {
+        assertTrue(compile("none", "").isSuppressed());
+    }
+
+    @Test
+    void rejectsInvalidActions() {
+        assertThrows(IllegalArgumentException.class, () -> compile("launch", "calc"));
+        assertThrows(IllegalArgumentException.class, () -> compile("keystroke", "CTRL+NOPE"));
+        assertThrows(IllegalArgumentException.class, () -> compile("keystroke", ""));
+        assertThrows(IllegalArgumentException.class, () -> compile("click", "sideways"));
+        assertThrows(IllegalArgumentException.class, () -> compile("scroll", "left"));
+    }
+
+    private CompiledAction compile(String type, String value) {
+        return compiler.compile(new MappingRule("r", "rule", "left_click", null, type, value, 100, 0L));
+    }
+
+    private static void assertOp(InputSequence sequence, int index, int op, int firstArg) {
+        assertEquals(op, sequence.op(index));
+        assertEquals(firstArg, sequence.firstArg(index));
+    }
+}
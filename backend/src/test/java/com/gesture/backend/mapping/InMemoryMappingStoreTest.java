@@ -0,0 +1,33 @@
+package com.gesture.backend.mapping;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryMappingStoreTest {
+
+    private final InMemoryMappingStore store = new InMemoryMappingStore();
+
+    @Test
+    void saveAssignsIdAndReplacesExistingRule() {
+        MappingRule saved = store.save(new MappingRule(null, "save", "left_click", null, "keystroke", "CTRL+S", 100, 0L));
+        assertNotNull(saved.getId());
+
+        store.save(new MappingRule(saved.getId(), "save", "left_click", null, "keystroke", "CTRL+SHIFT+S", 100, 0L));
+
+        assertEquals(1, store.loadActiveRules().size());
+        assertEquals("CTRL+SHIFT+S", store.loadActiveRules().get(0).getActionValue());
+    }
+
+    @Test
+    void deleteReportsWhetherRuleExisted() {
+        MappingRule saved = store.save(new MappingRule(null, "esc", "escape", null, "keystroke", "ESC", 100, 0L));
+
+        assertTrue(store.delete(saved.getId()));
+        assertFalse(store.delete(saved.getId()));
+        assertTrue(store.loadActiveRules().isEmpty());
+    }
+}
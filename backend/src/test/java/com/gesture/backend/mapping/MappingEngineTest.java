@@ -0,0 +1,135 @@
+package com.gesture.backend.mapping;
+
+import com.gesture.backend.gesture.GestureType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappingEngineTest {
+
+    private static final String SESSION = "session-1";
+
+    private InMemoryMappingStore store;
+    private MappingEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryMappingStore();
+        engine = new MappingEngine(store, new ActionCompiler(20, 60, 20), 0);
+        engine.start();
+    }
+
+    @Test
+    void unmappedGestureResolvesToNull() {
+        assertNull(engine.resolve(SESSION, GestureType.LEFT_CLICK));
+    }
+
+    @Test
+    void lowerPriorityValueWins() {
+        engine.save(rule("low", "left_click", null, 50));
+        MappingRule high = engine.save(rule("high", "left_click", null, 10));
+        engine.save(rule("lowest", "left_click", null, 90));
+
+        assertEquals(high.getId(), engine.resolve(SESSION, GestureType.LEFT_CLICK).getRuleId());
+    }
+
+    @Test
+    void contextRuleOverridesAnyAndFallsBackPerGesture() {
+        MappingRule any = engine.save(rule("any-left", "left_click", null, 100));
+        MappingRule anyRight = engine.save(rule("any-right", "right_click", null, 100));
+        MappingRule presentation = engine.save(rule("slide-left", "left_click", "presentation", 100));
+
+        engine.setContext(SESSION, "presentation");
+        assertEquals(presentation.getId(), engine.resolve(SESSION, GestureType.LEFT_CLICK).getRuleId());
+        // 컨텍스트 규칙이 없는 제스처는 "*" 규칙
+        assertEquals(anyRight.getId(), engine.resolve(SESSION, GestureType.RIGHT_CLICK).getRuleId());
+
+        engine.setContext(SESSION, "unknown");
+        assertEquals(any.getId(), engine.resolve(SESSION, GestureType.LEFT_CLICK).getRuleId());
+
+        engine.setContext(SESSION, null);
+        assertEquals(any.getId(), engine.resolve(SESSION, GestureType.LEFT_CLICK).getRuleId());
+    }
+
+    @Test
+    void contextSetBeforeItsRuleExistsPicksUpLaterRule() {
+        engine.setContext(SESSION, "editor");
+        MappingRule editor = engine.save(rule("editor-left", "left_click", "editor", 100));
+
+        assertEquals(editor.getId(), engine.resolve(SESSION, GestureType.LEFT_CLICK).getRuleId());
+    }
+
+    @Test
+    void saveAndDeleteRebuildOnlyAffectedColumns() {
+        MappingRule any = engine.save(rule("any-left", "left_click", null, 100));
+        MappingRule escape = engine.save(rule("escape", "escape", null, 100));
+        MappingRule override = engine.save(rule("override", "left_click", null, 1));
+        assertEquals(override.getId(), engine.resolve(SESSION, GestureType.LEFT_CLICK).getRuleId());
+
+        // 같은 id 로 갱신하면 새 액션으로 다시 컴파일
+        MappingRule updated = engine.save(new MappingRule(override.getId(), "override", "left_click", null,
+                "none", "", 1, 0L));
+        assertTrue(engine.resolve(SESSION, GestureType.LEFT_CLICK).isSuppressed());
+        assertEquals(updated.getId(), engine.resolve(SESSION, GestureType.LEFT_CLICK).getRuleId());
+
+        assertTrue(engine.delete(override.getId()));
+        assertEquals(any.getId(), engine.resolve(SESSION, GestureType.LEFT_CLICK).getRuleId());
+        assertEquals(escape.getId(), engine.resolve(SESSION, GestureType.ESCAPE).getRuleId());
+        assertEquals(2, engine.getRules().size());
+    }
+
+    @Test
+    void refreshPicksUpRulesChangedInStore() {
+        MappingRule external = store.save(rule("external", "scroll_up", null, 100));
+        assertNull(engine.resolve(SESSION, GestureType.SCROLL_UP));
+
+        engine.refresh();
+        assertEquals(external.getId(), engine.resolve(SESSION, GestureType.SCROLL_UP).getRuleId());
+
+        store.delete(external.getId());
+        engine.refresh();
+        assertNull(engine.resolve(SESSION, GestureType.SCROLL_UP));
+    }
+
+    @Test
+    void invalidRulesAreNotSaved() {
+        assertThrows(IllegalArgumentException.class, () -> engine.save(rule("bad", "wave", null, 100)));
+        assertThrows(IllegalArgumentException.class,
+                () -> engine.save(new MappingRule(null, "bad", "left_click", null, "launch", "calc", 100, 0L)));
+        assertTrue(store.loadActiveRules().isEmpty());
+    }
+
+    @Test
+    void clientContextNamesDoNotConsumeContextIds() {
+        for (int i = 0; i < MappingEngine.MAX_CONTEXTS * 2; i++) {
+            engine.setContext("client-" + i, "random-" + i);
+        }
+        MappingRule late = engine.save(rule("late", "left_click", "late", 100));
+
+        engine.setContext(SESSION, "late");
+        assertEquals(late.getId(), engine.resolve(SESSION, GestureType.LEFT_CLICK).getRuleId());
+    }
+
+    @Test
+    void rulesBeyondContextLimitFallBackToAnyRule() {
+        MappingRule any = engine.save(rule("any-left", "left_click", null, 100));
+        // "*" 가 ID 0 을 차지하므로 규칙 컨텍스트는 MAX_CONTEXTS - 1 개까지
+        for (int i = 1; i < MappingEngine.MAX_CONTEXTS; i++) {
+            engine.save(rule("ctx-" + i, "left_click", "ctx-" + i, 100));
+        }
+        engine.save(rule("overflow", "left_click", "overflow", 1));
+
+        engine.setContext(SESSION, "overflow");
+        assertEquals(any.getId(), engine.resolve(SESSION, GestureType.LEFT_CLICK).getRuleId());
+        engine.setContext(SESSION, "ctx-" + (MappingEngine.MAX_CONTEXTS - 1));
+        assertEquals("ctx-" + (MappingEngine.MAX_CONTEXTS - 1), engine.resolve(SESSION, GestureType.LEFT_CLICK).getName());
+    }
+
+    private static MappingRule rule(String name, String gesture, String context, int priority) {
+        return new MappingRule(null, name, gesture, context, "keystroke", "ESC", priority, 0L);
+    }
+}
@@ -0,0 +1,92 @@
+package com.gesture.backend.service;
+
+import com.gesture.backend.gesture.GestureType;
+import com.gesture.backend.metrics.GestureMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CooldownLimiterTest {
+
+    private static final int THREADS = 8;
+
+    @Test
+    void exactlyOneConcurrentCallerWinsPerWindow() throws Exception {
+        CooldownLimiter limiter = limiter(new MockEnvironment().withProperty("gesture.cooldown.default-ms", "60000"));
+
+        for (int round = 0; round < 50; round++) {
+            String sessionId = "s" + round;
+            CyclicBarrier barrier = new CyclicBarrier(THREADS);
+            CountDownLatch done = new CountDownLatch(THREADS);
+            AtomicInteger winners = new AtomicInteger();
+            for (int i = 0; i < THREADS; i++) {
+                new Thread(() -> {
+                    try {
+                        barrier.await();
+                        if (limiter.tryAcquire(sessionId, GestureType.LEFT_CLICK)) {
+                            winners.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    } finally {
+                        done.countDown();
+                    }
+                }).start();
+            }
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(1, winners.get(), "라운드 " + round);
+            assertFalse(limiter.tryAcquire(sessionId, GestureType.LEFT_CLICK));
+        }
+    }
+
+    @Test
+    void sessionsAndActionsAreIndependent() {
+        CooldownLimiter limiter = limiter(new MockEnvironment().withProperty("gesture.cooldown.default-ms", "60000"));
+
+        assertTrue(limiter.tryAcquire("s1", GestureType.LEFT_CLICK));
+        assertFalse(limiter.tryAcquire("s1", GestureType.LEFT_CLICK));
+        assertTrue(limiter.tryAcquire("s2", GestureType.LEFT_CLICK));
+        assertTrue(limiter.tryAcquire("s1", GestureType.RIGHT_CLICK));
+        assertFalse(limiter.tryAcquire("s2", GestureType.LEFT_CLICK));
+
+        // 세션이 끊기면 기록도 사라짐
+        limiter.removeSession("s1");
+        assertTrue(limiter.tryAcquire("s1", GestureType.LEFT_CLICK));
+    }
+
+    @Test
+    void perActionWindowsOverrideDefault() throws Exception {
+        CooldownLimiter limiter = limiter(new MockEnvironment()
+                .withProperty("gesture.cooldown.default-ms", "60000")
+                .withProperty("gesture.cooldown.windows.double_click", "200")
+                .withProperty("gesture.cooldown.windows.escape", "0"));
+
+        // 0 이면 제한 없음
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire("s1", GestureType.ESCAPE));
+        }
+
+        assertTrue(limiter.tryAcquire("s1", GestureType.DOUBLE_CLICK));
+        assertTrue(limiter.tryAcquire("s1", GestureType.LEFT_CLICK));
+        assertFalse(limiter.tryAcquire("s1", GestureType.DOUBLE_CLICK));
+
+        Thread.sleep(300);
+
+        assertTrue(limiter.tryAcquire("s1", GestureType.DOUBLE_CLICK));
+        assertFalse(limiter.tryAcquire("s1", GestureType.LEFT_CLICK));
+    }
+
+    private static CooldownLimiter limiter(MockEnvironment environment) {
+        return new CooldownLimiter(new GestureMetrics(new SimpleMeterRegistry()), environment);
+    }
+}
@@ -0,0 +1,59 @@
+package com.gesture.backend.service;
+
+import com.gesture.backend.dto.GestureDto;
+import com.gesture.backend.input.VirtualInputDevice;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class ScreenStateServiceTest {
+
+    private final VirtualInputDevice device = new VirtualInputDevice(16, 1280, 720);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private ScreenStateService screenStateService;
+
+    @AfterEach
+    void tearDown() {
+        if (screenStateService != null) {
+            screenStateService.shutdown();
+        }
+    }
+
+    @Test
+    void reportsCachedGeometry() {
+        screenStateService = new ScreenStateService(device, messagingTemplate, 0, 0);
+        screenStateService.start();
+
+        GestureDto.ScreenInfo info = screenStateService.getScreenInfo();
+        assertEquals(1280, info.getWidth());
+        assertEquals(720, info.getHeight());
+        assertEquals(1, info.getMonitors().size());
+        assertFalse(screenStateService.refresh());
+    }
+
+    @Test
+    void keepsSamplingPointerWhenPublishingIsOff() throws Exception {
+        screenStateService = new ScreenStateService(device, messagingTemplate, 0, 0);
+        screenStateService.start();
+
+        device.mouseMove(100, 200);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (screenStateService.getPointer() != PackedPoint.pack(100, 200)) {
+            assertTrue(System.nanoTime() < deadline, "포인터 캐시가 갱신되지 않음");
+            Thread.sleep(10);
+        }
+        GestureDto.ScreenInfo info = screenStateService.getScreenInfo();
+        assertEquals(100, info.getCurrentMouseX());
+        assertEquals(200, info.getCurrentMouseY());
+        verifyNoInteractions(messagingTemplate);
+    }
+}
@@ -0,0 +1,44 @@
+package com.gesture.backend.telemetry;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class TelemetryEventTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void wireNamePayload() throws Exception {
+        TelemetryEvent event = new TelemetryEvent("s1", "gesture_recognized", "left_click", 15, true);
+
+        assertEquals("{\"gesture\":\"left_click\",\"latency_ms\":15,\"success\":true}",
+                event.payloadJson(new StringBuilder()));
+    }
+
+    @Test
+    void templateNameWithQuotesIsEscaped() throws Exception {
+        // 동적 템플릿 이름은 사용자가 자유롭게 정함
+        String name = "내 \"동그라미\" \\ 제스처\n\t\u0001";
+        TelemetryEvent event = new TelemetryEvent("s1", "gesture_recognized", name, TelemetryEvent.NO_LATENCY, true);
+
+        JsonNode payload = objectMapper.readTree(event.payloadJson(new StringBuilder()));
+
+        assertEquals(name, payload.get("gesture").asText());
+        assertFalse(payload.has("latency_ms"));
+        assertEquals(true, payload.get("success").asBoolean());
+    }
+
+    @Test
+    void bufferIsReusedBetweenEvents() throws Exception {
+        StringBuilder buffer = new StringBuilder();
+        new TelemetryEvent("s1", "gesture_recognized", "a\"b", 1, true).payloadJson(buffer);
+
+        String second = new TelemetryEvent("s1", "session", null, TelemetryEvent.NO_LATENCY, false).payloadJson(buffer);
+
+        assertEquals("{\"success\":false}", second);
+    }
+}
@@ -0,0 +1,164 @@
+package com.gesture.backend.telemetry;
+
+import com.gesture.backend.metrics.GestureMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * H2 에 실제로 기록하는 텔레메트리 파이프라인 테스트 (payload 캐스트 식은 "?")
+ */
+class TelemetryServiceTest {
+
+    private EmbeddedDatabase database;
+    private CountingJdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry registry;
+    private TelemetryService telemetryService;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new CountingJdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE telemetry (id BIGINT AUTO_INCREMENT PRIMARY KEY, session_id VARCHAR(255), "
+                + "event_type VARCHAR(50) NOT NULL, payload VARCHAR(1024), timestamp TIMESTAMP)");
+        registry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (telemetryService != null) {
+            telemetryService.shutdown();
+        }
+        database.shutdown();
+    }
+
+    @Test
+    void flushesFullBatchesAsMultiRowInserts() throws Exception {
+        start(64, 5, 60_000);
+
+        for (int i = 0; i < 12; i++) {
+            telemetryService.record("s1", "gesture", "left_click", i, true);
+        }
+
+        awaitTrue(() -> rows() == 10);
+        assertEquals(2, jdbcTemplate.statements.get());
+        // 나머지 2건은 배치가 차지 않았고 주기도 지나지 않아 대기
+        Thread.sleep(100);
+        assertEquals(10, rows());
+
+        telemetryService.shutdown();
+        assertEquals(12, rows());
+        assertEquals(3, jdbcTemplate.statements.get());
+        assertEquals(12.0, registry.get("gesture.telemetry.written").functionCounter().count());
+    }
+
+    @Test
+    void flushesPartialBatchAfterInterval() throws Exception {
+        start(64, 100, 50);
+
+        telemetryService.record("s1", "gesture", "left_click", 12, true);
+        telemetryService.record("s1", "gesture", "right_click", TelemetryEvent.NO_LATENCY, false);
+        telemetryService.record("s2", "session", null, TelemetryEvent.NO_LATENCY, true);
+
+        awaitTrue(() -> rows() == 3);
+        assertEquals(1, jdbcTemplate.statements.get());
+        List<String> payloads = jdbcTemplate.queryForList("SELECT payload FROM telemetry ORDER BY id", String.class);
+        assertEquals("{\"gesture\":\"left_click\",\"latency_ms\":12,\"success\":true}", payloads.get(0));
+        assertEquals("{\"gesture\":\"right_click\",\"success\":false}", payloads.get(1));
+        assertEquals("{\"success\":true}", payloads.get(2));
+    }
+
+    @Test
+    void dropsOldestEventsWhenBufferIsFull() throws Exception {
+        // 첫 배치 기록을 붙잡아 두는 동안 용량 8 버퍼에 20건을 넣는다
+        jdbcTemplate.blockFirstStatement();
+        start(8, 1, 60_000);
+
+        telemetryService.record("s1", "gesture", null, 0, true);
+        assertTrue(jdbcTemplate.firstStatementEntered.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i <= 20; i++) {
+            telemetryService.record("s1", "gesture", null, i, true);
+        }
+        jdbcTemplate.releaseFirstStatement.countDown();
+
+        awaitTrue(() -> rows() == 9);
+        List<String> payloads = jdbcTemplate.queryForList("SELECT payload FROM telemetry ORDER BY id", String.class);
+        assertEquals("{\"latency_ms\":0,\"success\":true}", payloads.get(0));
+        // 가장 오래된 12건 (1~12) 이 버려지고 최근 8건만 남음
+        assertEquals("{\"latency_ms\":13,\"success\":true}", payloads.get(1));
+        assertEquals("{\"latency_ms\":20,\"success\":true}", payloads.get(8));
+        assertEquals(12.0, registry.get("gesture.telemetry.dropped").functionCounter().count());
+    }
+
+    private void start(int bufferSize, int flushSize, long flushIntervalMs) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("jdbcTemplate", jdbcTemplate);
+        telemetryService = new TelemetryService(beanFactory.getBeanProvider(JdbcTemplate.class),
+                new GestureMetrics(registry), true, bufferSize, flushSize, flushIntervalMs, "telemetry", "?");
+        telemetryService.start();
+        assertTrue(telemetryService.isEnabled());
+    }
+
+    private int rows() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM telemetry", Integer.class);
+        return count != null ? count : 0;
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "제한 시간 안에 조건을 만족하지 못함");
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * INSERT 문 수를 세고, 필요하면 첫 INSERT 를 붙잡아 두는 JdbcTemplate
+     */
+    private static final class CountingJdbcTemplate extends JdbcTemplate {
+        private final AtomicInteger statements = new AtomicInteger();
+        private final CountDownLatch firstStatementEntered = new CountDownLatch(1);
+        private final CountDownLatch releaseFirstStatement = new CountDownLatch(1);
+        private volatile boolean blockFirst;
+
+        private CountingJdbcTemplate(EmbeddedDatabase database) {
+            super(database);
+        }
+
+        void blockFirstStatement() {
+            blockFirst = true;
+        }
+
+        @Override
+        public int update(String sql, PreparedStatementSetter pss) {
+            if (statements.getAndIncrement() == 0 && blockFirst) {
+                firstStatementEntered.countDown();
+                try {
+                    releaseFirstStatement.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return super.update(sql, pss);
+        }
+    }
+}
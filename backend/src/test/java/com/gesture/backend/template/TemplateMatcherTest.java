@@ -0,0 +1,200 @@
+package com.gesture.backend.template;
+
+import com.gesture.backend.gesture.HandGeometry;
+import com.gesture.backend.metrics.GestureMetrics;
+import com.gesture.backend.protocol.LandmarkFrame;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TemplateMatcherTest {
+
+    private static final String SESSION = "s1";
+    private static final int CIRCLE_FRAMES = 30;
+    private static final long FRAME_MS = 20;
+    private static final int HISTORY = 256;
+
+    private final LandmarkFrame frame = new LandmarkFrame();
+    private TemplateLibrary library;
+    private TemplateMatcher matcher;
+    private long now = 10_000;
+    private int sequence;
+
+    @Test
+    void recordedTemplateMatchesItsOwnTrajectory() {
+        createMatcher(300, 500);
+        addSwipe();
+
+        matcher.startRecording(SESSION);
+        List<TemplateMatch> whileRecording = feedCircle(0);
+        GestureTemplate circle = matcher.stopRecording(SESSION, "circle", null, null);
+
+        assertTrue(whileRecording.isEmpty());
+        assertEquals(CIRCLE_FRAMES * FRAME_MS - FRAME_MS, circle.getDurationMs());
+        now += 1000;
+        List<TemplateMatch> matches = feedCircle(0);
+
+        assertEquals(1, matches.size());
+        assertSame(circle, matches.get(0).getTemplate());
+        assertTrue(matches.get(0).getDistance() <= circle.getThreshold());
+    }
+
+    @Test
+    void stopWithoutRecordingIsRejected() {
+        createMatcher(300, 500);
+
+        assertThrows(IllegalStateException.class, () -> matcher.stopRecording(SESSION, "circle", null, null));
+        matcher.match(SESSION, frame(0.5f, 0.5f));
+        assertThrows(IllegalStateException.class, () -> matcher.stopRecording(SESSION, "circle", null, null));
+    }
+
+    @Test
+    void windowSpansRingBufferWrap() {
+        createMatcher(300, 500);
+        // 정지한 손으로 링 버퍼를 거의 채워 기록과 매칭이 모두 256 경계를 넘게 함
+        feedStill(HISTORY - CIRCLE_FRAMES / 2);
+        matcher.startRecording(SESSION);
+        feedCircle(0);
+        GestureTemplate circle = matcher.stopRecording(SESSION, "circle", null, null);
+
+        assertEquals(CIRCLE_FRAMES * FRAME_MS - FRAME_MS, circle.getDurationMs());
+        feedStill(HISTORY - CIRCLE_FRAMES);
+        List<TemplateMatch> matches = feedCircle(0);
+
+        assertEquals(1, matches.size());
+        assertSame(circle, matches.get(0).getTemplate());
+    }
+
+    @Test
+    void gapLongerThanGapMsResetsTrajectory() {
+        createMatcher(100, 500);
+        recordCircle();
+
+        // 반 바퀴 뒤 손이 150ms 사라지면 앞 궤적은 버려져 한 바퀴가 완성되지 않음
+        List<TemplateMatch> matches = feedCircle(CIRCLE_FRAMES / 2, 150);
+
+        assertTrue(matches.isEmpty());
+    }
+
+    @Test
+    void gapWithinGapMsKeepsTrajectory() {
+        createMatcher(1000, 500);
+        GestureTemplate circle = recordCircle();
+
+        List<TemplateMatch> matches = feedCircle(CIRCLE_FRAMES / 2, 150);
+
+        assertEquals(1, matches.size());
+        assertSame(circle, matches.get(0).getTemplate());
+    }
+
+    @Test
+    void refractoryPeriodSuppressesFollowingMatches() {
+        createMatcher(300, 10_000);
+        recordCircle();
+
+        List<TemplateMatch> matches = new ArrayList<>();
+        for (int lap = 0; lap < 3; lap++) {
+            matches.addAll(feedCircle(0));
+        }
+
+        assertEquals(1, matches.size());
+    }
+
+    @Test
+    void matchesResumeAfterRefractoryPeriod() {
+        long refractoryMs = 200;
+        createMatcher(300, refractoryMs);
+        recordCircle();
+
+        List<Long> matchTimes = new ArrayList<>();
+        for (int lap = 0; lap < 3; lap++) {
+            for (int i = 0; i < CIRCLE_FRAMES; i++) {
+                if (matcher.match(SESSION, circleFrame(i)) != null) {
+                    matchTimes.add(now);
+                }
+                now += FRAME_MS;
+            }
+        }
+
+        assertTrue(matchTimes.size() >= 2, "매칭 " + matchTimes);
+        for (int i = 1; i < matchTimes.size(); i++) {
+            assertTrue(matchTimes.get(i) - matchTimes.get(i - 1) >= refractoryMs, "매칭 " + matchTimes);
+        }
+    }
+
+    private void createMatcher(long gapMs, long refractoryMs) {
+        library = new TemplateLibrary(512, 0.02f, 3);
+        matcher = new TemplateMatcher(library, new GestureMetrics(new SimpleMeterRegistry()), 0.08f, gapMs, refractoryMs);
+    }
+
+    private GestureTemplate recordCircle() {
+        matcher.startRecording(SESSION);
+        feedCircle(0);
+        GestureTemplate circle = matcher.stopRecording(SESSION, "circle", null, null);
+        now += 1000;
+        return circle;
+    }
+
+    private void addSwipe() {
+        float[] xs = new float[CIRCLE_FRAMES];
+        float[] ys = new float[CIRCLE_FRAMES];
+        long[] timestamps = new long[CIRCLE_FRAMES];
+        for (int i = 0; i < CIRCLE_FRAMES; i++) {
+            xs[i] = 0.2f + 0.6f * i / (CIRCLE_FRAMES - 1);
+            ys[i] = 0.5f;
+            timestamps[i] = i * FRAME_MS;
+        }
+        library.add("swipe", null, xs, ys, timestamps, CIRCLE_FRAMES, null);
+    }
+
+    private List<TemplateMatch> feedCircle(int gapAfter) {
+        return feedCircle(gapAfter, 0);
+    }
+
+    /**
+     * 한 바퀴 원을 그리며 매칭 결과를 모음 (gapAfter 번째 프레임 뒤에 gapMs 만큼 손이 사라짐)
+     */
+    private List<TemplateMatch> feedCircle(int gapAfter, long gapMs) {
+        List<TemplateMatch> matches = new ArrayList<>();
+        for (int i = 0; i < CIRCLE_FRAMES; i++) {
+            if (i == gapAfter && gapAfter > 0) {
+                now += gapMs;
+            }
+            TemplateMatch match = matcher.match(SESSION, circleFrame(i));
+            if (match != null) {
+                matches.add(match);
+            }
+            now += FRAME_MS;
+        }
+        return matches;
+    }
+
+    private void feedStill(int count) {
+        for (int i = 0; i < count; i++) {
+            assertNull(matcher.match(SESSION, circleFrame(0)));
+            now += FRAME_MS;
+        }
+    }
+
+    private LandmarkFrame circleFrame(int i) {
+        double angle = 2 * Math.PI * i / (CIRCLE_FRAMES - 1);
+        return frame(0.5f + 0.15f * (float) Math.cos(angle), 0.5f + 0.15f * (float) Math.sin(angle));
+    }
+
+    private LandmarkFrame frame(float x, float y) {
+        frame.setHeader(1, sequence++, now, 1);
+        float[] points = frame.points();
+        int index = HandGeometry.MIDDLE_MCP * LandmarkFrame.FLOATS_PER_LANDMARK;
+        points[index] = x;
+        points[index + 1] = y;
+        return frame;
+    }
+}
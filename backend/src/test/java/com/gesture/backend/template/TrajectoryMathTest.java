@@ -0,0 +1,239 @@
+package com.gesture.backend.template;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.gesture.backend.template.TrajectoryMath.POINTS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrajectoryMathTest {
+
+    private static final int SAMPLES = 40;
+    private static final int BAND = 3;
+
+    private final float[] outX = new float[POINTS];
+    private final float[] outY = new float[POINTS];
+    private final float[] previous = new float[POINTS];
+    private final float[] current = new float[POINTS];
+
+    @Test
+    void resampleSpacesPointsEvenlyAlongPath() {
+        // 간격이 고르지 않은 직선 (0,0) -> (3,0) -> (3,4)
+        float[] x = {0f, 0.5f, 2.5f, 3f, 3f, 3f};
+        float[] y = {0f, 0f, 0f, 0f, 1f, 4f};
+
+        float length = TrajectoryMath.resample(x, y, x.length, outX, outY);
+
+        assertEquals(7f, length, 1e-5);
+        assertEquals(0f, outX[0]);
+        assertEquals(0f, outY[0]);
+        assertEquals(3f, outX[POINTS - 1], 1e-4);
+        assertEquals(4f, outY[POINTS - 1], 1e-4);
+        float interval = length / (POINTS - 1);
+        for (int i = 1; i < POINTS; i++) {
+            // 경로 위 누적 거리가 interval 의 정수배
+            assertEquals(i * interval, arcPosition(outX[i], outY[i]), 1e-4, "표본 " + i);
+        }
+    }
+
+    @Test
+    void resampleOfStationaryPathRepeatsFirstPoint() {
+        float[] x = {0.4f, 0.4f, 0.4f};
+        float[] y = {0.6f, 0.6f, 0.6f};
+
+        assertEquals(0f, TrajectoryMath.resample(x, y, x.length, outX, outY));
+        for (int i = 0; i < POINTS; i++) {
+            assertEquals(0.4f, outX[i]);
+            assertEquals(0.6f, outY[i]);
+        }
+    }
+
+    @Test
+    void normalizeCentersAndScalesByLargerExtent() {
+        for (int i = 0; i < POINTS; i++) {
+            outX[i] = 0.2f + 0.4f * i / (POINTS - 1);
+            outY[i] = 0.5f + 0.1f * i / (POINTS - 1);
+        }
+
+        float extent = TrajectoryMath.normalize(outX, outY);
+
+        assertEquals(0.4f, extent, 1e-6);
+        float sumX = 0f, sumY = 0f;
+        float minX = Float.MAX_VALUE, maxX = -Float.MAX_VALUE, minY = Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+        for (int i = 0; i < POINTS; i++) {
+            sumX += outX[i];
+            sumY += outY[i];
+            minX = Math.min(minX, outX[i]);
+            maxX = Math.max(maxX, outX[i]);
+            minY = Math.min(minY, outY[i]);
+            maxY = Math.max(maxY, outY[i]);
+        }
+        assertEquals(0f, sumX / POINTS, 1e-6);
+        assertEquals(0f, sumY / POINTS, 1e-6);
+        assertEquals(1f, maxX - minX, 1e-6);
+        // 가로세로 비율 유지
+        assertEquals(0.25f, maxY - minY, 1e-6);
+    }
+
+    @Test
+    void normalizeLeavesStationaryPointsUntouched() {
+        Arrays.fill(outX, 0.3f);
+        Arrays.fill(outY, 0.7f);
+
+        assertEquals(0f, TrajectoryMath.normalize(outX, outY));
+        assertEquals(0.3f, outX[5]);
+        assertEquals(0.7f, outY[5]);
+    }
+
+    @Test
+    void bandedDtwMatchesBruteForce() {
+        Random random = new Random(7);
+        for (int trial = 0; trial < 200; trial++) {
+            GestureTemplate template = randomTemplate(random, BAND);
+            randomQuery(random);
+
+            double expected = bruteForceDtw(outX, outY, template, BAND);
+            float actual = TrajectoryMath.dtw(outX, outY, template, BAND, TrajectoryMath.INFINITY, previous, current);
+
+            assertEquals(expected, actual, 1e-4 * Math.max(1, expected), "시도 " + trial);
+        }
+    }
+
+    @Test
+    void fullBandDtwMatchesUnconstrainedBruteForce() {
+        Random random = new Random(11);
+        for (int trial = 0; trial < 50; trial++) {
+            GestureTemplate template = randomTemplate(random, BAND);
+            randomQuery(random);
+
+            double expected = bruteForceDtw(outX, outY, template, POINTS);
+            float actual = TrajectoryMath.dtw(outX, outY, template, POINTS, TrajectoryMath.INFINITY, previous, current);
+
+            assertEquals(expected, actual, 1e-4 * Math.max(1, expected), "시도 " + trial);
+        }
+    }
+
+    @Test
+    void earlyAbandonOnlyRejectsDistancesAboveLimit() {
+        Random random = new Random(13);
+        for (int trial = 0; trial < 200; trial++) {
+            GestureTemplate template = randomTemplate(random, BAND);
+            randomQuery(random);
+            float exact = TrajectoryMath.dtw(outX, outY, template, BAND, TrajectoryMath.INFINITY, previous, current);
+
+            // limit 이 실제 거리 이상이면 중단 없이 같은 값
+            assertEquals(exact, TrajectoryMath.dtw(outX, outY, template, BAND, exact, previous, current), "시도 " + trial);
+            // limit 미만이면 limit 를 넘는 값(중단 시 INFINITY)으로 거절
+            float limit = exact * random.nextFloat() * 0.99f;
+            assertTrue(TrajectoryMath.dtw(outX, outY, template, BAND, limit, previous, current) > limit, "시도 " + trial);
+        }
+    }
+
+    @Test
+    void lowerBoundsNeverExceedDtw() {
+        Random random = new Random(17);
+        for (int trial = 0; trial < 500; trial++) {
+            GestureTemplate template = randomTemplate(random, BAND);
+            randomQuery(random);
+            float distance = TrajectoryMath.dtw(outX, outY, template, BAND, TrajectoryMath.INFINITY, previous, current);
+
+            float kim = TrajectoryMath.lowerBoundKim(outX, outY, template);
+            float keogh = TrajectoryMath.lowerBoundKeogh(outX, outY, template, TrajectoryMath.INFINITY);
+
+            assertTrue(kim <= distance * (1 + 1e-5f), "LB_Kim " + kim + " > " + distance);
+            assertTrue(keogh <= distance * (1 + 1e-5f), "LB_Keogh " + keogh + " > " + distance);
+        }
+    }
+
+    @Test
+    void identicalTrajectoryHasZeroDistance() {
+        Random random = new Random(19);
+        float[] xs = new float[SAMPLES];
+        float[] ys = new float[SAMPLES];
+        randomWalk(random, xs, ys);
+        GestureTemplate template = GestureTemplate.create("t", "t", null, xs, ys, timestamps(), SAMPLES, 0.02f, BAND);
+
+        TrajectoryMath.resample(xs, ys, SAMPLES, outX, outY);
+        TrajectoryMath.normalize(outX, outY);
+
+        assertEquals(0f, TrajectoryMath.lowerBoundKim(outX, outY, template));
+        assertEquals(0f, TrajectoryMath.lowerBoundKeogh(outX, outY, template, TrajectoryMath.INFINITY));
+        assertEquals(0f, TrajectoryMath.dtw(outX, outY, template, BAND, 0f, previous, current));
+    }
+
+    /**
+     * (0,0) -> (3,0) -> (3,4) 경로 위 점의 누적 거리
+     */
+    private static float arcPosition(float x, float y) {
+        return y < 1e-6f ? x : 3f + y;
+    }
+
+    /**
+     * 전체 행렬을 채우는 밴드 제한 DTW (|i - j| <= band)
+     */
+    private static double bruteForceDtw(float[] qx, float[] qy, GestureTemplate template, int band) {
+        double[][] cost = new double[POINTS][POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            for (int j = 0; j < POINTS; j++) {
+                if (Math.abs(i - j) > band) {
+                    cost[i][j] = Double.POSITIVE_INFINITY;
+                    continue;
+                }
+                double dx = qx[i] - template.x[j];
+                double dy = qy[i] - template.y[j];
+                double best;
+                if (i == 0 && j == 0) {
+                    best = 0;
+                } else {
+                    best = Double.POSITIVE_INFINITY;
+                    if (i > 0) {
+                        best = Math.min(best, cost[i - 1][j]);
+                    }
+                    if (j > 0) {
+                        best = Math.min(best, cost[i][j - 1]);
+                    }
+                    if (i > 0 && j > 0) {
+                        best = Math.min(best, cost[i - 1][j - 1]);
+                    }
+                }
+                cost[i][j] = dx * dx + dy * dy + best;
+            }
+        }
+        return cost[POINTS - 1][POINTS - 1];
+    }
+
+    private GestureTemplate randomTemplate(Random random, int band) {
+        float[] xs = new float[SAMPLES];
+        float[] ys = new float[SAMPLES];
+        randomWalk(random, xs, ys);
+        return GestureTemplate.create("t", "t", null, xs, ys, timestamps(), SAMPLES, 0.02f, band);
+    }
+
+    private void randomQuery(Random random) {
+        float[] xs = new float[SAMPLES];
+        float[] ys = new float[SAMPLES];
+        randomWalk(random, xs, ys);
+        TrajectoryMath.resample(xs, ys, SAMPLES, outX, outY);
+        TrajectoryMath.normalize(outX, outY);
+    }
+
+    private static void randomWalk(Random random, float[] xs, float[] ys) {
+        xs[0] = 0.5f;
+        ys[0] = 0.5f;
+        for (int i = 1; i < xs.length; i++) {
+            xs[i] = xs[i - 1] + (random.nextFloat() - 0.5f) * 0.05f;
+            ys[i] = ys[i - 1] + (random.nextFloat() - 0.5f) * 0.05f;
+        }
+    }
+
+    private static long[] timestamps() {
+        long[] timestamps = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            timestamps[i] = i * 33L;
+        }
+        return timestamps;
+    }
+}